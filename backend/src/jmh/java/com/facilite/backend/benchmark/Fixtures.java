@@ -0,0 +1,77 @@
+package com.facilite.backend.benchmark;
+
+import com.facilite.backend.model.Projeto;
+import com.facilite.backend.model.Responsavel;
+import com.facilite.backend.model.StatusProjeto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Dados sintéticos determinísticos para os benchmarks
+ */
+final class Fixtures {
+
+    private Fixtures() {
+    }
+
+    /**
+     * Projetos com datas espalhadas em torno de hoje, cobrindo todos os status
+     */
+    static Projeto[] projetosVariados(int quantidade, long semente) {
+        Random random = new Random(semente);
+        LocalDate hoje = LocalDate.now();
+        Projeto[] projetos = new Projeto[quantidade];
+        for (int i = 0; i < quantidade; i++) {
+            Projeto projeto = new Projeto();
+            projeto.setId((long) i + 1);
+            projeto.setNome("Projeto " + i);
+            projeto.setInicioPrevisto(hoje.plusDays(random.nextInt(-90, 91)));
+            projeto.setTerminoPrevisto(projeto.getInicioPrevisto().plusDays(random.nextInt(1, 120)));
+            if (random.nextBoolean()) {
+                projeto.setInicioRealizado(projeto.getInicioPrevisto().plusDays(random.nextInt(0, 5)));
+            }
+            if (random.nextInt(5) == 0) {
+                projeto.setTerminoRealizado(hoje.minusDays(random.nextInt(0, 30)));
+            }
+            projeto.setStatus(StatusProjeto.values()[random.nextInt(StatusProjeto.values().length)]);
+            projetos[i] = projeto;
+        }
+        return projetos;
+    }
+
+    /**
+     * Projetos com métricas preenchidas e um número fixo de responsáveis, compartilhados entre projetos
+     */
+    static Projeto[] projetosComResponsaveis(int quantidade, int responsaveisPorProjeto, long semente) {
+        Responsavel[] responsaveis = new Responsavel[Math.max(responsaveisPorProjeto * 10, 1)];
+        for (int i = 0; i < responsaveis.length; i++) {
+            Responsavel responsavel = new Responsavel();
+            responsavel.setId((long) i + 1);
+            responsavel.setNome("Responsável " + i);
+            responsavel.setEmail("responsavel" + i + "@exemplo.com");
+            responsavel.setCargo("Cargo " + (i % 7));
+            responsavel.setCreatedAt(LocalDateTime.now());
+            responsavel.setUpdatedAt(LocalDateTime.now());
+            responsaveis[i] = responsavel;
+        }
+
+        Random random = new Random(semente);
+        Projeto[] projetos = projetosVariados(quantidade, semente);
+        for (Projeto projeto : projetos) {
+            projeto.setDiasAtraso(random.nextInt(0, 30));
+            projeto.setPercentualTempoRestante(random.nextDouble(0, 100));
+            projeto.setCreatedAt(LocalDateTime.now());
+            projeto.setUpdatedAt(LocalDateTime.now());
+            Set<Responsavel> doProjeto = new HashSet<>();
+            while (doProjeto.size() < responsaveisPorProjeto) {
+                doProjeto.add(responsaveis[random.nextInt(responsaveis.length)]);
+            }
+            projeto.setResponsaveis(doProjeto);
+        }
+        return projetos;
+    }
+}
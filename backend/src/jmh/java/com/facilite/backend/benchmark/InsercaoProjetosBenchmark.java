@@ -0,0 +1,105 @@
+package com.facilite.backend.benchmark;
+
+import com.facilite.backend.BackendApplication;
+import com.facilite.backend.model.Projeto;
+import com.facilite.backend.model.Responsavel;
+import com.facilite.backend.repository.ProjetoRepository;
+import com.facilite.backend.repository.ResponsavelRepository;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Vazão de inserção de projetos com 3 responsáveis cada, via JPA, com e sem insert em lote.
+ * tamanhoLote=1 reproduz um round trip por linha (como no IDENTITY); 50 usa o batch habilitado
+ * pelas sequências pooled. Cada invocação grava e faz rollback, para o banco não crescer.
+ * H2 em memória por padrão; com -p perfil=default mede o PostgreSQL de application.properties.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class InsercaoProjetosBenchmark {
+
+    private static final int PROJETOS_POR_INVOCACAO = 500;
+
+    @Param({"1", "50"})
+    public int tamanhoLote;
+
+    @Param({"test"})
+    public String perfil;
+
+    private ConfigurableApplicationContext contexto;
+    private TransactionTemplate transactionTemplate;
+    private ProjetoRepository projetoRepository;
+    private EntityManager entityManager;
+    private List<Responsavel> responsaveis;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        contexto = new SpringApplicationBuilder(BackendApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles(perfil)
+                .run("--spring.jpa.properties.hibernate.jdbc.batch_size=" + tamanhoLote,
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.generate_statistics=false",
+                        "--logging.level.org.hibernate.SQL=WARN",
+                        "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+                        "--kanban.recalculo.habilitado=false");
+        transactionTemplate = contexto.getBean(TransactionTemplate.class);
+        projetoRepository = contexto.getBean(ProjetoRepository.class);
+        entityManager = contexto.getBean(EntityManager.class);
+
+        ResponsavelRepository responsavelRepository = contexto.getBean(ResponsavelRepository.class);
+        responsaveis = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Responsavel responsavel = new Responsavel();
+            responsavel.setNome("Responsável Benchmark " + i);
+            responsavel.setEmail("benchmark." + System.nanoTime() + "." + i + "@exemplo.com");
+            responsaveis.add(responsavelRepository.save(responsavel));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        contexto.getBean(ResponsavelRepository.class).deleteAll(responsaveis);
+        contexto.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PROJETOS_POR_INVOCACAO)
+    public void inserirProjetosComResponsaveis() {
+        LocalDate hoje = LocalDate.now();
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < PROJETOS_POR_INVOCACAO; i++) {
+                Projeto projeto = new Projeto();
+                projeto.setNome("Projeto Benchmark " + i);
+                projeto.setInicioPrevisto(hoje.plusDays(1));
+                projeto.setTerminoPrevisto(hoje.plusDays(30));
+                projeto.setResponsaveis(new HashSet<>(responsaveis));
+                projetoRepository.save(projeto);
+            }
+            entityManager.flush();
+            entityManager.clear();
+            status.setRollbackOnly();
+        });
+    }
+}
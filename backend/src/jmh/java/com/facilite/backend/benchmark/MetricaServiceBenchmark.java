@@ -0,0 +1,129 @@
+package com.facilite.backend.benchmark;
+
+import com.facilite.backend.model.MetricasCalculadas;
+import com.facilite.backend.model.Projeto;
+import com.facilite.backend.model.StatusProjeto;
+import com.facilite.backend.service.impl.MetricaServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Cálculo das métricas e validações de transição de MetricaServiceImpl.
+ * Cada invocação percorre o mesmo conjunto de projetos variados, então as
+ * validações exercitam tanto o caminho válido quanto o que lança exceção.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MetricaServiceBenchmark {
+
+    private static final int QUANTIDADE = 1024;
+
+    private MetricaServiceImpl metricaService;
+    private Projeto[] projetos;
+    private List<Projeto> listaProjetos;
+
+    @Setup
+    public void setUp() {
+        metricaService = new MetricaServiceImpl();
+        projetos = Fixtures.projetosVariados(QUANTIDADE, 42L);
+        listaProjetos = Arrays.asList(projetos);
+    }
+
+    @Benchmark
+    public void calcularStatus(Blackhole bh) {
+        for (Projeto projeto : projetos) {
+            bh.consume(metricaService.calcularStatus(projeto));
+        }
+    }
+
+    @Benchmark
+    public void calcularDiasAtraso(Blackhole bh) {
+        for (Projeto projeto : projetos) {
+            bh.consume(metricaService.calcularDiasAtraso(projeto));
+        }
+    }
+
+    @Benchmark
+    public void calcularPercentualTempoRestante(Blackhole bh) {
+        for (Projeto projeto : projetos) {
+            bh.consume(metricaService.calcularPercentualTempoRestante(projeto));
+        }
+    }
+
+    /**
+     * As três métricas chamadas em sequência, cada uma lendo a data atual
+     */
+    @Benchmark
+    public void calcularTresMetricasIndividualmente(Blackhole bh) {
+        for (Projeto projeto : projetos) {
+            StatusProjeto status = metricaService.calcularStatus(projeto);
+            bh.consume(status);
+            bh.consume(metricaService.calcularDiasAtraso(projeto));
+            bh.consume(metricaService.calcularPercentualTempoRestante(projeto));
+        }
+    }
+
+    @Benchmark
+    public List<MetricasCalculadas> calcularMetricasEmLote() {
+        return metricaService.calcularMetricas(listaProjetos, LocalDate.now());
+    }
+
+    @Benchmark
+    public void validarTransicaoDeIniciadoParaAtrasado(Blackhole bh) {
+        validarTodos(bh, metricaService::validarTransicaoDeIniciadoParaAtrasado);
+    }
+
+    @Benchmark
+    public void validarTransicaoDeEmAndamentoParaAtrasado(Blackhole bh) {
+        validarTodos(bh, metricaService::validarTransicaoDeEmAndamentoParaAtrasado);
+    }
+
+    @Benchmark
+    public void validarTransicaoDeAtrasadoParaIniciado(Blackhole bh) {
+        validarTodos(bh, metricaService::validarTransicaoDeAtrasadoParaIniciado);
+    }
+
+    @Benchmark
+    public void validarTransicaoDeAtrasadoParaEmAndamento(Blackhole bh) {
+        validarTodos(bh, metricaService::validarTransicaoDeAtrasadoParaEmAndamento);
+    }
+
+    @Benchmark
+    public void validarTransicaoDeConcluidoParaAIniciar(Blackhole bh) {
+        validarTodos(bh, metricaService::validarTransicaoDeConcluidoParaAIniciar);
+    }
+
+    @Benchmark
+    public void validarTransicaoDeConcluidoParaAtrasado(Blackhole bh) {
+        validarTodos(bh, metricaService::validarTransicaoDeConcluidoParaAtrasado);
+    }
+
+    @Benchmark
+    public void validarNaoAtrasadoAposRemocao(Blackhole bh) {
+        validarTodos(bh, metricaService::validarNaoAtrasadoAposRemocao);
+    }
+
+    private void validarTodos(Blackhole bh, Consumer<Projeto> validacao) {
+        for (Projeto projeto : projetos) {
+            try {
+                validacao.accept(projeto);
+                bh.consume(true);
+            } catch (IllegalArgumentException e) {
+                bh.consume(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.facilite.backend.benchmark;
+
+import com.facilite.backend.dto.ProjetoResponse;
+import com.facilite.backend.mapper.ProjetoMapper;
+import com.facilite.backend.mapper.ResponsavelMapper;
+import com.facilite.backend.model.Projeto;
+import com.facilite.backend.service.impl.ResponsavelCacheServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ProjetoMapper.toResponseList por tamanho de lista e quantidade de responsáveis por projeto
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ProjetoMapperBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int quantidade;
+
+    @Param({"0", "2", "5"})
+    public int responsaveisPorProjeto;
+
+    private ProjetoMapper projetoMapper;
+    private List<Projeto> projetos;
+
+    @Setup
+    public void setUp() {
+        projetoMapper = new ProjetoMapper(
+                new ResponsavelCacheServiceImpl(new ResponsavelMapper(), new SimpleMeterRegistry(), 1000));
+        projetos = Arrays.asList(Fixtures.projetosComResponsaveis(quantidade, responsaveisPorProjeto, 42L));
+    }
+
+    @Benchmark
+    public List<ProjetoResponse> toResponseList() {
+        return projetoMapper.toResponseList(projetos);
+    }
+}
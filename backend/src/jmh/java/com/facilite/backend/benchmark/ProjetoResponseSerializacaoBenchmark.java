@@ -0,0 +1,55 @@
+package com.facilite.backend.benchmark;
+
+import com.facilite.backend.dto.ProjetoResponse;
+import com.facilite.backend.mapper.ProjetoMapper;
+import com.facilite.backend.mapper.ResponsavelMapper;
+import com.facilite.backend.service.impl.ResponsavelCacheServiceImpl;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialização Jackson de listas de ProjetoResponse, com o ObjectMapper
+ * configurado como o do Spring MVC (JavaTimeModule, datas em ISO-8601).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProjetoResponseSerializacaoBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    public int quantidade;
+
+    @Param({"0", "3"})
+    public int responsaveisPorProjeto;
+
+    private ObjectWriter writer;
+    private List<ProjetoResponse> respostas;
+
+    @Setup
+    public void setUp() {
+        writer = Jackson2ObjectMapperBuilder.json().build().writer();
+        ProjetoMapper projetoMapper = new ProjetoMapper(
+                new ResponsavelCacheServiceImpl(new ResponsavelMapper(), new SimpleMeterRegistry(), 1000));
+        respostas = projetoMapper.toResponseList(
+                Arrays.asList(Fixtures.projetosComResponsaveis(quantidade, responsaveisPorProjeto, 42L)));
+    }
+
+    @Benchmark
+    public byte[] serializarLista() throws JsonProcessingException {
+        return writer.writeValueAsBytes(respostas);
+    }
+}
@@ -0,0 +1,106 @@
+package com.facilite.backend.benchmark;
+
+import com.facilite.backend.model.Projeto;
+import com.facilite.backend.model.StatusProjeto;
+import com.facilite.backend.service.impl.MetricaServiceImpl;
+import com.facilite.backend.service.impl.TransicaoStatusServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TransicaoStatusServiceImpl.executarTransicao para os 12 pares de/para.
+ * A transição altera o projeto, então cada chamada trabalha sobre uma cópia
+ * do projeto de origem (o custo da cópia entra na medida).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TransicaoStatusBenchmark {
+
+    @Param({
+            "A_INICIAR>EM_ANDAMENTO", "A_INICIAR>ATRASADO", "A_INICIAR>CONCLUIDO",
+            "EM_ANDAMENTO>A_INICIAR", "EM_ANDAMENTO>ATRASADO", "EM_ANDAMENTO>CONCLUIDO",
+            "ATRASADO>A_INICIAR", "ATRASADO>EM_ANDAMENTO", "ATRASADO>CONCLUIDO",
+            "CONCLUIDO>A_INICIAR", "CONCLUIDO>EM_ANDAMENTO", "CONCLUIDO>ATRASADO"
+    })
+    public String transicao;
+
+    private TransicaoStatusServiceImpl transicaoStatusService;
+    private Projeto origem;
+    private StatusProjeto destino;
+
+    @Setup
+    public void setUp() {
+        transicaoStatusService = new TransicaoStatusServiceImpl(new MetricaServiceImpl());
+        String[] partes = transicao.split(">");
+        origem = projetoEm(StatusProjeto.valueOf(partes[0]));
+        destino = StatusProjeto.valueOf(partes[1]);
+    }
+
+    @Benchmark
+    public void executarTransicao(Blackhole bh) {
+        Projeto projeto = copiar(origem);
+        try {
+            transicaoStatusService.executarTransicao(projeto, destino);
+            bh.consume(projeto.getStatus());
+        } catch (IllegalArgumentException e) {
+            bh.consume(e);
+        }
+    }
+
+    /**
+     * Projeto típico de cada coluna do quadro
+     */
+    private static Projeto projetoEm(StatusProjeto status) {
+        LocalDate hoje = LocalDate.now();
+        Projeto projeto = new Projeto();
+        projeto.setId(1L);
+        projeto.setNome("Projeto Benchmark");
+        projeto.setStatus(status);
+        switch (status) {
+            case A_INICIAR -> {
+                projeto.setInicioPrevisto(hoje.plusDays(5));
+                projeto.setTerminoPrevisto(hoje.plusDays(30));
+            }
+            case EM_ANDAMENTO -> {
+                projeto.setInicioPrevisto(hoje.minusDays(10));
+                projeto.setTerminoPrevisto(hoje.plusDays(20));
+                projeto.setInicioRealizado(hoje.minusDays(10));
+            }
+            case ATRASADO -> {
+                projeto.setInicioPrevisto(hoje.minusDays(30));
+                projeto.setTerminoPrevisto(hoje.minusDays(5));
+                projeto.setInicioRealizado(hoje.minusDays(28));
+            }
+            case CONCLUIDO -> {
+                projeto.setInicioPrevisto(hoje.minusDays(30));
+                projeto.setTerminoPrevisto(hoje.plusDays(10));
+                projeto.setInicioRealizado(hoje.minusDays(30));
+                projeto.setTerminoRealizado(hoje.minusDays(1));
+            }
+        }
+        return projeto;
+    }
+
+    private static Projeto copiar(Projeto origem) {
+        Projeto projeto = new Projeto();
+        projeto.setId(origem.getId());
+        projeto.setNome(origem.getNome());
+        projeto.setStatus(origem.getStatus());
+        projeto.setInicioPrevisto(origem.getInicioPrevisto());
+        projeto.setTerminoPrevisto(origem.getTerminoPrevisto());
+        projeto.setInicioRealizado(origem.getInicioRealizado());
+        projeto.setTerminoRealizado(origem.getTerminoRealizado());
+        return projeto;
+    }
+}
@@ -0,0 +1,32 @@
+package com.facilite.backend.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Parâmetros do teste de carga, lidos de propriedades de sistema (-Dcarga.*)
+ *
+ * @param perfil        perfil Spring da aplicação: "test" (H2 em memória) ou "default" (PostgreSQL local)
+ * @param projetos      projetos criados antes da medição (0 usa os dados já existentes)
+ * @param responsaveis  responsáveis criados antes da medição
+ * @param usuarios      clientes simultâneos, cada um em laço fechado (envia, espera resposta, repete)
+ * @param aquecimento   tempo de carga descartado antes da medição
+ * @param duracao       tempo de medição
+ * @param semente       semente do gerador aleatório (dados e sorteio das operações)
+ * @param saida         diretório dos relatórios
+ */
+record ConfiguracaoCarga(String perfil, int projetos, int responsaveis, int usuarios,
+                         Duration aquecimento, Duration duracao, long semente, Path saida) {
+
+    static ConfiguracaoCarga doSistema() {
+        return new ConfiguracaoCarga(
+                System.getProperty("carga.perfil", "test"),
+                Integer.getInteger("carga.projetos", 10_000),
+                Integer.getInteger("carga.responsaveis", 200),
+                Integer.getInteger("carga.usuarios", 32),
+                Duration.ofSeconds(Long.getLong("carga.aquecimento", 15L)),
+                Duration.ofSeconds(Long.getLong("carga.duracao", 60L)),
+                Long.getLong("carga.semente", 42L),
+                Path.of(System.getProperty("carga.saida", "target/loadtest")));
+    }
+}
@@ -0,0 +1,154 @@
+package com.facilite.backend.loadtest;
+
+import com.facilite.backend.dto.ProjetoRequest;
+import com.facilite.backend.model.Projeto;
+import com.facilite.backend.model.StatusProjeto;
+import com.facilite.backend.seed.GeradorDadosSinteticos;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * Operações da mistura de carga, com o peso relativo de cada uma.
+ * Predomínio de leitura (board e listas), como no uso do quadro Kanban.
+ */
+enum OperacaoCarga {
+
+    BOARD(25) {
+        @Override
+        HttpRequest.Builder requisicao(Contexto contexto, SplittableRandom random) {
+            return get(contexto, "/api/projetos/board?limite=20");
+        }
+    },
+    COLUNA_BOARD(5) {
+        @Override
+        HttpRequest.Builder requisicao(Contexto contexto, SplittableRandom random) {
+            return get(contexto, "/api/projetos/board/" + statusAleatorio(random) + "?limite=20");
+        }
+    },
+    LISTA_PAGINADA(20) {
+        @Override
+        HttpRequest.Builder requisicao(Contexto contexto, SplittableRandom random) {
+            int paginas = Math.max(1, contexto.idsProjetos().length / 20);
+            return get(contexto, "/api/projetos/paginado?size=20&sort=nome&page=" + random.nextInt(paginas));
+        }
+    },
+    LISTA_CURSOR(5) {
+        @Override
+        HttpRequest.Builder requisicao(Contexto contexto, SplittableRandom random) {
+            return get(contexto, "/api/projetos/cursor?tamanho=20&ordenarPor=createdAt&direcao=DESC");
+        }
+    },
+    RESPONSAVEIS_PAGINADO(5) {
+        @Override
+        HttpRequest.Builder requisicao(Contexto contexto, SplittableRandom random) {
+            int paginas = Math.max(1, contexto.idsResponsaveis().length / 20);
+            return get(contexto, "/api/responsaveis/paginado?size=20&page=" + random.nextInt(paginas));
+        }
+    },
+    BUSCAR_POR_ID(10) {
+        @Override
+        HttpRequest.Builder requisicao(Contexto contexto, SplittableRandom random) {
+            return get(contexto, "/api/projetos/" + projetoAleatorio(contexto, random));
+        }
+    },
+    CRIAR(8) {
+        @Override
+        HttpRequest.Builder requisicao(Contexto contexto, SplittableRandom random) {
+            return HttpRequest.newBuilder(uri(contexto, "/api/projetos"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(corpoProjeto(contexto, random)));
+        }
+    },
+    ATUALIZAR(7) {
+        @Override
+        HttpRequest.Builder requisicao(Contexto contexto, SplittableRandom random) {
+            return HttpRequest.newBuilder(uri(contexto, "/api/projetos/" + projetoAleatorio(contexto, random)))
+                    .header("Content-Type", "application/json")
+                    .PUT(HttpRequest.BodyPublishers.ofString(corpoProjeto(contexto, random)));
+        }
+    },
+    TRANSICIONAR(15) {
+        @Override
+        HttpRequest.Builder requisicao(Contexto contexto, SplittableRandom random) {
+            String caminho = "/api/projetos/" + projetoAleatorio(contexto, random) + "/status/" + statusAleatorio(random);
+            return HttpRequest.newBuilder(uri(contexto, caminho))
+                    .method("PATCH", HttpRequest.BodyPublishers.noBody());
+        }
+    };
+
+    private static final OperacaoCarga[] SORTEIO = montarSorteio();
+
+    private final int peso;
+
+    OperacaoCarga(int peso) {
+        this.peso = peso;
+    }
+
+    abstract HttpRequest.Builder requisicao(Contexto contexto, SplittableRandom random);
+
+    static OperacaoCarga sortear(SplittableRandom random) {
+        return SORTEIO[random.nextInt(SORTEIO.length)];
+    }
+
+    /**
+     * Dados compartilhados pelos clientes: URL base e IDs existentes no início da medição
+     */
+    record Contexto(String baseUrl, long[] idsProjetos, long[] idsResponsaveis, ObjectMapper objectMapper) {
+    }
+
+    private static OperacaoCarga[] montarSorteio() {
+        int total = 0;
+        for (OperacaoCarga operacao : values()) {
+            total += operacao.peso;
+        }
+        OperacaoCarga[] sorteio = new OperacaoCarga[total];
+        int posicao = 0;
+        for (OperacaoCarga operacao : values()) {
+            for (int i = 0; i < operacao.peso; i++) {
+                sorteio[posicao++] = operacao;
+            }
+        }
+        return sorteio;
+    }
+
+    private static HttpRequest.Builder get(Contexto contexto, String caminho) {
+        return HttpRequest.newBuilder(uri(contexto, caminho)).GET();
+    }
+
+    private static URI uri(Contexto contexto, String caminho) {
+        return URI.create(contexto.baseUrl() + caminho);
+    }
+
+    private static StatusProjeto statusAleatorio(SplittableRandom random) {
+        return StatusProjeto.values()[random.nextInt(StatusProjeto.values().length)];
+    }
+
+    private static long projetoAleatorio(Contexto contexto, SplittableRandom random) {
+        return contexto.idsProjetos()[random.nextInt(contexto.idsProjetos().length)];
+    }
+
+    private static String corpoProjeto(Contexto contexto, SplittableRandom random) {
+        Projeto projeto = GeradorDadosSinteticos.projetoAleatorio(random, LocalDate.now(),
+                "Projeto Carga HTTP " + random.nextInt());
+        ProjetoRequest request = new ProjetoRequest();
+        request.setNome(projeto.getNome());
+        request.setInicioPrevisto(projeto.getInicioPrevisto());
+        request.setTerminoPrevisto(projeto.getTerminoPrevisto());
+        request.setInicioRealizado(projeto.getInicioRealizado());
+        request.setTerminoRealizado(projeto.getTerminoRealizado());
+        if (contexto.idsResponsaveis().length > 0) {
+            request.setResponsavelIds(Set.of(contexto.idsResponsaveis()[random.nextInt(contexto.idsResponsaveis().length)]));
+        }
+        try {
+            return contexto.objectMapper().writeValueAsString(request);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
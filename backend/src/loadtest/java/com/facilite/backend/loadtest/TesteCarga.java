@@ -0,0 +1,242 @@
+package com.facilite.backend.loadtest;
+
+import com.facilite.backend.BackendApplication;
+import com.facilite.backend.seed.GeradorDadosSinteticos;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Teste de carga HTTP de ProjetoController e ResponsavelController.
+ * <p>
+ * Sobe a aplicação em porta aleatória (H2 ou PostgreSQL local, conforme carga.perfil),
+ * popula o banco e mantém carga.usuarios clientes em laço fechado sorteando operações de
+ * {@link OperacaoCarga}. Após o aquecimento, registra a latência de cada operação em um
+ * HdrHistogram e, ao final, grava o resumo (resumo.json) e a distribuição de percentis de
+ * cada endpoint (arquivos .hgrm) em carga.saida.
+ * <p>
+ * Respostas 4xx são contadas como rejeitadas e não como erro: transições de status
+ * bloqueadas pelas regras de negócio fazem parte da mistura.
+ */
+public class TesteCarga {
+
+    // Latências registradas em microssegundos, até 60 s, com 3 dígitos significativos
+    private static final long LATENCIA_MAXIMA_US = TimeUnit.SECONDS.toMicros(60);
+
+    public static void main(String[] args) throws Exception {
+        ConfiguracaoCarga configuracao = ConfiguracaoCarga.doSistema();
+
+        // Passadas como argumentos de linha de comando para prevalecer sobre application.properties
+        String[] propriedades = {
+                "--server.port=0",
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.generate_statistics=false",
+                "--logging.level.org.hibernate.SQL=WARN",
+                "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+                "--kanban.recalculo.habilitado=false"
+        };
+        ConfigurableApplicationContext contexto = new SpringApplicationBuilder(BackendApplication.class)
+                .profiles(configuracao.perfil())
+                .run(concatenar(propriedades, args));
+
+        try {
+            executar(configuracao, contexto);
+        } finally {
+            contexto.close();
+        }
+    }
+
+    private static void executar(ConfiguracaoCarga configuracao, ConfigurableApplicationContext contexto)
+            throws Exception {
+        JdbcTemplate jdbcTemplate = contexto.getBean(JdbcTemplate.class);
+        if (configuracao.projetos() > 0) {
+            GeradorDadosSinteticos.Resultado resultado = contexto.getBean(GeradorDadosSinteticos.class)
+                    .gerar(configuracao.projetos(), configuracao.responsaveis(), configuracao.semente(), 1000);
+            System.out.printf("Banco populado com %d projetos, %d responsáveis e %d vínculos em %d ms%n",
+                    resultado.projetos(), resultado.responsaveis(), resultado.vinculos(), resultado.duracaoMs());
+        }
+
+        String porta = contexto.getEnvironment().getProperty("local.server.port");
+        OperacaoCarga.Contexto contextoCarga = new OperacaoCarga.Contexto(
+                "http://localhost:" + porta,
+                ids(jdbcTemplate, "SELECT id FROM projetos"),
+                ids(jdbcTemplate, "SELECT id FROM responsaveis"),
+                contexto.getBean(ObjectMapper.class).copy().disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS));
+        if (contextoCarga.idsProjetos().length == 0) {
+            throw new IllegalStateException("Nenhum projeto no banco: informe -Dcarga.projetos maior que zero");
+        }
+
+        Map<OperacaoCarga, Medicao> medicoes = new EnumMap<>(OperacaoCarga.class);
+        for (OperacaoCarga operacao : OperacaoCarga.values()) {
+            medicoes.put(operacao, new Medicao());
+        }
+
+        HttpClient cliente = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        long inicioMedicao = System.nanoTime() + configuracao.aquecimento().toNanos();
+        long fimMedicao = inicioMedicao + configuracao.duracao().toNanos();
+
+        System.out.printf("Executando %d clientes: %d s de aquecimento e %d s de medição%n",
+                configuracao.usuarios(), configuracao.aquecimento().toSeconds(), configuracao.duracao().toSeconds());
+
+        ExecutorService executor = Executors.newFixedThreadPool(configuracao.usuarios());
+        SplittableRandom raiz = new SplittableRandom(configuracao.semente());
+        for (int i = 0; i < configuracao.usuarios(); i++) {
+            SplittableRandom random = raiz.split();
+            executor.submit(() -> cliente(cliente, contextoCarga, random, medicoes, inicioMedicao, fimMedicao));
+        }
+        executor.shutdown();
+        executor.awaitTermination(configuracao.aquecimento().plus(configuracao.duracao()).toSeconds() + 60,
+                TimeUnit.SECONDS);
+
+        relatar(configuracao, medicoes, contexto.getBean(ObjectMapper.class));
+    }
+
+    private static void cliente(HttpClient cliente, OperacaoCarga.Contexto contexto, SplittableRandom random,
+                                Map<OperacaoCarga, Medicao> medicoes, long inicioMedicao, long fimMedicao) {
+        while (System.nanoTime() < fimMedicao) {
+            OperacaoCarga operacao = OperacaoCarga.sortear(random);
+            HttpRequest requisicao = operacao.requisicao(contexto, random)
+                    .timeout(Duration.ofSeconds(30))
+                    .build();
+
+            long inicio = System.nanoTime();
+            int status;
+            try {
+                status = cliente.send(requisicao, HttpResponse.BodyHandlers.discarding()).statusCode();
+            } catch (IOException e) {
+                status = -1;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            long fim = System.nanoTime();
+
+            if (inicio >= inicioMedicao && fim <= fimMedicao) {
+                medicoes.get(operacao).registrar(status, TimeUnit.NANOSECONDS.toMicros(fim - inicio));
+            }
+        }
+    }
+
+    private static void relatar(ConfiguracaoCarga configuracao, Map<OperacaoCarga, Medicao> medicoes,
+                                ObjectMapper objectMapper) throws IOException {
+        Files.createDirectories(configuracao.saida());
+        double segundos = configuracao.duracao().toMillis() / 1000.0;
+
+        Histogram total = new Histogram(LATENCIA_MAXIMA_US, 3);
+        List<Map<String, Object>> resumo = new ArrayList<>();
+
+        System.out.printf("%n%-22s %9s %9s %9s %10s %9s %9s %9s %9s %9s%n",
+                "Operação", "Total", "Rejeit.", "Erros", "Req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "Máx ms");
+        for (Map.Entry<OperacaoCarga, Medicao> entrada : medicoes.entrySet()) {
+            Medicao medicao = entrada.getValue();
+            Histogram histograma = medicao.histograma.copy();
+            total.add(histograma);
+            resumo.add(linhaResumo(entrada.getKey().name(), histograma, medicao, segundos));
+            imprimir(entrada.getKey().name(), histograma, medicao.rejeitadas.sum(), medicao.erros.sum(), segundos);
+
+            try (PrintStream arquivo = new PrintStream(
+                    configuracao.saida().resolve(entrada.getKey().name().toLowerCase() + ".hgrm").toFile())) {
+                histograma.outputPercentileDistribution(arquivo, 1000.0);
+            }
+        }
+        Medicao somaContadores = new Medicao();
+        medicoes.values().forEach(m -> {
+            somaContadores.rejeitadas.add(m.rejeitadas.sum());
+            somaContadores.erros.add(m.erros.sum());
+        });
+        imprimir("TOTAL", total, somaContadores.rejeitadas.sum(), somaContadores.erros.sum(), segundos);
+        resumo.add(linhaResumo("TOTAL", total, somaContadores, segundos));
+
+        Map<String, Object> relatorio = new LinkedHashMap<>();
+        relatorio.put("perfil", configuracao.perfil());
+        relatorio.put("projetos", configuracao.projetos());
+        relatorio.put("responsaveis", configuracao.responsaveis());
+        relatorio.put("usuarios", configuracao.usuarios());
+        relatorio.put("duracaoSegundos", configuracao.duracao().toSeconds());
+        relatorio.put("operacoes", resumo);
+        objectMapper.writerWithDefaultPrettyPrinter()
+                .writeValue(configuracao.saida().resolve("resumo.json").toFile(), relatorio);
+        System.out.printf("%nRelatórios gravados em %s%n", configuracao.saida().toAbsolutePath());
+    }
+
+    private static void imprimir(String nome, Histogram histograma, long rejeitadas, long erros, double segundos) {
+        System.out.printf("%-22s %9d %9d %9d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                nome, histograma.getTotalCount(), rejeitadas, erros, histograma.getTotalCount() / segundos,
+                ms(histograma, 50), ms(histograma, 90), ms(histograma, 99), ms(histograma, 99.9),
+                histograma.getMaxValue() / 1000.0);
+    }
+
+    private static Map<String, Object> linhaResumo(String nome, Histogram histograma, Medicao medicao, double segundos) {
+        Map<String, Object> linha = new LinkedHashMap<>();
+        linha.put("operacao", nome);
+        linha.put("total", histograma.getTotalCount());
+        linha.put("rejeitadas", medicao.rejeitadas.sum());
+        linha.put("erros", medicao.erros.sum());
+        linha.put("requisicoesPorSegundo", histograma.getTotalCount() / segundos);
+        linha.put("p50Ms", ms(histograma, 50));
+        linha.put("p90Ms", ms(histograma, 90));
+        linha.put("p99Ms", ms(histograma, 99));
+        linha.put("p999Ms", ms(histograma, 99.9));
+        linha.put("maxMs", histograma.getMaxValue() / 1000.0);
+        return linha;
+    }
+
+    private static double ms(Histogram histograma, double percentil) {
+        return histograma.getValueAtPercentile(percentil) / 1000.0;
+    }
+
+    private static String[] concatenar(String[] primeiros, String[] ultimos) {
+        String[] todos = Arrays.copyOf(primeiros, primeiros.length + ultimos.length);
+        System.arraycopy(ultimos, 0, todos, primeiros.length, ultimos.length);
+        return todos;
+    }
+
+    private static long[] ids(JdbcTemplate jdbcTemplate, String sql) {
+        return jdbcTemplate.queryForList(sql, Long.class).stream().mapToLong(Long::longValue).toArray();
+    }
+
+    /**
+     * Latências e contadores de uma operação, compartilhados entre os clientes
+     */
+    private static final class Medicao {
+        private final Histogram histograma = new ConcurrentHistogram(LATENCIA_MAXIMA_US, 3);
+        private final LongAdder rejeitadas = new LongAdder();
+        private final LongAdder erros = new LongAdder();
+
+        void registrar(int status, long latenciaMicros) {
+            histograma.recordValue(Math.min(latenciaMicros, LATENCIA_MAXIMA_US));
+            if (status >= 400 && status < 500) {
+                rejeitadas.increment();
+            } else if (status < 200 || status >= 500) {
+                erros.increment();
+            }
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.facilite.backend.config;
+
+import com.facilite.backend.config.FabricaRegioesCacheLocal.ConfiguracaoRegiao;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+/**
+ * Cache de segundo nível do Hibernate em memória (sem provedor JCache): regiões configuradas em
+ * kanban.cache.hibernate.regioes.{nome}.tamanho-maximo/ttl, com padrão em kanban.cache.hibernate.padrao.
+ * As estatísticas de cada região configurada são publicadas no Micrometer.
+ */
+@Configuration
+public class CacheHibernateConfig {
+
+    private final Map<String, ConfiguracaoRegiao> regioes;
+    private final FabricaRegioesCacheLocal fabricaRegioes;
+
+    public CacheHibernateConfig(Environment environment) {
+        Binder binder = Binder.get(environment);
+        ConfiguracaoRegiao padrao = new ConfiguracaoRegiao(
+                binder.bind("kanban.cache.hibernate.padrao.tamanho-maximo", Integer.class).orElse(1000),
+                binder.bind("kanban.cache.hibernate.padrao.ttl", Duration.class).orElse(Duration.ofHours(1)));
+        this.regioes = binder.bind("kanban.cache.hibernate.regioes",
+                Bindable.mapOf(String.class, ConfiguracaoRegiao.class)).orElse(Map.of());
+        this.fabricaRegioes = new FabricaRegioesCacheLocal(padrao, regioes);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer cacheHibernatePropertiesCustomizer() {
+        return properties -> properties.put(AvailableSettings.CACHE_REGION_FACTORY, fabricaRegioes);
+    }
+
+    @Bean
+    public MeterBinder cacheHibernateMetricas(EntityManagerFactory entityManagerFactory) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        return registry -> regioes.keySet().forEach(regiao -> {
+            contador(registry, statistics, regiao, "hit", CacheRegionStatistics::getHitCount);
+            contador(registry, statistics, regiao, "miss", CacheRegionStatistics::getMissCount);
+            FunctionCounter.builder("hibernate.second.level.cache.puts", statistics,
+                            s -> valor(s, regiao, CacheRegionStatistics::getPutCount))
+                    .tag("region", regiao)
+                    .description("Entradas gravadas na região do cache de segundo nível")
+                    .register(registry);
+            Gauge.builder("hibernate.second.level.cache.size", fabricaRegioes, f -> f.tamanho(regiao))
+                    .tag("region", regiao)
+                    .description("Entradas na região do cache de segundo nível")
+                    .register(registry);
+        });
+    }
+
+    private static void contador(MeterRegistry registry, Statistics statistics,
+                                 String regiao, String resultado, ToLongFunction<CacheRegionStatistics> leitura) {
+        FunctionCounter.builder("hibernate.second.level.cache.requests", statistics, s -> valor(s, regiao, leitura))
+                .tag("region", regiao)
+                .tag("result", resultado)
+                .description("Leituras da região do cache de segundo nível")
+                .register(registry);
+    }
+
+    /**
+     * Regiões de consulta só existem depois do primeiro uso; até lá a contagem é zero
+     */
+    private static double valor(Statistics statistics, String regiao, ToLongFunction<CacheRegionStatistics> leitura) {
+        CacheRegionStatistics estatisticas = statistics.getCacheRegionStatistics(regiao);
+        return estatisticas == null ? 0 : leitura.applyAsLong(estatisticas);
+    }
+}
@@ -0,0 +1,169 @@
+package com.facilite.backend.config;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.access.AccessType;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * RegionFactory do cache de segundo nível do Hibernate mantida na própria JVM: cada região é um
+ * LRU com tamanho máximo e tempo de vida configuráveis (kanban.cache.hibernate.*). A região de
+ * timestamps, usada para invalidar o cache de consultas, nunca expira nem despeja entradas.
+ */
+public class FabricaRegioesCacheLocal extends RegionFactoryTemplate {
+
+    public record ConfiguracaoRegiao(Integer tamanhoMaximo, Duration ttl) {
+    }
+
+    private final ConfiguracaoRegiao padrao;
+    private final Map<String, ConfiguracaoRegiao> regioes;
+    private final Map<String, Armazenamento> armazenamentos = new ConcurrentHashMap<>();
+
+    public FabricaRegioesCacheLocal(ConfiguracaoRegiao padrao, Map<String, ConfiguracaoRegiao> regioes) {
+        this.padrao = padrao;
+        this.regioes = Map.copyOf(regioes);
+    }
+
+    /**
+     * Quantidade de entradas na região, ou zero se ela ainda não foi criada
+     */
+    public int tamanho(String regiao) {
+        Armazenamento armazenamento = armazenamentos.get(regiao);
+        return armazenamento == null ? 0 : armazenamento.tamanho();
+    }
+
+    @Override
+    public AccessType getDefaultAccessType() {
+        return AccessType.READ_WRITE;
+    }
+
+    @Override
+    protected DomainDataStorageAccess createDomainDataStorageAccess(DomainDataRegionConfig regionConfig,
+                                                                    DomainDataRegionBuildingContext buildingContext) {
+        return criar(regionConfig.getRegionName(), configuracao(regionConfig.getRegionName()));
+    }
+
+    @Override
+    protected StorageAccess createQueryResultsRegionStorageAccess(String regionName,
+                                                                  SessionFactoryImplementor sessionFactory) {
+        return criar(regionName, configuracao(regionName));
+    }
+
+    @Override
+    protected StorageAccess createTimestampsRegionStorageAccess(String regionName,
+                                                                SessionFactoryImplementor sessionFactory) {
+        return criar(regionName, new ConfiguracaoRegiao(Integer.MAX_VALUE, Duration.ZERO));
+    }
+
+    @Override
+    protected void prepareForUse(SessionFactoryOptions settings, Map<String, Object> configValues) {
+    }
+
+    @Override
+    protected void releaseFromUse() {
+        armazenamentos.values().forEach(Armazenamento::release);
+        armazenamentos.clear();
+    }
+
+    private ConfiguracaoRegiao configuracao(String regiao) {
+        ConfiguracaoRegiao configurada = regioes.get(regiao);
+        if (configurada == null) {
+            return padrao;
+        }
+        return new ConfiguracaoRegiao(
+                configurada.tamanhoMaximo() != null ? configurada.tamanhoMaximo() : padrao.tamanhoMaximo(),
+                configurada.ttl() != null ? configurada.ttl() : padrao.ttl());
+    }
+
+    private Armazenamento criar(String regiao, ConfiguracaoRegiao configuracao) {
+        Armazenamento armazenamento = new Armazenamento(configuracao.tamanhoMaximo(), configuracao.ttl());
+        armazenamentos.put(regiao, armazenamento);
+        return armazenamento;
+    }
+
+    /**
+     * LRU por ordem de acesso; ttl zero desliga a expiração
+     */
+    static class Armazenamento implements DomainDataStorageAccess {
+
+        private record Entrada(Object valor, long expiraEm) {
+        }
+
+        private final long ttlNanos;
+        private final Map<Object, Entrada> entradas;
+
+        Armazenamento(int tamanhoMaximo, Duration ttl) {
+            this.ttlNanos = ttl.toNanos();
+            this.entradas = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Object, Entrada> maisAntiga) {
+                    return size() > tamanhoMaximo;
+                }
+            };
+        }
+
+        @Override
+        public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+            Entrada entrada = vigente(key);
+            return entrada == null ? null : entrada.valor();
+        }
+
+        @Override
+        public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+            synchronized (entradas) {
+                entradas.put(key, new Entrada(value, System.nanoTime() + ttlNanos));
+            }
+        }
+
+        @Override
+        public boolean contains(Object key) {
+            return vigente(key) != null;
+        }
+
+        @Override
+        public void evictData() {
+            synchronized (entradas) {
+                entradas.clear();
+            }
+        }
+
+        @Override
+        public void evictData(Object key) {
+            synchronized (entradas) {
+                entradas.remove(key);
+            }
+        }
+
+        @Override
+        public void release() {
+            evictData();
+        }
+
+        int tamanho() {
+            synchronized (entradas) {
+                return entradas.size();
+            }
+        }
+
+        private Entrada vigente(Object key) {
+            synchronized (entradas) {
+                Entrada entrada = entradas.get(key);
+                if (entrada != null && ttlNanos > 0 && entrada.expiraEm() - System.nanoTime() < 0) {
+                    entradas.remove(key);
+                    return null;
+                }
+                return entrada;
+            }
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.facilite.backend.controller;
+
+import com.facilite.backend.dto.SugestaoAutocompleteResponse;
+import com.facilite.backend.dto.TipoAutocomplete;
+import com.facilite.backend.service.AutocompleteService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/autocomplete")
+@Tag(name = "Autocomplete", description = "Sugestões de projetos e responsáveis enquanto o usuário digita")
+public class AutocompleteController {
+
+    private final AutocompleteService autocompleteService;
+
+    @GetMapping
+    @Operation(summary = "Sugerir projetos ou responsáveis",
+            description = "Cada palavra do termo deve iniciar uma palavra do nome (ou do email, para responsáveis); "
+                    + "não diferencia acentos nem maiúsculas e responde do índice em memória")
+    public ResponseEntity<List<SugestaoAutocompleteResponse>> sugerir(
+            @RequestParam String q,
+            @RequestParam String type,
+            @RequestParam(defaultValue = "10") int limite) {
+        return ResponseEntity.ok(autocompleteService.sugerir(q, TipoAutocomplete.de(type), limite));
+    }
+}
@@ -1,20 +1,43 @@
 package com.facilite.backend.controller;
 
+import com.facilite.backend.dto.AlteracoesProjetosResponse;
+import com.facilite.backend.dto.FormatoArquivo;
+import com.facilite.backend.dto.KanbanBoardResponse;
+import com.facilite.backend.dto.KanbanColunaResponse;
+import com.facilite.backend.dto.LoteProjetosRequest;
+import com.facilite.backend.dto.PaginaCursorResponse;
 import com.facilite.backend.dto.ProjetoRequest;
 import com.facilite.backend.dto.ProjetoResponse;
+import com.facilite.backend.dto.ResultadoImportacaoResponse;
+import com.facilite.backend.dto.ResultadoLoteResponse;
+import com.facilite.backend.dto.ResultadoTransicaoLoteResponse;
+import com.facilite.backend.dto.TransicaoLoteRequest;
 import com.facilite.backend.model.StatusProjeto;
+import com.facilite.backend.service.EventoQuadroService;
+import com.facilite.backend.service.ExportacaoProjetoService;
+import com.facilite.backend.service.ImportacaoProjetoService;
 import com.facilite.backend.service.ProjetoService;
+import com.facilite.backend.service.SincronizacaoProjetoService;
+import com.facilite.backend.util.VersaoETag;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -24,17 +47,25 @@ import java.util.List;
 public class ProjetoController {
 
     private final ProjetoService projetoService;
+    private final ExportacaoProjetoService exportacaoProjetoService;
+    private final ImportacaoProjetoService importacaoProjetoService;
+    private final EventoQuadroService eventoQuadroService;
+    private final SincronizacaoProjetoService sincronizacaoProjetoService;
 
     @GetMapping
     @Operation(summary = "Listar todos os projetos")
-    public ResponseEntity<List<ProjetoResponse>> listarProjetos() {
+    public ResponseEntity<List<ProjetoResponse>> listarProjetos(WebRequest webRequest) {
+        if (naoModificado(webRequest)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
         return ResponseEntity.ok(projetoService.listarTodos());
     }
 
     @GetMapping("/{id}")
     @Operation(summary = "Buscar projeto por ID")
     public ResponseEntity<ProjetoResponse> buscarProjeto(@PathVariable Long id) {
-        return ResponseEntity.ok(projetoService.buscarPorId(id));
+        ProjetoResponse response = projetoService.buscarPorId(id);
+        return comETag(response);
     }
     @PostMapping
     public ResponseEntity<ProjetoResponse> criarProjeto(@Valid @RequestBody ProjetoRequest request) {
@@ -43,11 +74,13 @@ public class ProjetoController {
     }
 
     @PutMapping("/{id}")
-    @Operation(summary = "Atualizar projeto existente")
+    @Operation(summary = "Atualizar projeto existente (If-Match opcional; 412 se a versão mudou)")
     public ResponseEntity<ProjetoResponse> atualizarProjeto(
             @PathVariable Long id,
-            @Valid @RequestBody ProjetoRequest projeto) {
-        return ResponseEntity.ok(projetoService.atualizarProjeto(id, projeto));
+            @Valid @RequestBody ProjetoRequest projeto,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        ProjetoResponse response = projetoService.atualizarProjeto(id, projeto, VersaoETag.versaoEsperada(ifMatch));
+        return comETag(response);
     }
 
     @DeleteMapping("/{id}")
@@ -60,23 +93,146 @@ public class ProjetoController {
     @GetMapping("/status/{status}")
     @Operation(summary = "Listar projetos por status")
     public ResponseEntity<List<ProjetoResponse>> listarPorStatus(
-            @PathVariable StatusProjeto status) {
+            @PathVariable StatusProjeto status,
+            WebRequest webRequest) {
+        if (naoModificado(webRequest)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
         return ResponseEntity.ok(projetoService.listarPorStatus(status));
     }
 
     @PatchMapping("/{id}/status/{novoStatus}")
-    @Operation(summary = "Transicionar status do projeto")
+    @Operation(summary = "Transicionar status do projeto (If-Match opcional; 412 se a versão mudou)")
     public ResponseEntity<ProjetoResponse> transicionarStatus(
             @PathVariable Long id,
-            @PathVariable StatusProjeto novoStatus) {
-        return ResponseEntity.ok(projetoService.transicionarStatus(id, novoStatus));
+            @PathVariable StatusProjeto novoStatus,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        ProjetoResponse response = projetoService.transicionarStatus(id, novoStatus, VersaoETag.versaoEsperada(ifMatch));
+        return comETag(response);
+    }
+
+    @PatchMapping("/status/{novoStatus}")
+    @Operation(summary = "Transicionar vários projetos para o mesmo status, com resultado por projeto")
+    public ResponseEntity<ResultadoTransicaoLoteResponse> transicionarStatusEmLote(
+            @PathVariable StatusProjeto novoStatus,
+            @Valid @RequestBody TransicaoLoteRequest request) {
+        return ResponseEntity.ok(projetoService.transicionarStatusEmLote(request, novoStatus));
     }
 
     @GetMapping("/paginado")
     @Operation(summary = "Listar projetos com paginação")
     public ResponseEntity<Page<ProjetoResponse>> listarProjetosPaginados(
-            @PageableDefault(size = 10, sort = "nome") Pageable pageable) {
+            @PageableDefault(size = 10, sort = "nome") Pageable pageable,
+            WebRequest webRequest) {
+        if (naoModificado(webRequest)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
         return ResponseEntity.ok(projetoService.listarPaginado(pageable));
     }
 
+    @GetMapping("/search")
+    @Operation(summary = "Buscar projetos por nome",
+            description = "Ordena por similaridade de trigramas; não diferencia acentos nem maiúsculas")
+    public ResponseEntity<Page<ProjetoResponse>> buscarProjetos(
+            @RequestParam String q,
+            @PageableDefault(size = 10) Pageable pageable) {
+        return ResponseEntity.ok(projetoService.buscarPorNome(q, pageable));
+    }
+
+    @GetMapping("/cursor")
+    @Operation(summary = "Listar projetos com paginação por cursor (keyset)")
+    public ResponseEntity<PaginaCursorResponse<ProjetoResponse>> listarProjetosPorCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int tamanho,
+            @RequestParam(defaultValue = "nome") String ordenarPor,
+            @RequestParam(defaultValue = "ASC") Sort.Direction direcao,
+            @RequestParam(defaultValue = "false") boolean incluirTotal,
+            WebRequest webRequest) {
+        if (naoModificado(webRequest)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        return ResponseEntity.ok(projetoService.listarPorCursor(cursor, tamanho, ordenarPor, direcao, incluirTotal));
+    }
+
+    @GetMapping("/board")
+    @Operation(summary = "Carregar quadro Kanban com total e primeira página de cada coluna")
+    public ResponseEntity<KanbanBoardResponse> carregarBoard(
+            @RequestParam(defaultValue = "20") int limite,
+            WebRequest webRequest) {
+        if (naoModificado(webRequest)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        return ResponseEntity.ok(projetoService.carregarBoard(limite));
+    }
+
+    @GetMapping("/board/{status}")
+    @Operation(summary = "Carregar próxima página de uma coluna do quadro Kanban")
+    public ResponseEntity<KanbanColunaResponse> carregarColuna(
+            @PathVariable StatusProjeto status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limite,
+            WebRequest webRequest) {
+        if (naoModificado(webRequest)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        return ResponseEntity.ok(projetoService.carregarColuna(status, cursor, limite));
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "Exportar todos os projetos em CSV ou NDJSON (resposta em streaming)")
+    public ResponseEntity<StreamingResponseBody> exportarProjetos(
+            @RequestParam(defaultValue = "csv") String format) {
+        FormatoArquivo formato = FormatoArquivo.de(format);
+        StreamingResponseBody corpo = saida -> exportacaoProjetoService.exportar(formato, saida);
+        return ResponseEntity.ok()
+                .contentType(formato.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"projetos." + formato.getExtensao() + "\"")
+                .body(corpo);
+    }
+
+    @GetMapping("/changes")
+    @Operation(summary = "Sincronização incremental: projetos alterados e IDs excluídos desde o token",
+            description = "Projetos vêm com status e métricas da view, como nas listagens. A seleção é pela "
+                    + "data de alteração gravada: mudanças de status ou métricas causadas só pela passagem "
+                    + "do tempo aparecem depois que o recálculo grava o projeto.")
+    public ResponseEntity<AlteracoesProjetosResponse> buscarAlteracoes(
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "500") int limite) {
+        return ResponseEntity.ok(sincronizacaoProjetoService.buscarAlteracoes(since, limite));
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Acompanhar alterações do quadro por Server-Sent Events (deltas após o commit)")
+    public SseEmitter acompanharQuadro() {
+        return eventoQuadroService.assinar();
+    }
+
+    @PostMapping("/batch")
+    @Operation(summary = "Executar lote de criações, atualizações e exclusões em uma única transação")
+    public ResponseEntity<ResultadoLoteResponse> executarLote(@Valid @RequestBody LoteProjetosRequest request) {
+        return ResponseEntity.ok(projetoService.executarLote(request));
+    }
+
+    @PostMapping("/import")
+    @Operation(summary = "Importar projetos de CSV ou NDJSON, com erros por linha")
+    public ResponseEntity<ResultadoImportacaoResponse> importarProjetos(
+            @RequestParam(defaultValue = "csv") String format,
+            InputStream corpo) throws IOException {
+        FormatoArquivo formato = FormatoArquivo.de(format);
+        return ResponseEntity.ok(importacaoProjetoService.importar(formato, corpo));
+    }
+
+    // A versão do projeto vira ETag; o cliente a devolve no If-Match de PUT e PATCH
+    private ResponseEntity<ProjetoResponse> comETag(ProjetoResponse response) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (response.getVersao() != null) {
+            builder.eTag(VersaoETag.formatar(response.getVersao()));
+        }
+        return builder.body(response);
+    }
+
+    // Listagens respondem 304 sem consultar, mapear nem serializar quando o If-None-Match bate com a impressão atual
+    private boolean naoModificado(WebRequest webRequest) {
+        return webRequest.checkNotModified(VersaoETag.fraca(projetoService.impressaoColecao()));
+    }
 }
\ No newline at end of file
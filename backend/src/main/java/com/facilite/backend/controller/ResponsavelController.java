@@ -1,22 +1,32 @@
 package com.facilite.backend.controller;
 
 
+import com.facilite.backend.dto.PaginaCursorResponse;
 import com.facilite.backend.dto.ResponsavelRequest;
 import com.facilite.backend.dto.ResponsavelResponse;
+import com.facilite.backend.dto.ResponsavelUpsertRequest;
+import com.facilite.backend.dto.ResultadoUpsertResponsavel;
 import com.facilite.backend.service.ResponsavelService;
+import com.facilite.backend.util.VersaoETag;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Email;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
 @RestController
+@Validated
 @RequiredArgsConstructor
 @RequestMapping("/api/responsaveis")
 @Tag(name = "Responsáveis", description = "API para gerenciamento de responsáveis")
@@ -26,7 +36,10 @@ public class ResponsavelController {
 
     @GetMapping
     @Operation(summary = "Listar todos os responsáveis")
-    public ResponseEntity<List<ResponsavelResponse>> listarResponsaveis() {
+    public ResponseEntity<List<ResponsavelResponse>> listarResponsaveis(WebRequest webRequest) {
+        if (naoModificado(webRequest)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
         return ResponseEntity.ok(responsavelService.listarTodos());
     }
 
@@ -51,6 +64,17 @@ public class ResponsavelController {
         return ResponseEntity.ok(responsavelService.atualizarResponsavel(id, responsavel));
     }
 
+    @PutMapping("/by-email/{email}")
+    @Operation(summary = "Criar ou atualizar responsável pelo email",
+            description = "Um único statement no banco; responde 201 quando o responsável é criado e 200 quando é atualizado")
+    public ResponseEntity<ResponsavelResponse> upsertResponsavelPorEmail(
+            @PathVariable @Email(message = "Email deve ser válido") String email,
+            @Valid @RequestBody ResponsavelUpsertRequest responsavel) {
+        ResultadoUpsertResponsavel resultado = responsavelService.upsertPorEmail(email, responsavel);
+        HttpStatus status = resultado.isCriado() ? HttpStatus.CREATED : HttpStatus.OK;
+        return ResponseEntity.status(status).body(resultado.getResponsavel());
+    }
+
     @DeleteMapping("/{id}")
     @Operation(summary = "Excluir responsável")
     public ResponseEntity<Void> excluirResponsavel(@PathVariable Long id) {
@@ -61,7 +85,31 @@ public class ResponsavelController {
     @GetMapping("/paginado")
     @Operation(summary = "Listar responsáveis com paginação")
     public ResponseEntity<Page<ResponsavelResponse>> listarResponsaveisPaginados(
-            @PageableDefault(size = 10, sort = "nome") Pageable pageable) {
+            @PageableDefault(size = 10, sort = "nome") Pageable pageable,
+            WebRequest webRequest) {
+        if (naoModificado(webRequest)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
         return ResponseEntity.ok(responsavelService.listarPaginado(pageable));
     }
+
+    @GetMapping("/cursor")
+    @Operation(summary = "Listar responsáveis com paginação por cursor (keyset)")
+    public ResponseEntity<PaginaCursorResponse<ResponsavelResponse>> listarResponsaveisPorCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int tamanho,
+            @RequestParam(defaultValue = "nome") String ordenarPor,
+            @RequestParam(defaultValue = "ASC") Sort.Direction direcao,
+            @RequestParam(defaultValue = "false") boolean incluirTotal,
+            WebRequest webRequest) {
+        if (naoModificado(webRequest)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        return ResponseEntity.ok(responsavelService.listarPorCursor(cursor, tamanho, ordenarPor, direcao, incluirTotal));
+    }
+
+    // Listagens respondem 304 sem consultar, mapear nem serializar quando o If-None-Match bate com a impressão atual
+    private boolean naoModificado(WebRequest webRequest) {
+        return webRequest.checkNotModified(VersaoETag.fraca(responsavelService.impressaoColecao()));
+    }
 }
\ No newline at end of file
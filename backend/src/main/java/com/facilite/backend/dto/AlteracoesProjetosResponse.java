@@ -0,0 +1,27 @@
+package com.facilite.backend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Projetos criados ou alterados e IDs excluídos desde o token informado")
+public class AlteracoesProjetosResponse {
+
+    @Schema(description = "Projetos criados ou alterados, na ordem de updatedAt")
+    private List<ProjetoResponse> projetos;
+
+    @Schema(description = "IDs dos projetos excluídos")
+    private List<Long> excluidos;
+
+    @Schema(description = "Token a enviar em since na próxima chamada")
+    private String proximoToken;
+
+    @Schema(description = "Indica que há mais alterações além do limite; chame de novo com o próximo token")
+    private boolean temMais;
+}
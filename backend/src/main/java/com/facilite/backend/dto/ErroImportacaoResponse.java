@@ -0,0 +1,19 @@
+package com.facilite.backend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Linha rejeitada na importação de projetos")
+public class ErroImportacaoResponse {
+
+    @Schema(description = "Linha do arquivo (no CSV, a linha 1 é o cabeçalho)", example = "42")
+    private long linha;
+
+    @Schema(description = "Motivo da rejeição", example = "Nome é obrigatório")
+    private String mensagem;
+}
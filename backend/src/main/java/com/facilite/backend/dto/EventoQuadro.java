@@ -0,0 +1,61 @@
+package com.facilite.backend.dto;
+
+import com.facilite.backend.model.StatusProjeto;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Alteração do quadro enviada pelo stream SSE; só os campos do tipo do evento são preenchidos")
+public class EventoQuadro {
+
+    @Schema(description = "Tipo do evento", example = "PROJETO_TRANSICIONADO")
+    private TipoEventoQuadro tipo;
+
+    @Schema(description = "ID do projeto ou responsável afetado", example = "1")
+    private Long id;
+
+    @Schema(description = "Status antes da alteração, para ajustar o total da coluna de origem")
+    private StatusProjeto statusAnterior;
+
+    @Schema(description = "Projeto após a alteração")
+    private ProjetoResponse projeto;
+
+    @Schema(description = "Responsável após a alteração")
+    private ResponsavelResponse responsavel;
+
+    // Recebido de outra instância pelo barramento; não é repassado de volta
+    @JsonIgnore
+    @Schema(hidden = true)
+    private boolean remoto;
+
+    public static EventoQuadro projeto(TipoEventoQuadro tipo, StatusProjeto statusAnterior, ProjetoResponse projeto) {
+        return new EventoQuadro(tipo, projeto.getId(), statusAnterior, projeto, null, false);
+    }
+
+    public static EventoQuadro projetoExcluido(Long id, StatusProjeto statusAnterior) {
+        return new EventoQuadro(TipoEventoQuadro.PROJETO_EXCLUIDO, id, statusAnterior, null, null, false);
+    }
+
+    public static EventoQuadro responsavel(TipoEventoQuadro tipo, ResponsavelResponse responsavel) {
+        return new EventoQuadro(tipo, responsavel.getId(), null, null, responsavel, false);
+    }
+
+    public static EventoQuadro responsavelExcluido(Long id) {
+        return new EventoQuadro(TipoEventoQuadro.RESPONSAVEL_EXCLUIDO, id, null, null, null, false);
+    }
+
+    public static EventoQuadro resincronizar() {
+        return new EventoQuadro(TipoEventoQuadro.RESINCRONIZAR, null, null, null, null, false);
+    }
+
+    public EventoQuadro comoRemoto() {
+        return new EventoQuadro(tipo, id, statusAnterior, projeto, responsavel, true);
+    }
+}
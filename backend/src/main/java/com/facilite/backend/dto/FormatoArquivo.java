@@ -0,0 +1,29 @@
+package com.facilite.backend.dto;
+
+import lombok.Getter;
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+
+@Getter
+public enum FormatoArquivo {
+    CSV("csv", new MediaType("text", "csv", StandardCharsets.UTF_8)),
+    NDJSON("ndjson", MediaType.APPLICATION_NDJSON);
+
+    private final String extensao;
+    private final MediaType mediaType;
+
+    FormatoArquivo(String extensao, MediaType mediaType) {
+        this.extensao = extensao;
+        this.mediaType = mediaType;
+    }
+
+    public static FormatoArquivo de(String valor) {
+        for (FormatoArquivo formato : values()) {
+            if (formato.extensao.equalsIgnoreCase(valor)) {
+                return formato;
+            }
+        }
+        throw new IllegalArgumentException("Formato de arquivo inválido: " + valor + ". Use csv ou ndjson");
+    }
+}
@@ -0,0 +1,18 @@
+package com.facilite.backend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "DTO de resposta com as colunas do quadro Kanban")
+public class KanbanBoardResponse {
+
+    @Schema(description = "Colunas na ordem dos status do projeto")
+    private List<KanbanColunaResponse> colunas;
+}
@@ -0,0 +1,28 @@
+package com.facilite.backend.dto;
+
+import com.facilite.backend.model.StatusProjeto;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Coluna do quadro Kanban com a primeira página de cards")
+public class KanbanColunaResponse {
+
+    @Schema(description = "Status representado pela coluna", example = "EM_ANDAMENTO")
+    private StatusProjeto status;
+
+    @Schema(description = "Quantidade total de projetos no status", example = "1250")
+    private long total;
+
+    @Schema(description = "Cards da página atual, ordenados por nome e ID")
+    private List<ProjetoResponse> projetos;
+
+    @Schema(description = "Cursor para carregar a próxima página da coluna (nulo quando não há mais cards)")
+    private String proximoCursor;
+}
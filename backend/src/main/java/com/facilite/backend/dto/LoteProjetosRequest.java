@@ -0,0 +1,21 @@
+package com.facilite.backend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Schema(description = "Lote de operações sobre projetos executado em uma única transação")
+public class LoteProjetosRequest {
+
+    public static final int MAXIMO_OPERACOES = 1000;
+
+    @NotEmpty(message = "Informe ao menos uma operação")
+    @Size(max = MAXIMO_OPERACOES, message = "Máximo de " + MAXIMO_OPERACOES + " operações por lote")
+    @Valid
+    private List<OperacaoLoteRequest> operacoes;
+}
@@ -0,0 +1,22 @@
+package com.facilite.backend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+@Data
+@Schema(description = "Operação de criação, atualização ou exclusão dentro de um lote")
+public class OperacaoLoteRequest {
+
+    @NotNull(message = "Tipo da operação é obrigatório")
+    @Schema(description = "Tipo da operação", example = "ATUALIZAR")
+    private TipoOperacaoLote tipo;
+
+    @Schema(description = "ID do projeto (ATUALIZAR e EXCLUIR)", example = "1")
+    private Long id;
+
+    @Valid
+    @Schema(description = "Dados do projeto (CRIAR e ATUALIZAR)")
+    private ProjetoRequest projeto;
+}
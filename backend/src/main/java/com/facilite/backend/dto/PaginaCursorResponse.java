@@ -0,0 +1,24 @@
+package com.facilite.backend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Página obtida por cursor (keyset), sem contagem obrigatória")
+public class PaginaCursorResponse<T> {
+
+    @Schema(description = "Itens da página")
+    private List<T> conteudo;
+
+    @Schema(description = "Cursor para a próxima página (nulo quando não há mais itens)")
+    private String proximoCursor;
+
+    @Schema(description = "Total de registros, preenchido apenas quando incluirTotal=true")
+    private Long total;
+}
@@ -27,6 +27,7 @@ public class ProjetoResponse {
     private Double percentualTempoRestante;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long versao;
 
     // Construtores, Getters e Setters
     public ProjetoResponse() {}
@@ -76,4 +77,7 @@ public class ProjetoResponse {
 
     public LocalDateTime getUpdatedAt() { return updatedAt; }
     public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+
+    public Long getVersao() { return versao; }
+    public void setVersao(Long versao) { this.versao = versao; }
 }
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.facilite.backend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+
+@Data
+@Schema(description = "DTO de requisição para criar ou atualizar um responsável pelo email informado na URL")
+public class ResponsavelUpsertRequest {
+
+    @NotBlank(message = "Nome é obrigatório")
+    private String nome;
+
+    @Schema(description = "Cargo do usuário", example = "gerente de projeto")
+    private String cargo;
+}
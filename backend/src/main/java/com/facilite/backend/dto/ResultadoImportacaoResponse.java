@@ -0,0 +1,33 @@
+package com.facilite.backend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Resultado da importação de projetos")
+public class ResultadoImportacaoResponse {
+
+    @Schema(description = "Quantidade de registros lidos", example = "500000")
+    private long processados;
+
+    @Schema(description = "Quantidade de projetos inseridos", example = "499980")
+    private long importados;
+
+    @Schema(description = "Quantidade de projetos existentes atualizados pelo id", example = "0")
+    private long atualizados;
+
+    @Schema(description = "Quantidade de registros rejeitados", example = "20")
+    private long rejeitados;
+
+    @Schema(description = "Duração da importação em milissegundos", example = "42000")
+    private long duracaoMs;
+
+    @Schema(description = "Erros por linha (limitados a kanban.importacao.max-erros)")
+    private List<ErroImportacaoResponse> erros;
+}
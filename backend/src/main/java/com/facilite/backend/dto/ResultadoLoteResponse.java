@@ -0,0 +1,24 @@
+package com.facilite.backend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Resultado de um lote de operações sobre projetos")
+public class ResultadoLoteResponse {
+
+    @Schema(description = "Projetos criados, na ordem das operações")
+    private List<ProjetoResponse> criados;
+
+    @Schema(description = "Projetos atualizados, na ordem das operações")
+    private List<ProjetoResponse> atualizados;
+
+    @Schema(description = "IDs dos projetos excluídos")
+    private List<Long> excluidos;
+}
@@ -0,0 +1,27 @@
+package com.facilite.backend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Resultado de uma execução do recálculo de métricas dos projetos")
+public class ResultadoRecalculoResponse {
+
+    @Schema(description = "Início da execução")
+    private LocalDateTime iniciadoEm;
+
+    @Schema(description = "Quantidade de projetos com reavaliação vencida lidos", example = "120000")
+    private long escaneados;
+
+    @Schema(description = "Quantidade de projetos cujas métricas mudaram e foram gravadas", example = "3500")
+    private long atualizados;
+
+    @Schema(description = "Duração da execução em milissegundos", example = "5400")
+    private long duracaoMs;
+}
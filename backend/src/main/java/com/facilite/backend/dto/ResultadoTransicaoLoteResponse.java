@@ -0,0 +1,24 @@
+package com.facilite.backend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Resultado da transição de vários projetos para um mesmo status")
+public class ResultadoTransicaoLoteResponse {
+
+    @Schema(description = "Quantidade de projetos transicionados", example = "198")
+    private int sucessos;
+
+    @Schema(description = "Quantidade de projetos rejeitados", example = "2")
+    private int falhas;
+
+    @Schema(description = "Resultado por projeto, na ordem dos IDs informados")
+    private List<ResultadoTransicaoResponse> resultados;
+}
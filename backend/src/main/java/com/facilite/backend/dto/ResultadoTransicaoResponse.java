@@ -0,0 +1,33 @@
+package com.facilite.backend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Resultado da transição de um projeto dentro de um lote")
+public class ResultadoTransicaoResponse {
+
+    @Schema(description = "ID do projeto", example = "1")
+    private Long id;
+
+    @Schema(description = "Indica se a transição foi aplicada")
+    private boolean sucesso;
+
+    @Schema(description = "Projeto após a transição; nulo quando falhou")
+    private ProjetoResponse projeto;
+
+    @Schema(description = "Motivo da falha; nulo quando aplicada", example = "Transição de A_INICIAR para A_INICIAR não é permitida")
+    private String erro;
+
+    public static ResultadoTransicaoResponse sucesso(ProjetoResponse projeto) {
+        return new ResultadoTransicaoResponse(projeto.getId(), true, projeto, null);
+    }
+
+    public static ResultadoTransicaoResponse falha(Long id, String erro) {
+        return new ResultadoTransicaoResponse(id, false, null, erro);
+    }
+}
@@ -0,0 +1,16 @@
+package com.facilite.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Responsável gravado pelo upsert e se a linha foi inserida (true) ou atualizada/já estava igual (false)
+ */
+@Data
+@AllArgsConstructor
+public class ResultadoUpsertResponsavel {
+
+    private ResponsavelResponse responsavel;
+
+    private boolean criado;
+}
@@ -0,0 +1,27 @@
+package com.facilite.backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Sugestão de autocomplete; email só é preenchido para responsáveis")
+public class SugestaoAutocompleteResponse {
+
+    @Schema(description = "Tipo do item sugerido", example = "RESPONSAVEL")
+    private TipoAutocomplete tipo;
+
+    @Schema(description = "ID do projeto ou responsável", example = "1")
+    private Long id;
+
+    @Schema(description = "Nome do projeto ou responsável", example = "João Silva")
+    private String nome;
+
+    @Schema(description = "Email do responsável", example = "joao.silva@empresa.com")
+    private String email;
+}
@@ -0,0 +1,15 @@
+package com.facilite.backend.dto;
+
+public enum TipoAutocomplete {
+    PROJETO,
+    RESPONSAVEL;
+
+    public static TipoAutocomplete de(String valor) {
+        for (TipoAutocomplete tipo : values()) {
+            if (tipo.name().equalsIgnoreCase(valor)) {
+                return tipo;
+            }
+        }
+        throw new IllegalArgumentException("Tipo de autocomplete inválido: " + valor + ". Use projeto ou responsavel");
+    }
+}
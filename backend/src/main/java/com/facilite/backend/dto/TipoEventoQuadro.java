@@ -0,0 +1,13 @@
+package com.facilite.backend.dto;
+
+public enum TipoEventoQuadro {
+    PROJETO_CRIADO,
+    PROJETO_ATUALIZADO,
+    PROJETO_TRANSICIONADO,
+    PROJETO_EXCLUIDO,
+    RESPONSAVEL_CRIADO,
+    RESPONSAVEL_ATUALIZADO,
+    RESPONSAVEL_EXCLUIDO,
+    // Alterações em massa (importação, recálculo) ou fila do cliente cheia: recarregar o quadro
+    RESINCRONIZAR
+}
@@ -0,0 +1,7 @@
+package com.facilite.backend.dto;
+
+public enum TipoOperacaoLote {
+    CRIAR,
+    ATUALIZAR,
+    EXCLUIR
+}
@@ -0,0 +1,21 @@
+package com.facilite.backend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Schema(description = "Projetos a mover para um mesmo status (arrastar vários cards)")
+public class TransicaoLoteRequest {
+
+    public static final int MAXIMO_PROJETOS = 1000;
+
+    @NotEmpty(message = "Informe ao menos um projeto")
+    @Size(max = MAXIMO_PROJETOS, message = "Máximo de " + MAXIMO_PROJETOS + " projetos por transição")
+    @Schema(description = "IDs dos projetos", example = "[1, 2, 3]")
+    private List<@NotNull(message = "ID do projeto é obrigatório") Long> ids;
+}
@@ -0,0 +1,8 @@
+package com.facilite.backend.exception;
+
+public class VersaoConflitanteException extends RuntimeException {
+    public VersaoConflitanteException(Long id, Long versaoEsperada, Long versaoAtual) {
+        super("Projeto " + id + " foi alterado por outra requisição (versão esperada " + versaoEsperada
+                + ", atual " + versaoAtual + ")");
+    }
+}
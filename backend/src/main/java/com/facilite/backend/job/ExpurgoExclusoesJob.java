@@ -0,0 +1,24 @@
+package com.facilite.backend.job;
+
+import com.facilite.backend.service.SincronizacaoProjetoService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Expurgo diário de projetos_excluidos: sem ele a tabela só cresce, e clientes com token
+ * mais antigo que a retenção já são obrigados a recomeçar a sincronização.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "kanban.changes.expurgo.habilitado", havingValue = "true", matchIfMissing = true)
+public class ExpurgoExclusoesJob {
+
+    private final SincronizacaoProjetoService sincronizacaoProjetoService;
+
+    @Scheduled(cron = "${kanban.changes.expurgo.cron:0 35 0 * * *}", zone = "${kanban.changes.expurgo.zona:America/Sao_Paulo}")
+    public void executar() {
+        sincronizacaoProjetoService.expurgarExclusoes();
+    }
+}
@@ -0,0 +1,31 @@
+package com.facilite.backend.job;
+
+import com.facilite.backend.dto.ResultadoRecalculoResponse;
+import com.facilite.backend.service.RecalculoMetricasService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Expõe em /actuator/recalculo o resultado da última execução do recálculo de métricas
+ * e permite disparar uma execução manual (POST).
+ */
+@Component
+@Endpoint(id = "recalculo")
+@RequiredArgsConstructor
+public class RecalculoMetricasEndpoint {
+
+    private final RecalculoMetricasService recalculoMetricasService;
+
+    @ReadOperation
+    public ResultadoRecalculoResponse ultimaExecucao() {
+        return recalculoMetricasService.ultimaExecucao().orElse(null);
+    }
+
+    @WriteOperation
+    public ResultadoRecalculoResponse executar() {
+        return recalculoMetricasService.recalcular();
+    }
+}
@@ -0,0 +1,24 @@
+package com.facilite.backend.job;
+
+import com.facilite.backend.service.RecalculoMetricasService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Virada diária: projetos que não sofreram escrita também precisam mudar de status
+ * (ex.: passar para ATRASADO) e ter o percentual de tempo restante atualizado.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "kanban.recalculo.habilitado", havingValue = "true", matchIfMissing = true)
+public class RecalculoMetricasJob {
+
+    private final RecalculoMetricasService recalculoMetricasService;
+
+    @Scheduled(cron = "${kanban.recalculo.cron:0 5 0 * * *}", zone = "${kanban.recalculo.zona:America/Sao_Paulo}")
+    public void executar() {
+        recalculoMetricasService.recalcular();
+    }
+}
@@ -3,8 +3,11 @@ package com.facilite.backend.mapper;
 import com.facilite.backend.dto.ProjetoRequest;
 import com.facilite.backend.dto.ProjetoResponse;
 import com.facilite.backend.dto.ResponsavelResponse;
+import com.facilite.backend.model.DadosProjeto;
 import com.facilite.backend.model.Projeto;
+import com.facilite.backend.model.ProjetoMetricas;
 import com.facilite.backend.model.Responsavel;
+import com.facilite.backend.service.ResponsavelCacheService;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -14,10 +17,11 @@ import java.util.stream.Collectors;
 @Component
 public class ProjetoMapper {
 
-    private final ResponsavelMapper responsavelMapper;
+    // Responsáveis se repetem entre milhares de projetos: a conversão sai do cache por ID
+    private final ResponsavelCacheService responsavelCacheService;
 
-    public ProjetoMapper(ResponsavelMapper responsavelMapper) {
-        this.responsavelMapper = responsavelMapper;
+    public ProjetoMapper(ResponsavelCacheService responsavelCacheService) {
+        this.responsavelCacheService = responsavelCacheService;
     }
 
     /**
@@ -52,6 +56,17 @@ public class ProjetoMapper {
      * Converte Entidade para Response
      */
     public ProjetoResponse toResponse(Projeto projeto) {
+        return montarResponse(projeto);
+    }
+
+    /**
+     * Converte projeto lido da view de métricas para Response
+     */
+    public ProjetoResponse toResponse(ProjetoMetricas projeto) {
+        return montarResponse(projeto);
+    }
+
+    private ProjetoResponse montarResponse(DadosProjeto projeto) {
         if (projeto == null) {
             return null;
         }
@@ -68,12 +83,13 @@ public class ProjetoMapper {
         response.setPercentualTempoRestante(projeto.getPercentualTempoRestante());
         response.setCreatedAt(projeto.getCreatedAt());
         response.setUpdatedAt(projeto.getUpdatedAt());
+        response.setVersao(projeto.getVersao());
 
         // Mapear responsáveis
         if (projeto.getResponsaveis() != null) {
             Set<ResponsavelResponse> responsaveisResponse = projeto.getResponsaveis()
                     .stream()
-                    .map(responsavelMapper::toResponse)
+                    .map(responsavelCacheService::obter)
                     .collect(Collectors.toSet());
             response.setResponsaveis(responsaveisResponse);
         }
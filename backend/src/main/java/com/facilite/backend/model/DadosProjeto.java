@@ -0,0 +1,38 @@
+package com.facilite.backend.model;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * Campos de projeto devolvidos pela API, comuns à entidade gravável {@link Projeto} e à
+ * leitura pela view de métricas {@link ProjetoMetricas}
+ */
+public interface DadosProjeto {
+
+    Long getId();
+
+    String getNome();
+
+    StatusProjeto getStatus();
+
+    Set<Responsavel> getResponsaveis();
+
+    LocalDate getInicioPrevisto();
+
+    LocalDate getTerminoPrevisto();
+
+    LocalDate getInicioRealizado();
+
+    LocalDate getTerminoRealizado();
+
+    Integer getDiasAtraso();
+
+    Double getPercentualTempoRestante();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+
+    Long getVersao();
+}
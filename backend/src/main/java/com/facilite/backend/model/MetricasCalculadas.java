@@ -0,0 +1,15 @@
+package com.facilite.backend.model;
+
+import java.time.LocalDate;
+
+/**
+ * Resultado do cálculo em lote das métricas de um projeto para uma data de referência
+ */
+public record MetricasCalculadas(
+        Long projetoId,
+        StatusProjeto status,
+        int diasAtraso,
+        double percentualTempoRestante,
+        LocalDate proximaReavaliacao
+) {
+}
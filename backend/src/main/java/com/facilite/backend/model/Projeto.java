@@ -1,12 +1,15 @@
 package com.facilite.backend.model;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -21,10 +24,11 @@ import java.util.Set;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-public class Projeto {
+public class Projeto implements DadosProjeto {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "projetos_seq")
+    @SequenceGenerator(name = "projetos_seq", sequenceName = "projetos_id_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Nome é obrigatório")
@@ -36,6 +40,7 @@ public class Projeto {
     private StatusProjeto status = StatusProjeto.A_INICIAR;
 
     @ManyToMany(fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "projeto-responsaveis")
     @JoinTable(
             name = "projeto_responsavel",
             joinColumns = @JoinColumn(name = "projeto_id"),
@@ -59,6 +64,10 @@ public class Projeto {
 
     private Double percentualTempoRestante = 0.0;
 
+    // Próxima data em que status/métricas podem mudar sem escrita; nulo quando não mudam mais
+    @JsonIgnore
+    private LocalDate proximaReavaliacao;
+
     @CreationTimestamp
     @Column(updatable = false)
     private LocalDateTime createdAt;
@@ -66,4 +75,8 @@ public class Projeto {
     @UpdateTimestamp
     private LocalDateTime updatedAt;
 
+    // Controle de concorrência otimista; exposto como ETag e conferido no If-Match
+    @Version
+    private Long versao;
+
    }
\ No newline at end of file
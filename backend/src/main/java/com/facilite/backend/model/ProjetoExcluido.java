@@ -0,0 +1,28 @@
+package com.facilite.backend.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Registro da exclusão de um projeto, lido pela sincronização incremental.
+ * O ID é o do projeto excluído, que nunca é reutilizado pela sequência.
+ */
+@Entity
+@Table(name = "projetos_excluidos")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjetoExcluido {
+
+    @Id
+    private Long projetoId;
+
+    @Column(nullable = false)
+    private LocalDateTime excluidoEm;
+}
@@ -0,0 +1,61 @@
+package com.facilite.backend.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.Synchronize;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Projeto lido pela view vw_projetos_metricas: status, dias de atraso e percentual
+ * de tempo restante são calculados pelo banco a partir das datas e de CURRENT_DATE.
+ * Somente leitura; escritas continuam passando por {@link Projeto}. As tabelas de origem são
+ * declaradas para que o cache de consultas seja invalidado quando elas mudam.
+ */
+@Entity
+@Immutable
+@Synchronize({"projetos", "projeto_responsavel"})
+@Table(name = "vw_projetos_metricas")
+@Getter
+@NoArgsConstructor
+public class ProjetoMetricas implements DadosProjeto {
+
+    @Id
+    private Long id;
+
+    private String nome;
+
+    @Enumerated(EnumType.STRING)
+    private StatusProjeto status;
+
+    @ManyToMany(fetch = FetchType.LAZY)
+    @JoinTable(
+            name = "projeto_responsavel",
+            joinColumns = @JoinColumn(name = "projeto_id"),
+            inverseJoinColumns = @JoinColumn(name = "responsavel_id")
+    )
+    private Set<Responsavel> responsaveis = new HashSet<>();
+
+    private LocalDate inicioPrevisto;
+
+    private LocalDate terminoPrevisto;
+
+    private LocalDate inicioRealizado;
+
+    private LocalDate terminoRealizado;
+
+    private Integer diasAtraso;
+
+    private Double percentualTempoRestante;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    private Long versao;
+}
@@ -8,6 +8,8 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -16,15 +18,22 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "responsaveis")
+@Table(name = "responsaveis",
+        uniqueConstraints = @UniqueConstraint(name = Responsavel.UNIQUE_EMAIL, columnNames = "email"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "responsavel")
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 public class Responsavel {
 
+    // Nome fixado na V10: a violação dessa constraint é o conflito de email (409)
+    public static final String UNIQUE_EMAIL = "uk_responsaveis_email";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "responsaveis_seq")
+    @SequenceGenerator(name = "responsaveis_seq", sequenceName = "responsaveis_id_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Nome é obrigatório")
@@ -32,7 +41,7 @@ public class Responsavel {
     private String nome;
 
     @Email(message = "Email deve ser válido")
-    @Column(unique = true, nullable = false)
+    @Column(nullable = false)
     private String email;
 
     private String cargo;
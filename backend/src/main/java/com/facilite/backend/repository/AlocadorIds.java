@@ -0,0 +1,66 @@
+package com.facilite.backend.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Reserva IDs das sequências para inserts via JDBC (importação e carga sintética) seguindo
+ * o mesmo esquema do otimizador pooled do Hibernate: cada nextval devolve o maior ID de um
+ * bloco de {@link #INCREMENTO}, então os dois caminhos nunca disputam o mesmo ID.
+ * A sobra de cada bloco fica reservada para as próximas chamadas, para que reservas de um
+ * ID só (upsert de responsáveis) não descartem o bloco inteiro a cada vez.
+ */
+@Repository
+public class AlocadorIds {
+
+    // Igual ao allocationSize de Projeto e Responsavel e ao INCREMENT BY das sequências (V7)
+    public static final int INCREMENTO = 50;
+
+    public static final String SEQUENCIA_PROJETOS = "projetos_id_seq";
+    public static final String SEQUENCIA_RESPONSAVEIS = "responsaveis_id_seq";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Dialect dialect;
+    private final Map<String, Bloco> blocos = new HashMap<>();
+
+    public AlocadorIds(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dialect = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect();
+    }
+
+    public synchronized long[] alocar(String sequencia, int quantidade) {
+        Bloco bloco = blocos.computeIfAbsent(sequencia, s -> new Bloco());
+        long[] ids = new long[quantidade];
+        int preenchidos = 0;
+        while (preenchidos < quantidade) {
+            if (bloco.proximo > bloco.ultimo) {
+                long maior = proximoValor(sequencia);
+                bloco.proximo = Math.max(maior - INCREMENTO + 1, 1);
+                bloco.ultimo = maior;
+            }
+            ids[preenchidos++] = bloco.proximo++;
+        }
+        return ids;
+    }
+
+    private long proximoValor(String sequencia) {
+        Long maior = jdbcTemplate.queryForObject(
+                dialect.getSequenceSupport().getSequenceNextValString(sequencia), Long.class);
+        if (maior == null) {
+            throw new IllegalStateException("Sequência " + sequencia + " não retornou valor");
+        }
+        return maior;
+    }
+
+    // IDs ainda não entregues do último bloco reservado; começa vazio
+    private static final class Bloco {
+        private long proximo = 1;
+        private long ultimo = 0;
+    }
+}
@@ -0,0 +1,88 @@
+package com.facilite.backend.repository;
+
+import com.facilite.backend.util.Trigramas;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Busca de projetos pelo nome do projeto ou de um responsável vinculado, ordenada pela
+ * similaridade de trigramas do nome do projeto, sem diferenciar acentos.
+ * No PostgreSQL os filtros (<% e LIKE '%termo%') usam os índices GIN idx_projetos_nome_trgm (V11)
+ * e idx_responsaveis_nome_trgm (V13), um em cada lado do UNION;
+ * no H2 dos testes as funções equivalentes vêm de {@link Trigramas} e as tabelas são varridas.
+ * Devolve só a página de IDs, como {@link ProjetoRepository#findIds}.
+ */
+@Repository
+public class BuscaProjetoRepository {
+
+    // Mesmo valor padrão de pg_trgm.word_similarity_threshold, usado pelo operador <%
+    static final double LIMIAR_SIMILARIDADE_PALAVRA = 0.6;
+
+    // UNION em vez de OR com EXISTS: cada lado usa o seu índice de trigramas
+    private static final String FILTRO_POSTGRES = """
+            FROM projetos p
+            WHERE p.id IN (
+                SELECT n.id FROM projetos n
+                WHERE ? <% normalizar_busca(n.nome) OR normalizar_busca(n.nome) LIKE ?
+                UNION
+                SELECT pr.projeto_id FROM projeto_responsavel pr
+                JOIN responsaveis r ON r.id = pr.responsavel_id
+                WHERE ? <% normalizar_busca(r.nome) OR normalizar_busca(r.nome) LIKE ?)
+            """;
+
+    private static final String ORDEM_POSTGRES = """
+            ORDER BY word_similarity(?, normalizar_busca(p.nome)) DESC,
+                     similarity(?, normalizar_busca(p.nome)) DESC, p.id
+            """;
+
+    private static final String FILTRO_H2 = """
+            FROM projetos p
+            WHERE p.id IN (
+                SELECT n.id FROM projetos n
+                WHERE similaridade_palavra(?, normalizar_busca(n.nome)) >= %1$s OR normalizar_busca(n.nome) LIKE ?
+                UNION
+                SELECT pr.projeto_id FROM projeto_responsavel pr
+                JOIN responsaveis r ON r.id = pr.responsavel_id
+                WHERE similaridade_palavra(?, normalizar_busca(r.nome)) >= %1$s OR normalizar_busca(r.nome) LIKE ?)
+            """.formatted(LIMIAR_SIMILARIDADE_PALAVRA);
+
+    private static final String ORDEM_H2 = """
+            ORDER BY similaridade_palavra(?, normalizar_busca(p.nome)) DESC,
+                     similaridade(?, normalizar_busca(p.nome)) DESC, p.id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String filtro;
+    private final String ordem;
+
+    public BuscaProjetoRepository(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        Dialect dialect = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect();
+        boolean postgres = dialect instanceof PostgreSQLDialect;
+        this.filtro = postgres ? FILTRO_POSTGRES : FILTRO_H2;
+        this.ordem = postgres ? ORDEM_POSTGRES : ORDEM_H2;
+    }
+
+    public Page<Long> buscarIds(String busca, Pageable pageable) {
+        String termo = Trigramas.normalizar(busca.trim());
+        String padrao = "%" + escaparLike(termo) + "%";
+        List<Long> ids = jdbcTemplate.queryForList("SELECT p.id " + filtro + ordem + "LIMIT ? OFFSET ?", Long.class,
+                termo, padrao, termo, padrao, termo, termo, pageable.getPageSize(), pageable.getOffset());
+        return PageableExecutionUtils.getPage(ids, pageable,
+                () -> jdbcTemplate.queryForObject("SELECT COUNT(*) " + filtro, Long.class, termo, padrao, termo, padrao));
+    }
+
+    // Barra invertida é o escape padrão do LIKE nos dois bancos
+    private static String escaparLike(String termo) {
+        return termo.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
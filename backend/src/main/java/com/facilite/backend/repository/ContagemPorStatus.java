@@ -0,0 +1,13 @@
+package com.facilite.backend.repository;
+
+import com.facilite.backend.model.StatusProjeto;
+
+/**
+ * Projeção com a quantidade de projetos agrupada por status
+ */
+public interface ContagemPorStatus {
+
+    StatusProjeto getStatus();
+
+    long getTotal();
+}
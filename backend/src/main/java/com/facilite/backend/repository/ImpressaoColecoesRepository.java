@@ -0,0 +1,86 @@
+package com.facilite.backend.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Impressões das coleções usadas como ETag nas listagens: o valor atual de uma sequência por
+ * coleção, lido sem agregar as tabelas inteiras.
+ * Cada serviço que escreve chama nextval, que não trava linha nem espera outras transações:
+ * escritas concorrentes em projetos e responsáveis não se enfileiram por causa da impressão.
+ * Em troca, o nextval vale na hora e não segue o commit. Por isso ele roda duas vezes: dentro da
+ * transação (a impressão já mudou quando os dados aparecem) e de novo depois do commit, para que
+ * quem leu os dados antigos com a impressão nova nesse intervalo recarregue. Um rollback deixa só
+ * uma recarga a mais. Se a aplicação cair entre o commit e o segundo nextval, uma leitura feita
+ * nesse intervalo pode ficar com dados antigos até a próxima escrita ou a virada do dia.
+ * Escritas feitas fora da aplicação não mudam as impressões.
+ */
+@Repository
+public class ImpressaoColecoesRepository {
+
+    private static final String SEQUENCIA_PROJETOS = "versao_projetos_seq";
+    private static final String SEQUENCIA_RESPONSAVEIS = "versao_responsaveis_seq";
+
+    private static final String VALOR_ATUAL_POSTGRES = "SELECT last_value FROM %s";
+
+    // H2: BASE_VALUE é o próximo valor que a sequência vai entregar
+    private static final String VALOR_ATUAL_H2 = """
+            SELECT BASE_VALUE FROM INFORMATION_SCHEMA.SEQUENCES
+            WHERE SEQUENCE_SCHEMA = SCHEMA() AND SEQUENCE_NAME = UPPER('%s')
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Dialect dialect;
+    private final String valorAtual;
+
+    public ImpressaoColecoesRepository(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dialect = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect();
+        this.valorAtual = dialect instanceof PostgreSQLDialect ? VALOR_ATUAL_POSTGRES : VALOR_ATUAL_H2;
+    }
+
+    public String impressaoProjetos() {
+        return versao(SEQUENCIA_PROJETOS);
+    }
+
+    public String impressaoResponsaveis() {
+        return versao(SEQUENCIA_RESPONSAVEIS);
+    }
+
+    public void registrarAlteracaoProjetos() {
+        incrementarAgoraEAposCommit(SEQUENCIA_PROJETOS);
+    }
+
+    // Listagens de projetos trazem os responsáveis, então as duas impressões mudam
+    public void registrarAlteracaoResponsaveis() {
+        incrementarAgoraEAposCommit(SEQUENCIA_PROJETOS);
+        incrementarAgoraEAposCommit(SEQUENCIA_RESPONSAVEIS);
+    }
+
+    private void incrementarAgoraEAposCommit(String sequencia) {
+        incrementar(sequencia);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    incrementar(sequencia);
+                }
+            });
+        }
+    }
+
+    private void incrementar(String sequencia) {
+        jdbcTemplate.queryForObject(dialect.getSequenceSupport().getSequenceNextValString(sequencia), Long.class);
+    }
+
+    private String versao(String sequencia) {
+        Long versao = jdbcTemplate.queryForObject(valorAtual.formatted(sequencia), Long.class);
+        return Long.toString(versao == null ? 0 : versao, 36);
+    }
+}
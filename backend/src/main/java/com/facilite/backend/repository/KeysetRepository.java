@@ -0,0 +1,73 @@
+package com.facilite.backend.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Consultas de paginação por chave (keyset): em vez de OFFSET, busca os registros
+ * posicionados depois de (valor, id) do último item da página anterior.
+ * A ordenação é sempre (atributo, id), coberta pelos índices compostos das migrations.
+ */
+@Repository
+public class KeysetRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * IDs da próxima página. Usado quando a entidade tem coleções que serão carregadas depois.
+     */
+    public List<Long> buscarIds(Class<?> entidade, String atributo, Sort.Direction direcao,
+                                Comparable<?> valorCursor, Long idCursor, int limite) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<?> root = query.from(entidade);
+        query.select(root.get("id"));
+        aplicarPosicao(cb, query, root, atributo, direcao, valorCursor, idCursor);
+        return entityManager.createQuery(query).setMaxResults(limite).getResultList();
+    }
+
+    /**
+     * Entidades da próxima página
+     */
+    public <T> List<T> buscar(Class<T> entidade, String atributo, Sort.Direction direcao,
+                              Comparable<?> valorCursor, Long idCursor, int limite) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> query = cb.createQuery(entidade);
+        Root<T> root = query.from(entidade);
+        query.select(root);
+        aplicarPosicao(cb, query, root, atributo, direcao, valorCursor, idCursor);
+        return entityManager.createQuery(query).setMaxResults(limite).getResultList();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void aplicarPosicao(CriteriaBuilder cb, CriteriaQuery<?> query, Root<?> root, String atributo,
+                                Sort.Direction direcao, Comparable valorCursor, Long idCursor) {
+        Path<Comparable> campo = root.get(atributo);
+        Path<Long> id = root.get("id");
+        boolean ascendente = direcao.isAscending();
+
+        if (valorCursor != null && idCursor != null) {
+            Predicate depoisDoValor = ascendente
+                    ? cb.greaterThan(campo, valorCursor)
+                    : cb.lessThan(campo, valorCursor);
+            Predicate mesmoValorDepoisDoId = cb.and(
+                    cb.equal(campo, valorCursor),
+                    ascendente ? cb.greaterThan(id, idCursor) : cb.lessThan(id, idCursor));
+            query.where(cb.or(depoisDoValor, mesmoValorDepoisDoId));
+        }
+
+        query.orderBy(ascendente
+                ? List.of(cb.asc(campo), cb.asc(id))
+                : List.of(cb.desc(campo), cb.desc(id)));
+    }
+}
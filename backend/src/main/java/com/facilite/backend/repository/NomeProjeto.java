@@ -0,0 +1,11 @@
+package com.facilite.backend.repository;
+
+/**
+ * Projeção com o ID e o nome do projeto, usada para montar o índice de autocomplete
+ */
+public interface NomeProjeto {
+
+    Long getId();
+
+    String getNome();
+}
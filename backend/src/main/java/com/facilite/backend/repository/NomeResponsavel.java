@@ -0,0 +1,13 @@
+package com.facilite.backend.repository;
+
+/**
+ * Projeção com os campos do responsável usados no índice de autocomplete
+ */
+public interface NomeResponsavel {
+
+    Long getId();
+
+    String getNome();
+
+    String getEmail();
+}
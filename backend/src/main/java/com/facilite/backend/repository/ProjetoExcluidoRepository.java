@@ -0,0 +1,36 @@
+package com.facilite.backend.repository;
+
+import com.facilite.backend.model.ProjetoExcluido;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ProjetoExcluidoRepository extends JpaRepository<ProjetoExcluido, Long> {
+
+    // Insert direto a partir dos projetos existentes: um statement por exclusão ou lote, sem SELECT do merge
+    @Modifying
+    @Query(value = "INSERT INTO projetos_excluidos (projeto_id, excluido_em) SELECT id, :excluidoEm FROM projetos WHERE id IN :ids",
+            nativeQuery = true)
+    int registrarExclusoes(Collection<Long> ids, LocalDateTime excluidoEm);
+
+    // Keyset por (excluidoEm, projetoId) até o limite superior da sincronização
+    @Query("""
+            SELECT e FROM ProjetoExcluido e
+            WHERE (e.excluidoEm > :desde OR (e.excluidoEm = :desde AND e.projetoId > :idDesde))
+              AND e.excluidoEm <= :ate
+            ORDER BY e.excluidoEm, e.projetoId
+            """)
+    List<ProjetoExcluido> findExcluidosDesde(LocalDateTime desde, Long idDesde, LocalDateTime ate, Limit limite);
+
+    // Expurgo por idade, pelo mesmo índice (excluido_em, projeto_id) do keyset
+    @Modifying
+    @Query("DELETE FROM ProjetoExcluido e WHERE e.excluidoEm < :limite")
+    int excluirAnterioresA(LocalDateTime limite);
+}
@@ -2,20 +2,131 @@ package com.facilite.backend.repository;
 
 
 import com.facilite.backend.model.Projeto;
+import com.facilite.backend.model.ProjetoMetricas;
 import com.facilite.backend.model.StatusProjeto;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Repository
 public interface ProjetoRepository extends JpaRepository<Projeto, Long> {
 
-    List<Projeto> findByStatus(StatusProjeto status);
+    // Listagens carregam os responsáveis na mesma consulta para evitar N+1 no mapper
+    @EntityGraph(attributePaths = "responsaveis")
+    List<Projeto> findByIdIn(Collection<Long> ids);
 
-    @Query("SELECT p FROM Projeto p WHERE p.nome LIKE %:nome%")
-    List<Projeto> findByNomeContaining(String nome);
+    // Sincronização incremental: keyset por (updatedAt, id) até o limite superior da leitura
+    @Query("""
+            SELECT p.id FROM Projeto p
+            WHERE (p.updatedAt > :desde OR (p.updatedAt = :desde AND p.id > :idDesde))
+              AND p.updatedAt <= :ate
+            ORDER BY p.updatedAt, p.id
+            """)
+    List<Long> findIdsAlteradosDesde(LocalDateTime desde, Long idDesde, LocalDateTime ate, Limit limite);
+
+    // Só ID e status, sem carregar as entidades
+    List<SituacaoProjeto> findSituacaoByIdIn(Collection<Long> ids);
+
+    // Exclusão sem carregar as entidades; vínculos removidos pelo ON DELETE CASCADE.
+    // Limpa o contexto de persistência para não devolver depois uma entidade já excluída
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Projeto p WHERE p.id IN :ids")
+    int excluirPorIds(Collection<Long> ids);
+
+    // Renomear ou excluir um responsável muda os dados embutidos nos projetos vinculados:
+    // novo carimbo e versão para a alteração chegar ao /changes e aos ETags
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE Projeto p SET p.updatedAt = :agora, p.versao = p.versao + 1
+            WHERE p.id IN (SELECT v.id FROM Projeto v JOIN v.responsaveis r WHERE r.id = :responsavelId)
+            """)
+    int marcarAlteradosPorResponsavel(Long responsavelId, LocalDateTime agora);
+
+    // Listagens lidas pela view vw_projetos_metricas: métricas sempre calculadas para a data atual
+    @Query("SELECT m FROM ProjetoMetricas m LEFT JOIN FETCH m.responsaveis")
+    List<ProjetoMetricas> findAllComMetricas();
+
+    // Coluna do quadro lida a cada polling: resultado no cache de consultas, invalidado por escritas em projetos
+    @Query("SELECT m FROM ProjetoMetricas m LEFT JOIN FETCH m.responsaveis WHERE m.status = :status")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "projetos-por-status")
+    })
+    List<ProjetoMetricas> findComMetricasByStatus(StatusProjeto status);
+
+    @Query("SELECT m FROM ProjetoMetricas m LEFT JOIN FETCH m.responsaveis WHERE m.id IN :ids")
+    List<ProjetoMetricas> findComMetricasByIdIn(Collection<Long> ids);
+
+    /**
+     * Primeira fase da paginação: apenas os IDs da página. Paginar junto com o fetch
+     * da coleção obrigaria o Hibernate a aplicar o limite em memória.
+     * Lê da view para que a ordenação por status ou métricas use os valores atuais.
+     */
+    @Query(value = "SELECT m.id FROM ProjetoMetricas m", countQuery = "SELECT COUNT(m) FROM ProjetoMetricas m")
+    Page<Long> findIds(Pageable pageable);
 
     boolean existsByNome(String nome);
-}
\ No newline at end of file
+
+    // Importação: quais IDs do lote já existem e devem ser atualizados
+    @Query("SELECT p.id FROM Projeto p WHERE p.id IN :ids")
+    Set<Long> findIdsExistentes(Collection<Long> ids);
+
+    // Quadro Kanban: contagens, janela e keyset leem a view, com o mesmo status das listagens.
+    // O status da view é calculado, então o índice (status, nome, id) não ajuda nessas consultas
+    @Query("SELECT COUNT(m) FROM ProjetoMetricas m WHERE m.status = :status")
+    long countByStatus(StatusProjeto status);
+
+    @Query("SELECT m.status AS status, COUNT(m) AS total FROM ProjetoMetricas m GROUP BY m.status")
+    List<ContagemPorStatus> contarPorStatus();
+
+    // Carga do índice de autocomplete: só ID e nome, em ordem de ID e lidos aos poucos pelo cursor
+    @Query("SELECT p.id AS id, p.nome AS nome FROM Projeto p ORDER BY p.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<NomeProjeto> streamNomes();
+
+    /**
+     * IDs dos primeiros projetos de cada status (ordenados por nome e ID), em uma única consulta.
+     * O resultado vem agrupado por status e, dentro dele, na ordem da coluna.
+     */
+    @Query(value = """
+            SELECT r.id FROM (
+                SELECT p.id, p.status, p.nome,
+                       ROW_NUMBER() OVER (PARTITION BY p.status ORDER BY p.nome, p.id) AS posicao
+                FROM vw_projetos_metricas p
+            ) r
+            WHERE r.posicao <= :limite
+            ORDER BY r.status, r.posicao
+            """, nativeQuery = true)
+    List<Long> findIdsPrimeirosPorStatus(int limite);
+
+    @Query("SELECT m.id FROM ProjetoMetricas m WHERE m.status = :status ORDER BY m.nome, m.id")
+    List<Long> findIdsPorStatus(StatusProjeto status, Limit limit);
+
+    @Query("""
+            SELECT m.id FROM ProjetoMetricas m
+            WHERE m.status = :status
+              AND (m.nome > :nome OR (m.nome = :nome AND m.id > :id))
+            ORDER BY m.nome, m.id
+            """)
+    List<Long> findIdsProximosPorStatus(StatusProjeto status, String nome, Long id, Limit limit);
+
+    interface SituacaoProjeto {
+        Long getId();
+
+        StatusProjeto getStatus();
+    }
+}
@@ -2,12 +2,19 @@ package com.facilite.backend.repository;
 
 import com.facilite.backend.dto.ResponsavelResponse;
 import com.facilite.backend.model.Responsavel;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Repository
 public interface ResponsavelRepository extends JpaRepository<Responsavel, Long> {
@@ -16,4 +23,13 @@ public interface ResponsavelRepository extends JpaRepository<Responsavel, Long>
 
     boolean existsByEmail(String email);
 
+    // Apenas os IDs existentes, sem carregar as entidades (importação em lote)
+    @Query("SELECT r.id FROM Responsavel r WHERE r.id IN :ids")
+    Set<Long> findIdsExistentes(Collection<Long> ids);
+
+    // Carga do índice de autocomplete, sem montar as entidades
+    @Query("SELECT r.id AS id, r.nome AS nome, r.email AS email FROM Responsavel r ORDER BY r.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<NomeResponsavel> streamNomes();
+
 }
\ No newline at end of file
@@ -0,0 +1,95 @@
+package com.facilite.backend.repository;
+
+import com.facilite.backend.model.Responsavel;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Cria ou atualiza um responsável pelo email em um único statement, usando o índice único
+ * de email como árbitro: concorrência entre cargas simultâneas é resolvida pelo banco.
+ * No PostgreSQL é um INSERT ... ON CONFLICT com RETURNING; no H2 dos testes, que não tem
+ * ON CONFLICT ... DO UPDATE, um MERGE. Nos dois o ID é reservado antes por {@link AlocadorIds},
+ * de um bloco mantido em memória: um conflito descarta só esse ID, não um bloco da sequência.
+ * Criado é quando o ID devolvido é o reservado. Se nome e cargo já são os gravados a linha não é
+ * tocada e nenhuma linha volta: o responsável atual é lido pelo email e o resultado sai como não
+ * alterado, para que uma carga repetida não mude carimbos, versões e caches.
+ */
+@Repository
+public class UpsertResponsavelRepository {
+
+    public record Resultado(Responsavel responsavel, boolean criado, boolean alterado) {
+    }
+
+    private static final String UPSERT_POSTGRES = """
+            INSERT INTO responsaveis (id, nome, email, cargo, created_at, updated_at)
+            VALUES (?, ?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+            ON CONFLICT ON CONSTRAINT uk_responsaveis_email DO UPDATE
+                SET nome = EXCLUDED.nome, cargo = EXCLUDED.cargo, updated_at = CURRENT_TIMESTAMP
+                WHERE responsaveis.nome IS DISTINCT FROM EXCLUDED.nome
+                   OR responsaveis.cargo IS DISTINCT FROM EXCLUDED.cargo
+            RETURNING id, nome, email, cargo, created_at, updated_at
+            """;
+
+    private static final String UPSERT_MERGE = """
+            SELECT id, nome, email, cargo, created_at, updated_at
+            FROM FINAL TABLE (
+                MERGE INTO responsaveis r
+                USING (VALUES (CAST(? AS BIGINT), ?, ?, ?)) AS v (id, nome, email, cargo)
+                ON r.email = v.email
+                WHEN MATCHED AND (r.nome IS DISTINCT FROM v.nome OR r.cargo IS DISTINCT FROM v.cargo) THEN
+                    UPDATE SET nome = v.nome, cargo = v.cargo, updated_at = CURRENT_TIMESTAMP
+                WHEN NOT MATCHED THEN
+                    INSERT (id, nome, email, cargo, created_at, updated_at)
+                    VALUES (v.id, v.nome, v.email, v.cargo, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+            )
+            """;
+
+    private static final String SELECT_POR_EMAIL = """
+            SELECT id, nome, email, cargo, created_at, updated_at
+            FROM responsaveis
+            WHERE email = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AlocadorIds alocadorIds;
+    private final boolean postgres;
+
+    public UpsertResponsavelRepository(JdbcTemplate jdbcTemplate, AlocadorIds alocadorIds,
+                                       EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.alocadorIds = alocadorIds;
+        Dialect dialect = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect();
+        this.postgres = dialect instanceof PostgreSQLDialect;
+    }
+
+    public Resultado upsertPorEmail(String email, String nome, String cargo) {
+        long idReservado = alocadorIds.alocar(AlocadorIds.SEQUENCIA_RESPONSAVEIS, 1)[0];
+        List<Responsavel> gravados = jdbcTemplate.query(postgres ? UPSERT_POSTGRES : UPSERT_MERGE,
+                (rs, rowNum) -> mapear(rs), idReservado, nome, email, cargo);
+        if (gravados.isEmpty()) {
+            Responsavel atual = jdbcTemplate.queryForObject(SELECT_POR_EMAIL, (rs, rowNum) -> mapear(rs), email);
+            return new Resultado(atual, false, false);
+        }
+        Responsavel responsavel = gravados.get(0);
+        return new Resultado(responsavel, responsavel.getId() == idReservado, true);
+    }
+
+    private static Responsavel mapear(ResultSet rs) throws SQLException {
+        Responsavel responsavel = new Responsavel();
+        responsavel.setId(rs.getLong("id"));
+        responsavel.setNome(rs.getString("nome"));
+        responsavel.setEmail(rs.getString("email"));
+        responsavel.setCargo(rs.getString("cargo"));
+        responsavel.setCreatedAt(rs.getTimestamp("created_at").toLocalDateTime());
+        responsavel.setUpdatedAt(rs.getTimestamp("updated_at").toLocalDateTime());
+        return responsavel;
+    }
+}
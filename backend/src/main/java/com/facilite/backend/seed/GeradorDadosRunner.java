@@ -0,0 +1,51 @@
+package com.facilite.backend.seed;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Popula o banco com dados sintéticos ao subir com o perfil "seed" e, por padrão, encerra a aplicação.
+ * Quantidades, semente e tamanho do lote vêm de kanban.seed.* (ver application-seed.properties).
+ */
+@Slf4j
+@Component
+@Profile("seed")
+@RequiredArgsConstructor
+public class GeradorDadosRunner implements CommandLineRunner {
+
+    private final GeradorDadosSinteticos gerador;
+    private final ApplicationContext contexto;
+
+    @Value("${kanban.seed.projetos:1000000}")
+    private int projetos;
+
+    @Value("${kanban.seed.responsaveis:100000}")
+    private int responsaveis;
+
+    @Value("${kanban.seed.semente:42}")
+    private long semente;
+
+    @Value("${kanban.seed.tamanho-lote:5000}")
+    private int tamanhoLote;
+
+    @Value("${kanban.seed.encerrar:true}")
+    private boolean encerrar;
+
+    @Override
+    public void run(String... args) {
+        log.info("Gerando {} projetos e {} responsáveis (semente {})", projetos, responsaveis, semente);
+        GeradorDadosSinteticos.Resultado resultado = gerador.gerar(projetos, responsaveis, semente, tamanhoLote);
+        log.info("Gerados {} responsáveis, {} projetos e {} vínculos em {} ms",
+                resultado.responsaveis(), resultado.projetos(), resultado.vinculos(), resultado.duracaoMs());
+
+        if (encerrar) {
+            System.exit(SpringApplication.exit(contexto, () -> 0));
+        }
+    }
+}
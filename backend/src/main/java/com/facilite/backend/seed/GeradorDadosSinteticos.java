@@ -0,0 +1,233 @@
+package com.facilite.backend.seed;
+
+import com.facilite.backend.model.MetricasCalculadas;
+import com.facilite.backend.model.Projeto;
+import com.facilite.backend.repository.AlocadorIds;
+import com.facilite.backend.repository.ImpressaoColecoesRepository;
+import com.facilite.backend.service.MetricaService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Gera volumes grandes de responsáveis, projetos e vínculos para testes de desempenho.
+ * A geração é determinística para uma mesma semente e data de referência: os projetos
+ * são distribuídos entre os quatro status e as métricas gravadas vêm de
+ * {@link MetricaService#calcularMetricas}. Inserção via JDBC batch, um lote por transação,
+ * com IDs reservados das sequências por {@link AlocadorIds}.
+ */
+@Component
+@RequiredArgsConstructor
+public class GeradorDadosSinteticos {
+
+    private static final String INSERT_RESPONSAVEL =
+            "INSERT INTO responsaveis (id, nome, email, cargo) VALUES (?, ?, ?, ?)";
+
+    private static final String INSERT_PROJETO = """
+            INSERT INTO projetos (id, nome, status, inicio_previsto, termino_previsto, inicio_realizado,
+                                  termino_realizado, dias_atraso, percentual_tempo_restante, proxima_reavaliacao)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_VINCULO =
+            "INSERT INTO projeto_responsavel (projeto_id, responsavel_id) VALUES (?, ?)";
+
+    private static final String[] CARGOS = {
+            "Desenvolvedor", "Analista", "Gerente de Projetos", "Designer", "QA", "Arquiteto", "Product Owner"
+    };
+
+    private static final int MAXIMO_RESPONSAVEIS_POR_PROJETO = 5;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MetricaService metricaService;
+    private final AlocadorIds alocadorIds;
+    private final ImpressaoColecoesRepository impressaoColecoesRepository;
+
+    public record Resultado(long responsaveis, long projetos, long vinculos, long duracaoMs) {
+    }
+
+    public Resultado gerar(int quantidadeProjetos, int quantidadeResponsaveis, long semente, int tamanhoLote) {
+        if (quantidadeProjetos < 0 || quantidadeResponsaveis < 0 || tamanhoLote < 1) {
+            throw new IllegalArgumentException("Quantidades devem ser positivas e o lote maior que zero");
+        }
+        String prefixoEmail = "seed." + semente + ".";
+        Integer existentes = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM responsaveis WHERE email LIKE ?", Integer.class, prefixoEmail + "%");
+        if (existentes != null && existentes > 0) {
+            throw new IllegalStateException("Base já populada com a semente " + semente);
+        }
+
+        long inicio = System.nanoTime();
+        SplittableRandom random = new SplittableRandom(semente);
+        LocalDate referencia = LocalDate.now();
+
+        long[] idsResponsaveis = gerarResponsaveis(quantidadeResponsaveis, prefixoEmail, tamanhoLote);
+
+        long vinculos = 0;
+        for (int inicioLote = 0; inicioLote < quantidadeProjetos; inicioLote += tamanhoLote) {
+            int fimLote = Math.min(inicioLote + tamanhoLote, quantidadeProjetos);
+            vinculos += gerarLoteProjetos(inicioLote, fimLote, semente, random, referencia, idsResponsaveis);
+        }
+        // Carga via JDBC, sem eventos: invalida os ETags das listagens à parte
+        impressaoColecoesRepository.registrarAlteracaoResponsaveis();
+
+        return new Resultado(idsResponsaveis.length, quantidadeProjetos, vinculos,
+                (System.nanoTime() - inicio) / 1_000_000);
+    }
+
+    private long[] gerarResponsaveis(int quantidade, String prefixoEmail, int tamanhoLote) {
+        long[] idsResponsaveis = new long[quantidade];
+        for (int inicioLote = 0; inicioLote < quantidade; inicioLote += tamanhoLote) {
+            int fimLote = Math.min(inicioLote + tamanhoLote, quantidade);
+            long[] ids = alocadorIds.alocar(AlocadorIds.SEQUENCIA_RESPONSAVEIS, fimLote - inicioLote);
+            List<Object[]> linhas = new ArrayList<>(fimLote - inicioLote);
+            for (int i = inicioLote; i < fimLote; i++) {
+                idsResponsaveis[i] = ids[i - inicioLote];
+                linhas.add(new Object[]{idsResponsaveis[i], "Responsável " + i, prefixoEmail + i + "@exemplo.com",
+                        CARGOS[i % CARGOS.length]});
+            }
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_RESPONSAVEL, linhas));
+        }
+        return idsResponsaveis;
+    }
+
+    private long gerarLoteProjetos(int inicioLote, int fimLote, long semente, SplittableRandom random,
+                                   LocalDate referencia, long[] idsResponsaveis) {
+        List<Projeto> projetos = new ArrayList<>(fimLote - inicioLote);
+        for (int i = inicioLote; i < fimLote; i++) {
+            projetos.add(projetoAleatorio(random, referencia, "Projeto " + semente + "-" + i));
+        }
+        List<MetricasCalculadas> metricas = metricaService.calcularMetricas(projetos, referencia);
+
+        long[] ids = alocadorIds.alocar(AlocadorIds.SEQUENCIA_PROJETOS, projetos.size());
+        List<Object[]> linhas = new ArrayList<>(projetos.size());
+        for (int i = 0; i < projetos.size(); i++) {
+            Projeto projeto = projetos.get(i);
+            MetricasCalculadas calculadas = metricas.get(i);
+            linhas.add(new Object[]{ids[i], projeto.getNome(), calculadas.status().name(),
+                    data(projeto.getInicioPrevisto()), data(projeto.getTerminoPrevisto()),
+                    data(projeto.getInicioRealizado()), data(projeto.getTerminoRealizado()),
+                    calculadas.diasAtraso(), calculadas.percentualTempoRestante(),
+                    data(calculadas.proximaReavaliacao())});
+        }
+
+        // Quantidade de responsáveis de cada projeto sorteada antes da transação para manter o determinismo
+        int[] responsaveisPorProjeto = new int[projetos.size()];
+        for (int i = 0; i < responsaveisPorProjeto.length; i++) {
+            responsaveisPorProjeto[i] = idsResponsaveis.length == 0 ? 0 : quantidadeResponsaveis(random);
+        }
+        long[][] sorteados = new long[projetos.size()][];
+        for (int i = 0; i < sorteados.length; i++) {
+            sorteados[i] = sortearResponsaveis(random, idsResponsaveis, responsaveisPorProjeto[i]);
+        }
+
+        Long vinculos = transactionTemplate.execute(status -> {
+            jdbcTemplate.batchUpdate(INSERT_PROJETO, linhas);
+
+            List<Object[]> linhasVinculo = new ArrayList<>();
+            for (int i = 0; i < sorteados.length; i++) {
+                for (long idResponsavel : sorteados[i]) {
+                    linhasVinculo.add(new Object[]{ids[i], idResponsavel});
+                }
+            }
+            if (!linhasVinculo.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_VINCULO, linhasVinculo);
+            }
+            return (long) linhasVinculo.size();
+        });
+        return vinculos != null ? vinculos : 0;
+    }
+
+    /**
+     * Datas sorteadas por perfil, para que todos os status apareçam na carga:
+     * ~20% a iniciar, ~30% em andamento, ~25% atrasados e ~25% concluídos.
+     */
+    public static Projeto projetoAleatorio(SplittableRandom random, LocalDate hoje, String nome) {
+        Projeto projeto = new Projeto();
+        projeto.setNome(nome);
+        int perfil = random.nextInt(100);
+        if (perfil < 20) {
+            // A iniciar: início previsto no futuro
+            projeto.setInicioPrevisto(hoje.plusDays(random.nextInt(1, 90)));
+            projeto.setTerminoPrevisto(projeto.getInicioPrevisto().plusDays(random.nextInt(15, 240)));
+        } else if (perfil < 50) {
+            // Em andamento: iniciado, término previsto no futuro
+            projeto.setInicioPrevisto(hoje.minusDays(random.nextInt(1, 180)));
+            projeto.setTerminoPrevisto(hoje.plusDays(random.nextInt(1, 180)));
+            projeto.setInicioRealizado(projeto.getInicioPrevisto().plusDays(random.nextInt(0, 10)));
+            if (projeto.getInicioRealizado().isAfter(hoje)) {
+                projeto.setInicioRealizado(hoje);
+            }
+        } else if (perfil < 75) {
+            // Atrasado: término previsto no passado, ou início previsto no passado sem início realizado
+            projeto.setInicioPrevisto(hoje.minusDays(random.nextInt(30, 365)));
+            if (random.nextBoolean()) {
+                projeto.setTerminoPrevisto(hoje.minusDays(random.nextInt(1, 29)));
+                projeto.setInicioRealizado(projeto.getInicioPrevisto());
+            } else {
+                projeto.setTerminoPrevisto(hoje.plusDays(random.nextInt(1, 120)));
+            }
+        } else {
+            // Concluído
+            projeto.setInicioPrevisto(hoje.minusDays(random.nextInt(60, 720)));
+            projeto.setTerminoPrevisto(projeto.getInicioPrevisto().plusDays(random.nextInt(15, 240)));
+            projeto.setInicioRealizado(projeto.getInicioPrevisto());
+            LocalDate termino = projeto.getTerminoPrevisto().plusDays(random.nextInt(-10, 30));
+            projeto.setTerminoRealizado(termino.isAfter(hoje) ? hoje : termino);
+        }
+        return projeto;
+    }
+
+    /**
+     * Maioria dos projetos com 1 a 2 responsáveis, alguns sem nenhum e poucos com até 5
+     */
+    private static int quantidadeResponsaveis(SplittableRandom random) {
+        int sorteio = random.nextInt(100);
+        if (sorteio < 10) {
+            return 0;
+        }
+        if (sorteio < 50) {
+            return 1;
+        }
+        if (sorteio < 80) {
+            return 2;
+        }
+        return random.nextInt(3, MAXIMO_RESPONSAVEIS_POR_PROJETO + 1);
+    }
+
+    /**
+     * Distribuição enviesada: responsáveis do início da lista participam de muito mais projetos
+     */
+    private static long[] sortearResponsaveis(SplittableRandom random, long[] idsResponsaveis, int quantidade) {
+        int total = Math.min(quantidade, idsResponsaveis.length);
+        long[] sorteados = new long[total];
+        int preenchidos = 0;
+        while (preenchidos < total) {
+            double r = random.nextDouble();
+            long candidato = idsResponsaveis[(int) (idsResponsaveis.length * r * r)];
+            boolean repetido = false;
+            for (int i = 0; i < preenchidos; i++) {
+                if (sorteados[i] == candidato) {
+                    repetido = true;
+                    break;
+                }
+            }
+            if (!repetido) {
+                sorteados[preenchidos++] = candidato;
+            }
+        }
+        return sorteados;
+    }
+
+    private static Date data(LocalDate data) {
+        return data != null ? Date.valueOf(data) : null;
+    }
+}
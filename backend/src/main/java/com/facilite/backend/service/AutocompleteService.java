@@ -0,0 +1,19 @@
+package com.facilite.backend.service;
+
+import com.facilite.backend.dto.SugestaoAutocompleteResponse;
+import com.facilite.backend.dto.TipoAutocomplete;
+
+import java.util.List;
+
+public interface AutocompleteService {
+
+    /**
+     * Melhores sugestões do tipo para o termo, respondidas pelo índice em memória
+     */
+    List<SugestaoAutocompleteResponse> sugerir(String busca, TipoAutocomplete tipo, int limite);
+
+    /**
+     * Recarrega o índice a partir do banco
+     */
+    void reconstruir();
+}
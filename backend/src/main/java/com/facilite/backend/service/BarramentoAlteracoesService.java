@@ -0,0 +1,8 @@
+package com.facilite.backend.service;
+
+import com.facilite.backend.dto.EventoQuadro;
+
+public interface BarramentoAlteracoesService {
+
+    void publicar(EventoQuadro evento);
+}
@@ -0,0 +1,23 @@
+package com.facilite.backend.service;
+
+/**
+ * Invalidação do cache de segundo nível do Hibernate para alterações que o próprio Hibernate
+ * não enxerga: cascatas do banco, gravações via JDBC e alterações feitas em outras instâncias.
+ */
+public interface CacheEntidadesService {
+
+    /**
+     * Remove o responsável e as consultas que o trazem, depois de uma gravação feita fora do Hibernate
+     */
+    void invalidarResponsavel(Long id);
+
+    /**
+     * Além do responsável, remove as listas de responsáveis dos projetos, que o banco pode ter
+     * alterado por cascata ao excluí-lo
+     */
+    void invalidarResponsavelExcluido(Long id);
+
+    void invalidarProjeto(Long id);
+
+    void limpar();
+}
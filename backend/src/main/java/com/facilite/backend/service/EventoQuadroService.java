@@ -0,0 +1,11 @@
+package com.facilite.backend.service;
+
+import com.facilite.backend.dto.EventoQuadro;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public interface EventoQuadroService {
+
+    SseEmitter assinar();
+
+    void transmitir(EventoQuadro evento);
+}
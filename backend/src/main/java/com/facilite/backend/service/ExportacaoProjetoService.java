@@ -0,0 +1,11 @@
+package com.facilite.backend.service;
+
+import com.facilite.backend.dto.FormatoArquivo;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface ExportacaoProjetoService {
+
+    void exportar(FormatoArquivo formato, OutputStream saida) throws IOException;
+}
@@ -0,0 +1,12 @@
+package com.facilite.backend.service;
+
+import com.facilite.backend.dto.FormatoArquivo;
+import com.facilite.backend.dto.ResultadoImportacaoResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface ImportacaoProjetoService {
+
+    ResultadoImportacaoResponse importar(FormatoArquivo formato, InputStream entrada) throws IOException;
+}
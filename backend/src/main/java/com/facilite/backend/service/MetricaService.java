@@ -1,8 +1,13 @@
 package com.facilite.backend.service;
 
+import com.facilite.backend.model.MetricasCalculadas;
 import com.facilite.backend.model.Projeto;
 import com.facilite.backend.model.StatusProjeto;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
 public interface MetricaService {
 
     StatusProjeto calcularStatus(Projeto projeto);
@@ -10,6 +15,13 @@ public interface MetricaService {
     Integer calcularDiasAtraso(Projeto projeto);
 
     Double calcularPercentualTempoRestante(Projeto projeto);
+
+    LocalDate calcularProximaReavaliacao(Projeto projeto);
+
+    // Cálculo em uma passada com uma única data de referência (escritas, recálculo e importação)
+    MetricasCalculadas calcularMetricas(Projeto projeto, LocalDate referencia);
+
+    List<MetricasCalculadas> calcularMetricas(Collection<Projeto> projetos, LocalDate referencia);
     // Validações de transição
     void validarTransicaoDeIniciadoParaAtrasado(Projeto projeto);
 
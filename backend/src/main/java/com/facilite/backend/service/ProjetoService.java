@@ -2,24 +2,42 @@ package com.facilite.backend.service;
 
 
 
+import com.facilite.backend.dto.KanbanBoardResponse;
+import com.facilite.backend.dto.KanbanColunaResponse;
+import com.facilite.backend.dto.LoteProjetosRequest;
+import com.facilite.backend.dto.PaginaCursorResponse;
 import com.facilite.backend.dto.ProjetoRequest;
 import com.facilite.backend.dto.ProjetoResponse;
+import com.facilite.backend.dto.ResultadoLoteResponse;
+import com.facilite.backend.dto.ResultadoTransicaoLoteResponse;
+import com.facilite.backend.dto.TransicaoLoteRequest;
 import com.facilite.backend.model.Projeto;
 import com.facilite.backend.model.StatusProjeto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 import java.util.List;
 
 public interface ProjetoService {
 
     List<ProjetoResponse> listarTodos();
+    String impressaoColecao();
     ProjetoResponse buscarPorId(Long id);
     ProjetoResponse criarProjeto(ProjetoRequest request);
     ProjetoResponse atualizarProjeto(Long id, ProjetoRequest request);
+    ProjetoResponse atualizarProjeto(Long id, ProjetoRequest request, Long versaoEsperada);
     void excluirProjeto(Long id);
     List<ProjetoResponse> listarPorStatus(StatusProjeto status);
     ProjetoResponse transicionarStatus(Long id, StatusProjeto novoStatus);
+    ProjetoResponse transicionarStatus(Long id, StatusProjeto novoStatus, Long versaoEsperada);
+    ResultadoTransicaoLoteResponse transicionarStatusEmLote(TransicaoLoteRequest request, StatusProjeto novoStatus);
     void calcularEAtualizarMetricas(Projeto projeto);
     Page<ProjetoResponse> listarPaginado(Pageable pageable);
+    Page<ProjetoResponse> buscarPorNome(String busca, Pageable pageable);
+    PaginaCursorResponse<ProjetoResponse> listarPorCursor(String cursor, int tamanho, String ordenarPor,
+                                                          Sort.Direction direcao, boolean incluirTotal);
+    KanbanBoardResponse carregarBoard(int limite);
+    KanbanColunaResponse carregarColuna(StatusProjeto status, String cursor, int limite);
+    ResultadoLoteResponse executarLote(LoteProjetosRequest request);
 }
\ No newline at end of file
@@ -0,0 +1,12 @@
+package com.facilite.backend.service;
+
+import com.facilite.backend.dto.ResultadoRecalculoResponse;
+
+import java.util.Optional;
+
+public interface RecalculoMetricasService {
+
+    ResultadoRecalculoResponse recalcular();
+
+    Optional<ResultadoRecalculoResponse> ultimaExecucao();
+}
@@ -0,0 +1,16 @@
+package com.facilite.backend.service;
+
+import com.facilite.backend.dto.ResponsavelResponse;
+import com.facilite.backend.model.Responsavel;
+
+public interface ResponsavelCacheService {
+
+    /**
+     * Response em cache para o ID do responsável; na falta, converte a entidade e guarda o resultado
+     */
+    ResponsavelResponse obter(Responsavel responsavel);
+
+    void invalidar(Long id);
+
+    void limpar();
+}
@@ -1,10 +1,14 @@
 package com.facilite.backend.service;
 
 
+import com.facilite.backend.dto.PaginaCursorResponse;
 import com.facilite.backend.dto.ResponsavelRequest;
 import com.facilite.backend.dto.ResponsavelResponse;
+import com.facilite.backend.dto.ResponsavelUpsertRequest;
+import com.facilite.backend.dto.ResultadoUpsertResponsavel;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 import java.util.List;
 
@@ -12,10 +16,14 @@ public interface ResponsavelService {
 
 
     List<ResponsavelResponse> listarTodos();
+    String impressaoColecao();
     ResponsavelResponse buscarPorId(Long id);
     ResponsavelResponse criarResponsavel(ResponsavelRequest request);
     ResponsavelResponse atualizarResponsavel(Long id, ResponsavelRequest request);
+    ResultadoUpsertResponsavel upsertPorEmail(String email, ResponsavelUpsertRequest request);
     void excluirResponsavel(Long id);
     boolean existePorEmail(String email);
     Page<ResponsavelResponse> listarPaginado(Pageable pageable);
+    PaginaCursorResponse<ResponsavelResponse> listarPorCursor(String cursor, int tamanho, String ordenarPor,
+                                                              Sort.Direction direcao, boolean incluirTotal);
 }
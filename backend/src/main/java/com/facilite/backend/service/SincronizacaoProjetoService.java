@@ -0,0 +1,10 @@
+package com.facilite.backend.service;
+
+import com.facilite.backend.dto.AlteracoesProjetosResponse;
+
+public interface SincronizacaoProjetoService {
+
+    AlteracoesProjetosResponse buscarAlteracoes(String token, int limite);
+
+    int expurgarExclusoes();
+}
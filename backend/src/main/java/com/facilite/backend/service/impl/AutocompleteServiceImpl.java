@@ -0,0 +1,206 @@
+package com.facilite.backend.service.impl;
+
+import com.facilite.backend.dto.EventoQuadro;
+import com.facilite.backend.dto.ProjetoResponse;
+import com.facilite.backend.dto.ResponsavelResponse;
+import com.facilite.backend.dto.SugestaoAutocompleteResponse;
+import com.facilite.backend.dto.TipoAutocomplete;
+import com.facilite.backend.dto.TipoEventoQuadro;
+import com.facilite.backend.repository.NomeProjeto;
+import com.facilite.backend.repository.NomeResponsavel;
+import com.facilite.backend.repository.ProjetoRepository;
+import com.facilite.backend.repository.ResponsavelRepository;
+import com.facilite.backend.service.AutocompleteService;
+import com.facilite.backend.util.IndiceNgramas;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Autocomplete de projetos (nome) e responsáveis (nome e email) servido por um {@link IndiceNgramas}
+ * em memória, sem consultar o banco. O índice é carregado na subida e acompanha as criações,
+ * atualizações e exclusões pelos eventos do quadro depois do commit, inclusive os recebidos de
+ * outras instâncias; um RESINCRONIZAR (importação, reconexão do barramento) o recarrega inteiro.
+ */
+@Slf4j
+@Service
+public class AutocompleteServiceImpl implements AutocompleteService {
+
+    private final ProjetoRepository projetoRepository;
+    private final ResponsavelRepository responsavelRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int limiteMaximo;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private IndiceNgramas projetos = new IndiceNgramas();
+    private IndiceNgramas responsaveis = new IndiceNgramas();
+    // Alterações recebidas durante uma recarga, reaplicadas no índice novo antes da troca
+    private List<EventoQuadro> pendentes;
+
+    public AutocompleteServiceImpl(ProjetoRepository projetoRepository,
+                                   ResponsavelRepository responsavelRepository,
+                                   PlatformTransactionManager transactionManager,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${kanban.autocomplete.limite-maximo:50}") int limiteMaximo) {
+        this.projetoRepository = projetoRepository;
+        this.responsavelRepository = responsavelRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.limiteMaximo = limiteMaximo;
+        for (TipoAutocomplete tipo : TipoAutocomplete.values()) {
+            Gauge.builder("kanban.autocomplete.documentos", this, s -> s.tamanho(tipo))
+                    .tag("tipo", tipo.name().toLowerCase())
+                    .description("Itens no índice de autocomplete")
+                    .register(meterRegistry);
+        }
+    }
+
+    @Override
+    public List<SugestaoAutocompleteResponse> sugerir(String busca, TipoAutocomplete tipo, int limite) {
+        if (busca == null || busca.isBlank()) {
+            throw new IllegalArgumentException("Informe o termo de busca");
+        }
+        if (limite < 1 || limite > limiteMaximo) {
+            throw new IllegalArgumentException("O limite deve estar entre 1 e " + limiteMaximo);
+        }
+        List<IndiceNgramas.Documento> documentos;
+        lock.readLock().lock();
+        try {
+            documentos = indice(tipo).buscar(busca, limite);
+        } finally {
+            lock.readLock().unlock();
+        }
+        return documentos.stream()
+                .map(documento -> new SugestaoAutocompleteResponse(tipo, documento.id(), documento.rotulo(),
+                        tipo == TipoAutocomplete.RESPONSAVEL ? documento.campos().get(1) : null))
+                .toList();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void aoIniciar() {
+        reconstruir();
+    }
+
+    /**
+     * Monta os índices novos fora do lock e só troca no fim; uma recarga por vez
+     */
+    @Override
+    public synchronized void reconstruir() {
+        long inicio = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            pendentes = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        IndiceNgramas novosProjetos = new IndiceNgramas();
+        IndiceNgramas novosResponsaveis = new IndiceNgramas();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<NomeProjeto> nomes = projetoRepository.streamNomes()) {
+                    nomes.forEach(p -> novosProjetos.indexar(p.getId(), p.getNome()));
+                }
+                try (Stream<NomeResponsavel> nomes = responsavelRepository.streamNomes()) {
+                    nomes.forEach(r -> novosResponsaveis.indexar(r.getId(), r.getNome(), r.getEmail()));
+                }
+            });
+        } catch (RuntimeException e) {
+            // Mantém o índice atual, que continua recebendo as alterações
+            lock.writeLock().lock();
+            try {
+                pendentes = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+        novosProjetos.compactar();
+        novosResponsaveis.compactar();
+        lock.writeLock().lock();
+        try {
+            pendentes.forEach(evento -> aplicar(evento, novosProjetos, novosResponsaveis));
+            pendentes = null;
+            projetos = novosProjetos;
+            responsaveis = novosResponsaveis;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Índice de autocomplete carregado com {} projetos e {} responsáveis em {} ms",
+                novosProjetos.tamanho(), novosResponsaveis.tamanho(), System.currentTimeMillis() - inicio);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void aoAlterar(EventoQuadro evento) {
+        if (evento.getTipo() == TipoEventoQuadro.RESINCRONIZAR) {
+            // Fora da thread de quem publicou: a recarga lê as tabelas inteiras
+            Thread.ofVirtual().name("kanban-autocomplete-recarga").start(this::recarregar);
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            aplicar(evento, projetos, responsaveis);
+            if (pendentes != null) {
+                pendentes.add(evento);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Numa thread própria a exceção não chega a ninguém: registra e segue com o índice atual
+    void recarregar() {
+        try {
+            reconstruir();
+        } catch (RuntimeException e) {
+            log.error("Falha ao recarregar o índice de autocomplete; o índice atual continua em uso", e);
+        }
+    }
+
+    private static void aplicar(EventoQuadro evento, IndiceNgramas projetos, IndiceNgramas responsaveis) {
+        switch (evento.getTipo()) {
+            case PROJETO_CRIADO, PROJETO_ATUALIZADO -> {
+                ProjetoResponse projeto = evento.getProjeto();
+                if (projeto != null) {
+                    projetos.indexar(projeto.getId(), projeto.getNome());
+                }
+            }
+            case PROJETO_EXCLUIDO -> projetos.remover(evento.getId());
+            case RESPONSAVEL_CRIADO, RESPONSAVEL_ATUALIZADO -> {
+                ResponsavelResponse responsavel = evento.getResponsavel();
+                if (responsavel != null) {
+                    responsaveis.indexar(responsavel.getId(), responsavel.getNome(), responsavel.getEmail());
+                }
+            }
+            case RESPONSAVEL_EXCLUIDO -> responsaveis.remover(evento.getId());
+            default -> {
+            }
+        }
+    }
+
+    private IndiceNgramas indice(TipoAutocomplete tipo) {
+        return tipo == TipoAutocomplete.PROJETO ? projetos : responsaveis;
+    }
+
+    private int tamanho(TipoAutocomplete tipo) {
+        lock.readLock().lock();
+        try {
+            return indice(tipo).tamanho();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,352 @@
+package com.facilite.backend.service.impl;
+
+import com.facilite.backend.dto.EventoQuadro;
+import com.facilite.backend.dto.ProjetoResponse;
+import com.facilite.backend.dto.ResponsavelResponse;
+import com.facilite.backend.dto.TipoEventoQuadro;
+import com.facilite.backend.mapper.ProjetoMapper;
+import com.facilite.backend.mapper.ResponsavelMapper;
+import com.facilite.backend.model.StatusProjeto;
+import com.facilite.backend.repository.ProjetoRepository;
+import com.facilite.backend.repository.ResponsavelRepository;
+import com.facilite.backend.service.BarramentoAlteracoesService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Replica as alterações do quadro entre instâncias via PostgreSQL LISTEN/NOTIFY.
+ * Depois do commit, cada alteração vira uma mensagem compacta (tipo, ID, status anterior);
+ * rajadas são agrupadas e consolidadas por ID antes do NOTIFY. Uma conexão dedicada faz o LISTEN,
+ * recarrega em uma consulta os projetos e responsáveis citados e publica os eventos localmente
+ * marcados como remotos, o que os leva ao stream SSE sem ecoar de volta no barramento.
+ * A conexão é refeita com backoff; depois de uma queda as instâncias recebem RESINCRONIZAR.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "kanban.barramento.habilitado", havingValue = "true")
+public class BarramentoAlteracoesServiceImpl implements BarramentoAlteracoesService {
+
+    // O payload do NOTIFY tem limite de 8000 bytes; cada alteração ocupa menos de 70
+    static final int ALTERACOES_POR_NOTIFY = 100;
+
+    private static final Duration RECONEXAO_INICIAL = Duration.ofSeconds(1);
+    private static final int ESPERA_NOTIFICACAO_MS = 10_000;
+
+    private final String origem = UUID.randomUUID().toString();
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcConnectionDetails conexaoBanco;
+    private final TransactionTemplate transactionTemplate;
+    private final ProjetoRepository projetoRepository;
+    private final ResponsavelRepository responsavelRepository;
+    private final ProjetoMapper projetoMapper;
+    private final ResponsavelMapper responsavelMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final String canal;
+    private final Duration intervalo;
+    private final Duration reconexaoMaxima;
+    private final BlockingQueue<Alteracao> pendentes;
+    private final Counter enviadasCounter;
+    private final Counter recebidasCounter;
+    private final Counter reconexoesCounter;
+
+    private volatile boolean ativo = true;
+    private volatile boolean transbordou;
+    private volatile Connection conexaoEscuta;
+    private Thread emissor;
+    private Thread ouvinte;
+
+    public BarramentoAlteracoesServiceImpl(JdbcTemplate jdbcTemplate,
+                                           JdbcConnectionDetails conexaoBanco,
+                                           PlatformTransactionManager transactionManager,
+                                           ProjetoRepository projetoRepository,
+                                           ResponsavelRepository responsavelRepository,
+                                           ProjetoMapper projetoMapper,
+                                           ResponsavelMapper responsavelMapper,
+                                           ApplicationEventPublisher eventPublisher,
+                                           ObjectMapper objectMapper,
+                                           MeterRegistry meterRegistry,
+                                           @Value("${kanban.barramento.canal:kanban_alteracoes}") String canal,
+                                           @Value("${kanban.barramento.intervalo:50ms}") Duration intervalo,
+                                           @Value("${kanban.barramento.reconexao-maxima:30s}") Duration reconexaoMaxima,
+                                           @Value("${kanban.barramento.capacidade-fila:10000}") int capacidadeFila) {
+        if (!canal.matches("[a-z_][a-z0-9_]*")) {
+            throw new IllegalArgumentException("Canal do barramento inválido: " + canal);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.conexaoBanco = conexaoBanco;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.projetoRepository = projetoRepository;
+        this.responsavelRepository = responsavelRepository;
+        this.projetoMapper = projetoMapper;
+        this.responsavelMapper = responsavelMapper;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.canal = canal;
+        this.intervalo = intervalo;
+        this.reconexaoMaxima = reconexaoMaxima;
+        this.pendentes = new ArrayBlockingQueue<>(capacidadeFila);
+        this.enviadasCounter = Counter.builder("kanban.barramento.notificacoes.enviadas")
+                .description("NOTIFY emitidos com alterações desta instância")
+                .register(meterRegistry);
+        this.recebidasCounter = Counter.builder("kanban.barramento.notificacoes.recebidas")
+                .description("Notificações de outras instâncias recebidas pelo LISTEN")
+                .register(meterRegistry);
+        this.reconexoesCounter = Counter.builder("kanban.barramento.reconexoes")
+                .description("Reconexões da conexão de LISTEN")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void iniciar() {
+        emissor = Thread.ofVirtual().name("kanban-barramento-emissor").start(this::emitir);
+        ouvinte = Thread.ofVirtual().name("kanban-barramento-ouvinte").start(this::escutar);
+    }
+
+    @PreDestroy
+    void encerrar() {
+        ativo = false;
+        emissor.interrupt();
+        ouvinte.interrupt();
+        // getNotifications não responde a interrupção; fechar a conexão libera o ouvinte
+        Connection conexao = conexaoEscuta;
+        if (conexao != null) {
+            try {
+                conexao.close();
+            } catch (SQLException e) {
+                log.debug("Falha ao fechar a conexão de LISTEN: {}", e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void publicar(EventoQuadro evento) {
+        if (evento.isRemoto()) {
+            return;
+        }
+        // Fila cheia (banco lento ou fora do ar): as outras instâncias recarregam tudo em vez de perder alterações
+        if (!pendentes.offer(new Alteracao(evento.getTipo(), evento.getId(), evento.getStatusAnterior()))) {
+            transbordou = true;
+        }
+    }
+
+    private void emitir() {
+        while (ativo) {
+            try {
+                Alteracao primeira = pendentes.take();
+                // Espera a rajada terminar para enviar tudo junto
+                Thread.sleep(intervalo);
+                List<Alteracao> lote = new ArrayList<>();
+                lote.add(primeira);
+                pendentes.drainTo(lote);
+                if (transbordou) {
+                    transbordou = false;
+                    lote.add(Alteracao.RESINCRONIZAR);
+                }
+                notificar(consolidar(lote));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                // O lote se perdeu: quando o banco voltar, as outras instâncias recarregam tudo
+                log.warn("Falha ao publicar alterações no barramento: {}", e.getMessage());
+                try {
+                    Thread.sleep(RECONEXAO_INICIAL);
+                } catch (InterruptedException interrompido) {
+                    return;
+                }
+                if (!pendentes.offer(Alteracao.RESINCRONIZAR)) {
+                    transbordou = true;
+                }
+            }
+        }
+    }
+
+    private void notificar(List<Alteracao> alteracoes) {
+        for (int inicio = 0; inicio < alteracoes.size(); inicio += ALTERACOES_POR_NOTIFY) {
+            List<Alteracao> parte = alteracoes.subList(inicio, Math.min(inicio + ALTERACOES_POR_NOTIFY, alteracoes.size()));
+            jdbcTemplate.queryForList("SELECT pg_notify(?, ?)", canal, serializar(new Mensagem(origem, parte)));
+            enviadasCounter.increment();
+        }
+    }
+
+    private void escutar() {
+        Duration espera = RECONEXAO_INICIAL;
+        boolean reconectando = false;
+        while (ativo) {
+            // Fora do pool: a conexão fica presa ao LISTEN enquanto a instância estiver no ar
+            try (Connection conexao = DriverManager.getConnection(conexaoBanco.getJdbcUrl(),
+                    conexaoBanco.getUsername(), conexaoBanco.getPassword())) {
+                conexaoEscuta = conexao;
+                try (Statement statement = conexao.createStatement()) {
+                    statement.execute("LISTEN " + canal);
+                }
+                if (reconectando) {
+                    // Notificações emitidas enquanto a conexão estava caída se perderam
+                    reconexoesCounter.increment();
+                    eventPublisher.publishEvent(EventoQuadro.resincronizar().comoRemoto());
+                }
+                espera = RECONEXAO_INICIAL;
+                reconectando = true;
+                receber(conexao.unwrap(PGConnection.class));
+            } catch (SQLException e) {
+                if (!ativo) {
+                    return;
+                }
+                log.warn("Conexão de LISTEN do barramento perdida, nova tentativa em {}: {}", espera, e.getMessage());
+                try {
+                    Thread.sleep(espera);
+                } catch (InterruptedException interrompido) {
+                    return;
+                }
+                espera = espera.multipliedBy(2).compareTo(reconexaoMaxima) > 0 ? reconexaoMaxima : espera.multipliedBy(2);
+                reconectando = true;
+            }
+        }
+    }
+
+    private void receber(PGConnection conexao) throws SQLException {
+        while (ativo) {
+            PGNotification[] notificacoes = conexao.getNotifications(ESPERA_NOTIFICACAO_MS);
+            if (notificacoes == null || notificacoes.length == 0) {
+                continue;
+            }
+            // Junta o que chegar logo em seguida para recarregar os registros em uma única consulta
+            List<Alteracao> lote = new ArrayList<>();
+            while (notificacoes != null && notificacoes.length > 0) {
+                for (PGNotification notificacao : notificacoes) {
+                    Mensagem mensagem = desserializar(notificacao.getParameter());
+                    if (mensagem != null && !origem.equals(mensagem.origem())) {
+                        recebidasCounter.increment();
+                        lote.addAll(mensagem.alteracoes());
+                    }
+                }
+                notificacoes = conexao.getNotifications((int) intervalo.toMillis());
+            }
+            if (!lote.isEmpty()) {
+                despachar(consolidar(lote));
+            }
+        }
+    }
+
+    private void despachar(List<Alteracao> alteracoes) {
+        List<Long> idsProjetos = alteracoes.stream()
+                .filter(a -> a.tipo().name().startsWith("PROJETO_") && a.tipo() != TipoEventoQuadro.PROJETO_EXCLUIDO)
+                .map(Alteracao::id)
+                .toList();
+        List<Long> idsResponsaveis = alteracoes.stream()
+                .filter(a -> a.tipo() == TipoEventoQuadro.RESPONSAVEL_CRIADO || a.tipo() == TipoEventoQuadro.RESPONSAVEL_ATUALIZADO)
+                .map(Alteracao::id)
+                .toList();
+
+        List<EventoQuadro> eventos = transactionTemplate.execute(status -> {
+            Map<Long, ProjetoResponse> projetos = idsProjetos.isEmpty() ? Map.of()
+                    : projetoRepository.findByIdIn(idsProjetos).stream()
+                    .map(projetoMapper::toResponse)
+                    .collect(Collectors.toMap(ProjetoResponse::getId, Function.identity()));
+            Map<Long, ResponsavelResponse> responsaveis = idsResponsaveis.isEmpty() ? Map.of()
+                    : responsavelRepository.findAllById(idsResponsaveis).stream()
+                    .map(responsavelMapper::toResponse)
+                    .collect(Collectors.toMap(ResponsavelResponse::getId, Function.identity()));
+
+            List<EventoQuadro> resultado = new ArrayList<>();
+            for (Alteracao alteracao : alteracoes) {
+                EventoQuadro evento = switch (alteracao.tipo()) {
+                    case PROJETO_EXCLUIDO -> EventoQuadro.projetoExcluido(alteracao.id(), alteracao.statusAnterior());
+                    case RESPONSAVEL_EXCLUIDO -> EventoQuadro.responsavelExcluido(alteracao.id());
+                    case RESINCRONIZAR -> EventoQuadro.resincronizar();
+                    case RESPONSAVEL_CRIADO, RESPONSAVEL_ATUALIZADO -> responsaveis.containsKey(alteracao.id())
+                            ? EventoQuadro.responsavel(alteracao.tipo(), responsaveis.get(alteracao.id())) : null;
+                    // Ausente: foi excluído depois, e a exclusão chega em outra notificação
+                    default -> projetos.containsKey(alteracao.id())
+                            ? EventoQuadro.projeto(alteracao.tipo(), alteracao.statusAnterior(), projetos.get(alteracao.id()))
+                            : null;
+                };
+                if (evento != null) {
+                    resultado.add(evento.comoRemoto());
+                }
+            }
+            return resultado;
+        });
+        eventos.forEach(eventPublisher::publishEvent);
+    }
+
+    /**
+     * Uma alteração por registro, na ordem da última ocorrência: mantém o status anterior da primeira
+     * e o tipo da última. Um RESINCRONIZAR torna as demais desnecessárias.
+     */
+    static List<Alteracao> consolidar(Collection<Alteracao> alteracoes) {
+        Map<String, Alteracao> porRegistro = new LinkedHashMap<>();
+        for (Alteracao alteracao : alteracoes) {
+            if (alteracao.tipo() == TipoEventoQuadro.RESINCRONIZAR) {
+                return List.of(Alteracao.RESINCRONIZAR);
+            }
+            String chave = (alteracao.tipo().name().startsWith("PROJETO_") ? "P" : "R") + alteracao.id();
+            Alteracao anterior = porRegistro.remove(chave);
+            porRegistro.put(chave, anterior == null ? alteracao
+                    : new Alteracao(alteracao.tipo(), alteracao.id(), anterior.statusAnterior()));
+        }
+        return new ArrayList<>(porRegistro.values());
+    }
+
+    private String serializar(Mensagem mensagem) {
+        try {
+            return objectMapper.writeValueAsString(mensagem);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao serializar mensagem do barramento", e);
+        }
+    }
+
+    private Mensagem desserializar(String payload) {
+        try {
+            return objectMapper.readValue(payload, Mensagem.class);
+        } catch (JsonProcessingException e) {
+            log.warn("Mensagem do barramento ignorada: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    record Alteracao(TipoEventoQuadro tipo, Long id, StatusProjeto statusAnterior) {
+
+        static final Alteracao RESINCRONIZAR = new Alteracao(TipoEventoQuadro.RESINCRONIZAR, null, null);
+    }
+
+    record Mensagem(String origem, List<Alteracao> alteracoes) {
+    }
+}
@@ -0,0 +1,69 @@
+package com.facilite.backend.service.impl;
+
+import com.facilite.backend.dto.EventoQuadro;
+import com.facilite.backend.model.Projeto;
+import com.facilite.backend.model.Responsavel;
+import com.facilite.backend.service.CacheEntidadesService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Service
+public class CacheEntidadesServiceImpl implements CacheEntidadesService {
+
+    static final String REGIAO_PROJETOS_POR_STATUS = "projetos-por-status";
+    private static final String COLECAO_RESPONSAVEIS = Projeto.class.getName() + ".responsaveis";
+
+    private final Cache cache;
+
+    public CacheEntidadesServiceImpl(EntityManagerFactory entityManagerFactory) {
+        this.cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    }
+
+    @Override
+    public void invalidarResponsavel(Long id) {
+        cache.evictEntityData(Responsavel.class, id);
+        cache.evictQueryRegion(REGIAO_PROJETOS_POR_STATUS);
+    }
+
+    @Override
+    public void invalidarResponsavelExcluido(Long id) {
+        invalidarResponsavel(id);
+        cache.evictCollectionData(COLECAO_RESPONSAVEIS);
+    }
+
+    @Override
+    public void invalidarProjeto(Long id) {
+        cache.evictCollectionData(COLECAO_RESPONSAVEIS, id);
+        cache.evictQueryRegion(REGIAO_PROJETOS_POR_STATUS);
+    }
+
+    @Override
+    public void limpar() {
+        cache.evictAllRegions();
+    }
+
+    /**
+     * Alterações locais feitas pelo Hibernate já atualizam o cache; este listener cobre as que
+     * chegam de outras instâncias pelo barramento e as gravações via JDBC: upsert de responsáveis,
+     * invalidado de novo após o commit, e cargas em massa (RESINCRONIZAR)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void aoAlterar(EventoQuadro evento) {
+        switch (evento.getTipo()) {
+            case RESPONSAVEL_EXCLUIDO -> invalidarResponsavelExcluido(evento.getId());
+            case RESPONSAVEL_ATUALIZADO -> invalidarResponsavel(evento.getId());
+            case PROJETO_CRIADO, PROJETO_ATUALIZADO, PROJETO_TRANSICIONADO, PROJETO_EXCLUIDO -> {
+                if (evento.isRemoto()) {
+                    invalidarProjeto(evento.getId());
+                }
+            }
+            case RESINCRONIZAR -> limpar();
+            default -> {
+            }
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.facilite.backend.service.impl;
+
+import com.facilite.backend.dto.EventoQuadro;
+import com.facilite.backend.service.EventoQuadroService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Distribui as alterações do quadro aos clientes conectados em GET /api/projetos/stream.
+ * Os eventos só saem depois do commit, e cada cliente tem uma fila limitada drenada por
+ * uma virtual thread própria: um consumidor lento nunca bloqueia quem publica nem os demais.
+ * Quando a fila enche, os eventos pendentes são trocados por um único RESINCRONIZAR.
+ */
+@Slf4j
+@Service
+public class EventoQuadroServiceImpl implements EventoQuadroService {
+
+    private final Set<Assinante> assinantes = ConcurrentHashMap.newKeySet();
+    private final Duration timeout;
+    private final Duration heartbeat;
+    private final int capacidadeFila;
+    private final Counter resincronizacoesCounter;
+
+    public EventoQuadroServiceImpl(MeterRegistry meterRegistry,
+                                   @Value("${kanban.stream.timeout:30m}") Duration timeout,
+                                   @Value("${kanban.stream.heartbeat:25s}") Duration heartbeat,
+                                   @Value("${kanban.stream.capacidade-fila:512}") int capacidadeFila) {
+        this.timeout = timeout;
+        this.heartbeat = heartbeat;
+        this.capacidadeFila = capacidadeFila;
+        Gauge.builder("kanban.stream.assinantes", assinantes, Set::size)
+                .description("Clientes conectados ao stream do quadro")
+                .register(meterRegistry);
+        this.resincronizacoesCounter = Counter.builder("kanban.stream.resincronizacoes")
+                .description("Filas de clientes lentos descartadas e trocadas por RESINCRONIZAR")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public SseEmitter assinar() {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Assinante assinante = new Assinante(emitter, capacidadeFila);
+        assinantes.add(assinante);
+        emitter.onCompletion(() -> encerrar(assinante));
+        emitter.onTimeout(() -> encerrar(assinante));
+        emitter.onError(erro -> encerrar(assinante));
+        assinante.transmissor = Thread.ofVirtual().name("kanban-stream").start(() -> drenar(assinante));
+        return emitter;
+    }
+
+    // Sem transação ativa (importação, recálculo) o evento sai na hora
+    @Override
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void transmitir(EventoQuadro evento) {
+        for (Assinante assinante : assinantes) {
+            if (!assinante.enfileirar(evento)) {
+                resincronizacoesCounter.increment();
+            }
+        }
+    }
+
+    @PreDestroy
+    void encerrarTodos() {
+        assinantes.forEach(assinante -> assinante.emitter.complete());
+    }
+
+    private void drenar(Assinante assinante) {
+        try {
+            // Envia algo de imediato para o cliente receber os cabeçalhos e abrir o EventSource
+            assinante.emitter.send(SseEmitter.event().comment("conectado"));
+            while (assinantes.contains(assinante)) {
+                EventoQuadro evento = assinante.fila.poll(heartbeat.toMillis(), TimeUnit.MILLISECONDS);
+                if (evento == null) {
+                    assinante.emitter.send(SseEmitter.event().comment("ping"));
+                } else {
+                    assinante.emitter.send(SseEmitter.event().data(evento, MediaType.APPLICATION_JSON));
+                }
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Cliente do stream desconectado: {}", e.getMessage());
+            encerrar(assinante);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void encerrar(Assinante assinante) {
+        if (assinantes.remove(assinante)) {
+            assinante.emitter.complete();
+            if (assinante.transmissor != null && assinante.transmissor != Thread.currentThread()) {
+                assinante.transmissor.interrupt();
+            }
+        }
+    }
+
+    static final class Assinante {
+
+        final SseEmitter emitter;
+        final BlockingQueue<EventoQuadro> fila;
+        volatile Thread transmissor;
+
+        Assinante(SseEmitter emitter, int capacidade) {
+            this.emitter = emitter;
+            this.fila = new ArrayBlockingQueue<>(capacidade);
+        }
+
+        /**
+         * Retorna false quando a fila estava cheia e foi trocada por um RESINCRONIZAR
+         */
+        synchronized boolean enfileirar(EventoQuadro evento) {
+            if (fila.offer(evento)) {
+                return true;
+            }
+            fila.clear();
+            fila.offer(EventoQuadro.resincronizar());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package com.facilite.backend.service.impl;
+
+import com.facilite.backend.dto.FormatoArquivo;
+import com.facilite.backend.dto.ProjetoResponse;
+import com.facilite.backend.dto.ResponsavelResponse;
+import com.facilite.backend.model.StatusProjeto;
+import com.facilite.backend.service.ExportacaoProjetoService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.stream.Collectors;
+
+/**
+ * Exporta todos os projetos em uma única consulta com fetch size, escrevendo cada projeto
+ * assim que suas linhas terminam de chegar. O JOIN com responsáveis vem ordenado por projeto,
+ * então só o projeto corrente fica em memória e não há consulta por linha.
+ */
+@Service
+public class ExportacaoProjetoServiceImpl implements ExportacaoProjetoService {
+
+    private static final String SELECT_EXPORTACAO = """
+            SELECT p.id, p.nome, p.status, p.inicio_previsto, p.termino_previsto, p.inicio_realizado,
+                   p.termino_realizado, p.dias_atraso, p.percentual_tempo_restante, p.created_at, p.updated_at,
+                   p.versao,
+                   r.id AS responsavel_id, r.nome AS responsavel_nome, r.email AS responsavel_email,
+                   r.cargo AS responsavel_cargo
+            FROM vw_projetos_metricas p
+            LEFT JOIN projeto_responsavel pr ON pr.projeto_id = p.id
+            LEFT JOIN responsaveis r ON r.id = pr.responsavel_id
+            ORDER BY p.id, r.id
+            """;
+
+    private static final String CABECALHO_CSV = "id,nome,status,inicio_previsto,termino_previsto,inicio_realizado,"
+            + "termino_realizado,dias_atraso,percentual_tempo_restante,responsaveis,responsavel_ids";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter projetoWriter;
+
+    public ExportacaoProjetoServiceImpl(DataSource dataSource,
+                                        PlatformTransactionManager transactionManager,
+                                        ObjectMapper objectMapper,
+                                        @Value("${kanban.exportacao.fetch-size:1000}") int fetchSize) {
+        // PostgreSQL só usa cursor (e respeita o fetch size) com autocommit desligado, daí a transação
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.objectMapper = objectMapper;
+        this.projetoWriter = objectMapper.writerFor(ProjetoResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    @Override
+    public void exportar(FormatoArquivo formato, OutputStream saida) throws IOException {
+        Escritor escritor = formato == FormatoArquivo.CSV ? new EscritorCsv(saida) : new EscritorNdjson(saida);
+        escritor.iniciar();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                AgrupadorProjetos agrupador = new AgrupadorProjetos(escritor);
+                jdbcTemplate.query(SELECT_EXPORTACAO, agrupador);
+                agrupador.emitirAtual();
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        escritor.finalizar();
+    }
+
+    /**
+     * Junta as linhas consecutivas do mesmo projeto e entrega o projeto completo ao escritor
+     */
+    private static final class AgrupadorProjetos implements RowCallbackHandler {
+
+        private final Escritor escritor;
+        private ProjetoResponse atual;
+
+        private AgrupadorProjetos(Escritor escritor) {
+            this.escritor = escritor;
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            long id = rs.getLong("id");
+            if (atual == null || atual.getId() != id) {
+                emitirAtual();
+                atual = projeto(rs, id);
+            }
+            long responsavelId = rs.getLong("responsavel_id");
+            if (!rs.wasNull()) {
+                atual.getResponsaveis().add(new ResponsavelResponse(responsavelId, rs.getString("responsavel_nome"),
+                        rs.getString("responsavel_email"), rs.getString("responsavel_cargo")));
+            }
+        }
+
+        private void emitirAtual() {
+            if (atual == null) {
+                return;
+            }
+            try {
+                escritor.escrever(atual);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            atual = null;
+        }
+
+        private static ProjetoResponse projeto(ResultSet rs, long id) throws SQLException {
+            ProjetoResponse projeto = new ProjetoResponse(id, rs.getString("nome"),
+                    StatusProjeto.valueOf(rs.getString("status")), rs.getInt("dias_atraso"),
+                    rs.getDouble("percentual_tempo_restante"));
+            projeto.setResponsaveis(new LinkedHashSet<>());
+            projeto.setInicioPrevisto(data(rs.getDate("inicio_previsto")));
+            projeto.setTerminoPrevisto(data(rs.getDate("termino_previsto")));
+            projeto.setInicioRealizado(data(rs.getDate("inicio_realizado")));
+            projeto.setTerminoRealizado(data(rs.getDate("termino_realizado")));
+            projeto.setCreatedAt(dataHora(rs.getTimestamp("created_at")));
+            projeto.setUpdatedAt(dataHora(rs.getTimestamp("updated_at")));
+            projeto.setVersao(rs.getLong("versao"));
+            return projeto;
+        }
+    }
+
+    private interface Escritor {
+
+        void iniciar() throws IOException;
+
+        void escrever(ProjetoResponse projeto) throws IOException;
+
+        void finalizar() throws IOException;
+    }
+
+    private static final class EscritorCsv implements Escritor {
+
+        private final Writer writer;
+
+        private EscritorCsv(OutputStream saida) {
+            this.writer = new BufferedWriter(new OutputStreamWriter(saida, StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void iniciar() throws IOException {
+            writer.write(CABECALHO_CSV);
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void escrever(ProjetoResponse projeto) throws IOException {
+            writer.write(String.valueOf(projeto.getId()));
+            writer.write(',');
+            writer.write(campo(projeto.getNome()));
+            writer.write(',');
+            writer.write(projeto.getStatus().name());
+            writer.write(',');
+            writer.write(campo(projeto.getInicioPrevisto()));
+            writer.write(',');
+            writer.write(campo(projeto.getTerminoPrevisto()));
+            writer.write(',');
+            writer.write(campo(projeto.getInicioRealizado()));
+            writer.write(',');
+            writer.write(campo(projeto.getTerminoRealizado()));
+            writer.write(',');
+            writer.write(String.valueOf(projeto.getDiasAtraso()));
+            writer.write(',');
+            writer.write(String.valueOf(projeto.getPercentualTempoRestante()));
+            writer.write(',');
+            writer.write(campo(projeto.getResponsaveis().stream()
+                    .map(ResponsavelResponse::getNome)
+                    .collect(Collectors.joining("; "))));
+            writer.write(',');
+            // IDs para a reimportação, que ignora os nomes
+            writer.write(projeto.getResponsaveis().stream()
+                    .map(responsavel -> String.valueOf(responsavel.getId()))
+                    .collect(Collectors.joining(";")));
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void finalizar() throws IOException {
+            writer.flush();
+        }
+
+        // RFC 4180: aspas apenas quando o valor tem separador, aspas ou quebra de linha
+        private static String campo(Object valor) {
+            if (valor == null) {
+                return "";
+            }
+            String texto = valor.toString();
+            if (texto.indexOf(',') < 0 && texto.indexOf('"') < 0 && texto.indexOf('\n') < 0
+                    && texto.indexOf('\r') < 0) {
+                return texto;
+            }
+            return '"' + texto.replace("\"", "\"\"") + '"';
+        }
+    }
+
+    private final class EscritorNdjson implements Escritor {
+
+        private final JsonGenerator gerador;
+
+        private EscritorNdjson(OutputStream saida) throws IOException {
+            this.gerador = objectMapper.getFactory().createGenerator(saida)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // Uma linha por projeto: sem o espaço padrão entre valores raiz
+            this.gerador.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void iniciar() {
+        }
+
+        @Override
+        public void escrever(ProjetoResponse projeto) throws IOException {
+            projetoWriter.writeValue(gerador, projeto);
+            gerador.writeRaw('\n');
+        }
+
+        @Override
+        public void finalizar() throws IOException {
+            gerador.flush();
+        }
+    }
+
+    private static LocalDate data(Date data) {
+        return data != null ? data.toLocalDate() : null;
+    }
+
+    private static LocalDateTime dataHora(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
@@ -0,0 +1,491 @@
+package com.facilite.backend.service.impl;
+
+import com.facilite.backend.dto.ErroImportacaoResponse;
+import com.facilite.backend.dto.EventoQuadro;
+import com.facilite.backend.dto.FormatoArquivo;
+import com.facilite.backend.dto.ProjetoRequest;
+import com.facilite.backend.dto.ResultadoImportacaoResponse;
+import com.facilite.backend.mapper.ProjetoMapper;
+import com.facilite.backend.model.MetricasCalculadas;
+import com.facilite.backend.model.Projeto;
+import com.facilite.backend.repository.AlocadorIds;
+import com.facilite.backend.repository.ImpressaoColecoesRepository;
+import com.facilite.backend.repository.ProjetoRepository;
+import com.facilite.backend.repository.ResponsavelRepository;
+import com.facilite.backend.service.ImportacaoProjetoService;
+import com.facilite.backend.service.MetricaService;
+import com.facilite.backend.util.LeitorCsv;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.IntToLongFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Importa projetos de CSV ou NDJSON lendo o corpo de forma incremental, em lotes de
+ * kanban.importacao.tamanho-lote registros. Cada lote resolve os IDs de responsáveis ainda
+ * não vistos em uma consulta, calcula as métricas de uma vez e grava projetos (com IDs
+ * reservados da sequência) e vínculos via JDBC batch na mesma transação. Registros inválidos são rejeitados sem interromper a carga.
+ * Registros com o id de um projeto existente o atualizam e substituem seus vínculos, de modo que
+ * reimportar uma exportação (CSV ou NDJSON) não duplica projetos nem perde responsáveis.
+ */
+@Service
+public class ImportacaoProjetoServiceImpl implements ImportacaoProjetoService {
+
+    private static final String INSERT_PROJETO = """
+            INSERT INTO projetos (id, nome, status, inicio_previsto, termino_previsto, inicio_realizado,
+                                  termino_realizado, dias_atraso, percentual_tempo_restante, proxima_reavaliacao,
+                                  created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String UPDATE_PROJETO = """
+            UPDATE projetos SET nome = ?, status = ?, inicio_previsto = ?, termino_previsto = ?, inicio_realizado = ?,
+                                termino_realizado = ?, dias_atraso = ?, percentual_tempo_restante = ?,
+                                proxima_reavaliacao = ?, updated_at = ?, versao = versao + 1
+            WHERE id = ?
+            """;
+
+    private static final String INSERT_VINCULO =
+            "INSERT INTO projeto_responsavel (projeto_id, responsavel_id) VALUES (?, ?)";
+
+    private static final String DELETE_VINCULOS = "DELETE FROM projeto_responsavel WHERE projeto_id = ?";
+
+    // Limite de parâmetros por consulta IN ao resolver responsáveis
+    private static final int TAMANHO_CONSULTA_IDS = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ResponsavelRepository responsavelRepository;
+    private final ProjetoRepository projetoRepository;
+    private final AlocadorIds alocadorIds;
+    private final ImpressaoColecoesRepository impressaoColecoesRepository;
+    private final MetricaService metricaService;
+    private final ProjetoMapper projetoMapper;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int tamanhoLote;
+    private final int maximoErros;
+
+    public ImportacaoProjetoServiceImpl(JdbcTemplate jdbcTemplate,
+                                        TransactionTemplate transactionTemplate,
+                                        ResponsavelRepository responsavelRepository,
+                                        ProjetoRepository projetoRepository,
+                                        AlocadorIds alocadorIds,
+                                        ImpressaoColecoesRepository impressaoColecoesRepository,
+                                        MetricaService metricaService,
+                                        ProjetoMapper projetoMapper,
+                                        ObjectMapper objectMapper,
+                                        Validator validator,
+                                        ApplicationEventPublisher eventPublisher,
+                                        @Value("${kanban.importacao.tamanho-lote:1000}") int tamanhoLote,
+                                        @Value("${kanban.importacao.max-erros:1000}") int maximoErros) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.responsavelRepository = responsavelRepository;
+        this.projetoRepository = projetoRepository;
+        this.alocadorIds = alocadorIds;
+        this.impressaoColecoesRepository = impressaoColecoesRepository;
+        this.metricaService = metricaService;
+        this.projetoMapper = projetoMapper;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.eventPublisher = eventPublisher;
+        this.tamanhoLote = tamanhoLote;
+        this.maximoErros = maximoErros;
+    }
+
+    @Override
+    public ResultadoImportacaoResponse importar(FormatoArquivo formato, InputStream entrada) throws IOException {
+        long inicio = System.nanoTime();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(entrada, StandardCharsets.UTF_8));
+        FonteRegistros fonte = formato == FormatoArquivo.CSV ? new FonteCsv(new LeitorCsv(reader)) : new FonteNdjson(reader);
+        Importacao importacao = new Importacao(LocalDate.now());
+
+        List<Registro> lote = new ArrayList<>(tamanhoLote);
+        for (Registro registro = fonte.proximo(); registro != null; registro = fonte.proximo()) {
+            lote.add(registro);
+            if (lote.size() == tamanhoLote) {
+                processarLote(lote, importacao);
+                lote.clear();
+            }
+        }
+        if (!lote.isEmpty()) {
+            processarLote(lote, importacao);
+        }
+        if (importacao.importados > 0 || importacao.atualizados > 0) {
+            // Uma importação pode trazer milhares de cartões: os quadros abertos recarregam em vez de receber um evento por projeto
+            eventPublisher.publishEvent(EventoQuadro.resincronizar());
+        }
+
+        return new ResultadoImportacaoResponse(importacao.processados, importacao.importados, importacao.atualizados,
+                importacao.rejeitados,
+                (System.nanoTime() - inicio) / 1_000_000, importacao.erros);
+    }
+
+    private void processarLote(List<Registro> lote, Importacao importacao) {
+        importacao.processados += lote.size();
+        resolverResponsaveis(lote, importacao);
+        Set<Long> existentes = projetosExistentes(lote);
+
+        List<Registro> novos = new ArrayList<>(lote.size());
+        List<Registro> atualizados = new ArrayList<>();
+        for (Registro registro : lote) {
+            String erro = registro.erro() != null ? registro.erro() : validar(registro, importacao);
+            if (erro != null) {
+                importacao.rejeitar(registro.linha(), erro);
+                continue;
+            }
+            (registro.id() != null && existentes.contains(registro.id()) ? atualizados : novos).add(registro);
+        }
+        if (novos.isEmpty() && atualizados.isEmpty()) {
+            return;
+        }
+
+        List<Projeto> projetosNovos = novos.stream().map(r -> projetoMapper.toEntity(r.request())).toList();
+        List<Projeto> projetosAtualizados = atualizados.stream().map(r -> projetoMapper.toEntity(r.request())).toList();
+        List<MetricasCalculadas> metricasNovos = metricaService.calcularMetricas(projetosNovos, importacao.referencia);
+        List<MetricasCalculadas> metricasAtualizados =
+                metricaService.calcularMetricas(projetosAtualizados, importacao.referencia);
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Object[]> vinculos = new ArrayList<>();
+            if (!novos.isEmpty()) {
+                long[] ids = inserirProjetos(projetosNovos, metricasNovos);
+                adicionarVinculos(vinculos, novos, i -> ids[i]);
+            }
+            if (!atualizados.isEmpty()) {
+                atualizarProjetos(atualizados, projetosAtualizados, metricasAtualizados);
+                jdbcTemplate.batchUpdate(DELETE_VINCULOS,
+                        atualizados.stream().map(r -> new Object[]{r.id()}).toList());
+                adicionarVinculos(vinculos, atualizados, i -> atualizados.get(i).id());
+            }
+            if (!vinculos.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_VINCULO, vinculos);
+            }
+            impressaoColecoesRepository.registrarAlteracaoProjetos();
+        });
+        importacao.importados += novos.size();
+        importacao.atualizados += atualizados.size();
+    }
+
+    private static void adicionarVinculos(List<Object[]> vinculos, List<Registro> registros, IntToLongFunction projetoId) {
+        for (int i = 0; i < registros.size(); i++) {
+            Set<Long> responsavelIds = registros.get(i).request().getResponsavelIds();
+            if (responsavelIds != null) {
+                for (Long responsavelId : responsavelIds) {
+                    vinculos.add(new Object[]{projetoId.applyAsLong(i), responsavelId});
+                }
+            }
+        }
+    }
+
+    /**
+     * IDs informados no lote que correspondem a projetos existentes; os demais viram projetos novos
+     */
+    private Set<Long> projetosExistentes(List<Registro> lote) {
+        List<Long> ids = lote.stream().map(Registro::id).filter(Objects::nonNull).distinct().toList();
+        return ids.isEmpty() ? Set.of() : projetoRepository.findIdsExistentes(ids);
+    }
+
+    /**
+     * Consulta apenas os IDs que ainda não apareceram em lotes anteriores
+     */
+    private void resolverResponsaveis(List<Registro> lote, Importacao importacao) {
+        List<Long> desconhecidos = new ArrayList<>();
+        Set<Long> vistos = new HashSet<>();
+        for (Registro registro : lote) {
+            if (registro.request() == null || registro.request().getResponsavelIds() == null) {
+                continue;
+            }
+            for (Long id : registro.request().getResponsavelIds()) {
+                if (!importacao.responsaveisExistentes.contains(id)
+                        && !importacao.responsaveisInexistentes.contains(id) && vistos.add(id)) {
+                    desconhecidos.add(id);
+                }
+            }
+        }
+        for (int i = 0; i < desconhecidos.size(); i += TAMANHO_CONSULTA_IDS) {
+            List<Long> consulta = desconhecidos.subList(i, Math.min(i + TAMANHO_CONSULTA_IDS, desconhecidos.size()));
+            Set<Long> encontrados = responsavelRepository.findIdsExistentes(consulta);
+            for (Long id : consulta) {
+                (encontrados.contains(id) ? importacao.responsaveisExistentes : importacao.responsaveisInexistentes).add(id);
+            }
+        }
+    }
+
+    private String validar(Registro registro, Importacao importacao) {
+        if (registro.id() != null && !importacao.idsProjetos.add(registro.id())) {
+            // Dois registros do mesmo projeto no arquivo: só o primeiro vale
+            return "Projeto repetido no arquivo com ID: " + registro.id();
+        }
+        ProjetoRequest request = registro.request();
+        Set<ConstraintViolation<ProjetoRequest>> violacoes = validator.validate(request);
+        if (!violacoes.isEmpty()) {
+            return violacoes.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+        }
+        if (request.getResponsavelIds() != null) {
+            for (Long id : request.getResponsavelIds()) {
+                if (importacao.responsaveisInexistentes.contains(id)) {
+                    return "Responsável não encontrado com ID: " + id;
+                }
+            }
+        }
+        return null;
+    }
+
+    private long[] inserirProjetos(List<Projeto> projetos, List<MetricasCalculadas> metricas) {
+        long[] ids = alocadorIds.alocar(AlocadorIds.SEQUENCIA_PROJETOS, projetos.size());
+        Timestamp agora = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> linhas = new ArrayList<>(projetos.size());
+        for (int i = 0; i < projetos.size(); i++) {
+            Projeto projeto = projetos.get(i);
+            MetricasCalculadas calculadas = metricas.get(i);
+            linhas.add(new Object[]{ids[i], projeto.getNome(), calculadas.status().name(),
+                    data(projeto.getInicioPrevisto()), data(projeto.getTerminoPrevisto()),
+                    data(projeto.getInicioRealizado()), data(projeto.getTerminoRealizado()),
+                    calculadas.diasAtraso(), calculadas.percentualTempoRestante(),
+                    data(calculadas.proximaReavaliacao()), agora, agora});
+        }
+        jdbcTemplate.batchUpdate(INSERT_PROJETO, linhas);
+        return ids;
+    }
+
+    private void atualizarProjetos(List<Registro> registros, List<Projeto> projetos, List<MetricasCalculadas> metricas) {
+        Timestamp agora = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> linhas = new ArrayList<>(projetos.size());
+        for (int i = 0; i < projetos.size(); i++) {
+            Projeto projeto = projetos.get(i);
+            MetricasCalculadas calculadas = metricas.get(i);
+            linhas.add(new Object[]{projeto.getNome(), calculadas.status().name(),
+                    data(projeto.getInicioPrevisto()), data(projeto.getTerminoPrevisto()),
+                    data(projeto.getInicioRealizado()), data(projeto.getTerminoRealizado()),
+                    calculadas.diasAtraso(), calculadas.percentualTempoRestante(),
+                    data(calculadas.proximaReavaliacao()), agora, registros.get(i).id()});
+        }
+        jdbcTemplate.batchUpdate(UPDATE_PROJETO, linhas);
+    }
+
+    private static Date data(LocalDate data) {
+        return data != null ? Date.valueOf(data) : null;
+    }
+
+    private record Registro(long linha, Long id, ProjetoRequest request, String erro) {
+
+        static Registro invalido(long linha, String erro) {
+            return new Registro(linha, null, null, erro);
+        }
+    }
+
+    private final class Importacao {
+
+        private final LocalDate referencia;
+        private final Set<Long> responsaveisExistentes = new HashSet<>();
+        private final Set<Long> responsaveisInexistentes = new HashSet<>();
+        private final Set<Long> idsProjetos = new HashSet<>();
+        private final List<ErroImportacaoResponse> erros = new ArrayList<>();
+        private long processados;
+        private long importados;
+        private long atualizados;
+        private long rejeitados;
+
+        private Importacao(LocalDate referencia) {
+            this.referencia = referencia;
+        }
+
+        private void rejeitar(long linha, String mensagem) {
+            rejeitados++;
+            if (erros.size() < maximoErros) {
+                erros.add(new ErroImportacaoResponse(linha, mensagem));
+            }
+        }
+    }
+
+    private interface FonteRegistros {
+
+        Registro proximo() throws IOException;
+    }
+
+    /**
+     * CSV com cabeçalho; colunas reconhecidas em snake_case ou camelCase, demais ignoradas.
+     * responsavel_ids aceita IDs separados por ";", "," ou espaço; id é opcional.
+     */
+    private static final class FonteCsv implements FonteRegistros {
+
+        private final LeitorCsv leitor;
+        private final Map<String, Integer> colunas = new HashMap<>();
+        private boolean encerrado;
+
+        private FonteCsv(LeitorCsv leitor) throws IOException {
+            this.leitor = leitor;
+            List<String> cabecalho = leitor.proximoRegistro();
+            if (cabecalho == null) {
+                throw new IllegalArgumentException("Arquivo CSV vazio");
+            }
+            for (int i = 0; i < cabecalho.size(); i++) {
+                colunas.putIfAbsent(normalizar(cabecalho.get(i)), i);
+            }
+            if (!colunas.containsKey("nome")) {
+                throw new IllegalArgumentException("Cabeçalho CSV sem a coluna nome");
+            }
+        }
+
+        @Override
+        public Registro proximo() {
+            if (encerrado) {
+                return null;
+            }
+            List<String> campos;
+            try {
+                campos = leitor.proximoRegistro();
+            } catch (IOException e) {
+                // Aspas sem fechamento consomem o restante do arquivo
+                encerrado = true;
+                return Registro.invalido(leitor.linhaRegistro(), e.getMessage());
+            }
+            if (campos == null) {
+                return null;
+            }
+            long linha = leitor.linhaRegistro();
+            try {
+                ProjetoRequest request = new ProjetoRequest();
+                request.setNome(valor(campos, "nome"));
+                request.setInicioPrevisto(data(campos, "inicioprevisto"));
+                request.setTerminoPrevisto(data(campos, "terminoprevisto"));
+                request.setInicioRealizado(data(campos, "iniciorealizado"));
+                request.setTerminoRealizado(data(campos, "terminorealizado"));
+                request.setResponsavelIds(ids(valor(campos, "responsavelids")));
+                return new Registro(linha, id(valor(campos, "id")), request, null);
+            } catch (IllegalArgumentException e) {
+                return Registro.invalido(linha, e.getMessage());
+            }
+        }
+
+        private String valor(List<String> campos, String coluna) {
+            Integer indice = colunas.get(coluna);
+            if (indice == null || indice >= campos.size()) {
+                return null;
+            }
+            String valor = campos.get(indice).trim();
+            return valor.isEmpty() ? null : valor;
+        }
+
+        private LocalDate data(List<String> campos, String coluna) {
+            String valor = valor(campos, coluna);
+            if (valor == null) {
+                return null;
+            }
+            try {
+                return LocalDate.parse(valor);
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("Data inválida (use yyyy-MM-dd): " + valor);
+            }
+        }
+
+        private static Long id(String valor) {
+            if (valor == null) {
+                return null;
+            }
+            try {
+                return Long.parseLong(valor);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("ID de projeto inválido: " + valor);
+            }
+        }
+
+        private static Set<Long> ids(String valor) {
+            if (valor == null) {
+                return null;
+            }
+            Set<Long> ids = new LinkedHashSet<>();
+            for (String parte : valor.split("[;,\\s]+")) {
+                if (parte.isEmpty()) {
+                    continue;
+                }
+                try {
+                    ids.add(Long.parseLong(parte));
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("ID de responsável inválido: " + parte);
+                }
+            }
+            return ids;
+        }
+
+        private static String normalizar(String coluna) {
+            return coluna.replace("\uFEFF", "").replace("_", "").trim().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    /**
+     * Um ProjetoRequest em JSON por linha, com id opcional; linhas em branco são ignoradas.
+     * Sem responsavelIds, usa os ids de responsaveis[] (formato da exportação).
+     */
+    private final class FonteNdjson implements FonteRegistros {
+
+        private final BufferedReader reader;
+        private long linha;
+
+        private FonteNdjson(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public Registro proximo() throws IOException {
+            String conteudo;
+            do {
+                conteudo = reader.readLine();
+                linha++;
+            } while (conteudo != null && conteudo.isBlank());
+            if (conteudo == null) {
+                return null;
+            }
+            try {
+                JsonNode no = objectMapper.readTree(conteudo);
+                ProjetoRequest request = objectMapper.treeToValue(no, ProjetoRequest.class);
+                JsonNode responsaveis = no.path("responsaveis");
+                if (request.getResponsavelIds() == null && responsaveis.isArray()) {
+                    Set<Long> ids = new LinkedHashSet<>();
+                    responsaveis.forEach(responsavel -> ids.add(responsavel.path("id").asLong()));
+                    request.setResponsavelIds(ids);
+                }
+                JsonNode id = no.path("id");
+                if (!id.isMissingNode() && !id.isNull() && !id.isIntegralNumber()) {
+                    return Registro.invalido(linha, "ID de projeto inválido: " + id);
+                }
+                return new Registro(linha, id.isIntegralNumber() ? id.asLong() : null, request, null);
+            } catch (JsonProcessingException e) {
+                return Registro.invalido(linha, "JSON inválido: " + e.getOriginalMessage());
+            }
+        }
+    }
+}
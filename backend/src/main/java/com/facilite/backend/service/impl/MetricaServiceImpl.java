@@ -1,5 +1,6 @@
 package com.facilite.backend.service.impl;
 
+import com.facilite.backend.model.MetricasCalculadas;
 import com.facilite.backend.model.Projeto;
 import com.facilite.backend.model.StatusProjeto;
 import com.facilite.backend.service.MetricaService;
@@ -7,10 +8,16 @@ import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 
 @Service
 public class MetricaServiceImpl implements MetricaService {
 
+    // Marca data ausente no cálculo por epoch day
+    private static final long SEM_DATA = Long.MIN_VALUE;
+
     @Override
     public StatusProjeto calcularStatus(Projeto projeto) {
         LocalDate hoje = LocalDate.now();
@@ -97,6 +104,125 @@ public class MetricaServiceImpl implements MetricaService {
         return Math.min(100.0, Math.max(0.0, (diasRestantes * 100.0) / totalDias));
     }
 
+    /**
+     * Primeira data futura em que status, dias de atraso ou percentual podem mudar
+     * sem que o projeto seja editado. Deve ser chamado com o status já recalculado.
+     * Retorna null quando nenhuma métrica muda mais (ex.: projeto concluído).
+     */
+    @Override
+    public LocalDate calcularProximaReavaliacao(Projeto projeto) {
+        long proxima = proximaReavaliacao(projeto.getStatus(),
+                epochDay(projeto.getInicioPrevisto()), epochDay(projeto.getTerminoPrevisto()),
+                epochDay(projeto.getInicioRealizado()), epochDay(projeto.getTerminoRealizado()),
+                LocalDate.now().toEpochDay());
+        return proxima != SEM_DATA ? LocalDate.ofEpochDay(proxima) : null;
+    }
+
+    // ========== CÁLCULO EM LOTE ==========
+
+    @Override
+    public MetricasCalculadas calcularMetricas(Projeto projeto, LocalDate referencia) {
+        return calcularMetricas(projeto, referencia.toEpochDay());
+    }
+
+    @Override
+    public List<MetricasCalculadas> calcularMetricas(Collection<Projeto> projetos, LocalDate referencia) {
+        long hoje = referencia.toEpochDay();
+        List<MetricasCalculadas> resultado = new ArrayList<>(projetos.size());
+        for (Projeto projeto : projetos) {
+            resultado.add(calcularMetricas(projeto, hoje));
+        }
+        return resultado;
+    }
+
+    /**
+     * Mesmas regras de calcularStatus, calcularDiasAtraso, calcularPercentualTempoRestante e
+     * calcularProximaReavaliacao, em uma passada e com as datas convertidas para dias (epoch day).
+     * O status calculado alimenta as demais métricas.
+     */
+    private MetricasCalculadas calcularMetricas(Projeto projeto, long hoje) {
+        long inicioPrevisto = epochDay(projeto.getInicioPrevisto());
+        long terminoPrevisto = epochDay(projeto.getTerminoPrevisto());
+        long inicioRealizado = epochDay(projeto.getInicioRealizado());
+        long terminoRealizado = epochDay(projeto.getTerminoRealizado());
+
+        StatusProjeto status;
+        if (terminoRealizado != SEM_DATA) {
+            status = StatusProjeto.CONCLUIDO;
+        } else if (inicioRealizado != SEM_DATA && terminoPrevisto != SEM_DATA && terminoPrevisto > hoje) {
+            status = StatusProjeto.EM_ANDAMENTO;
+        } else if ((inicioPrevisto != SEM_DATA && inicioPrevisto < hoje && inicioRealizado == SEM_DATA)
+                || (terminoPrevisto != SEM_DATA && terminoPrevisto < hoje)) {
+            status = StatusProjeto.ATRASADO;
+        } else {
+            status = StatusProjeto.A_INICIAR;
+        }
+
+        int diasAtraso = 0;
+        if (terminoRealizado == SEM_DATA && terminoPrevisto != SEM_DATA
+                && terminoPrevisto < hoje && status != StatusProjeto.A_INICIAR) {
+            diasAtraso = (int) (hoje - terminoPrevisto);
+        }
+
+        double percentual = 0.0;
+        if (inicioPrevisto != SEM_DATA && terminoPrevisto != SEM_DATA
+                && status != StatusProjeto.A_INICIAR && status != StatusProjeto.CONCLUIDO) {
+            long totalDias = terminoPrevisto - inicioPrevisto;
+            long diasRestantes = terminoPrevisto - hoje;
+            if (totalDias > 0 && diasRestantes >= 0) {
+                percentual = Math.min(100.0, Math.max(0.0, (diasRestantes * 100.0) / totalDias));
+            }
+        }
+
+        long proxima = proximaReavaliacao(status, inicioPrevisto, terminoPrevisto,
+                inicioRealizado, terminoRealizado, hoje);
+
+        return new MetricasCalculadas(projeto.getId(), status, diasAtraso, percentual,
+                proxima != SEM_DATA ? LocalDate.ofEpochDay(proxima) : null);
+    }
+
+    private static long proximaReavaliacao(StatusProjeto status, long inicioPrevisto, long terminoPrevisto,
+                                           long inicioRealizado, long terminoRealizado, long hoje) {
+        if (terminoRealizado != SEM_DATA) {
+            return SEM_DATA;
+        }
+
+        // Dias de atraso crescem diariamente enquanto o término previsto já passou
+        boolean atrasoCresce = terminoPrevisto != SEM_DATA && terminoPrevisto < hoje
+                && status != StatusProjeto.A_INICIAR;
+
+        // Percentual muda diariamente até o término previsto
+        boolean percentualMuda = inicioPrevisto != SEM_DATA && terminoPrevisto != SEM_DATA
+                && inicioPrevisto < terminoPrevisto && terminoPrevisto > hoje
+                && status != StatusProjeto.A_INICIAR && status != StatusProjeto.CONCLUIDO;
+
+        if (atrasoCresce || percentualMuda) {
+            return hoje + 1;
+        }
+
+        // Datas em que as comparações de calcularStatus com "hoje" mudam de resultado
+        long proxima = SEM_DATA;
+        if (inicioPrevisto != SEM_DATA && inicioRealizado == SEM_DATA) {
+            proxima = menorFutura(proxima, inicioPrevisto + 1, hoje);
+        }
+        if (terminoPrevisto != SEM_DATA) {
+            proxima = menorFutura(proxima, terminoPrevisto, hoje);
+            proxima = menorFutura(proxima, terminoPrevisto + 1, hoje);
+        }
+        return proxima;
+    }
+
+    private static long menorFutura(long atual, long candidata, long hoje) {
+        if (candidata <= hoje) {
+            return atual;
+        }
+        return atual == SEM_DATA || candidata < atual ? candidata : atual;
+    }
+
+    private static long epochDay(LocalDate data) {
+        return data != null ? data.toEpochDay() : SEM_DATA;
+    }
+
     // ========== VALIDAÇÕES DE TRANSIÇÃO ==========
 
     @Override
@@ -1,42 +1,99 @@
 package com.facilite.backend.service.impl;
 
+import com.facilite.backend.dto.EventoQuadro;
+import com.facilite.backend.dto.KanbanBoardResponse;
+import com.facilite.backend.dto.KanbanColunaResponse;
+import com.facilite.backend.dto.LoteProjetosRequest;
+import com.facilite.backend.dto.OperacaoLoteRequest;
+import com.facilite.backend.dto.PaginaCursorResponse;
 import com.facilite.backend.dto.ProjetoRequest;
 import com.facilite.backend.dto.ProjetoResponse;
+import com.facilite.backend.dto.ResultadoLoteResponse;
+import com.facilite.backend.dto.ResultadoTransicaoLoteResponse;
+import com.facilite.backend.dto.ResultadoTransicaoResponse;
+import com.facilite.backend.dto.TipoEventoQuadro;
+import com.facilite.backend.dto.TipoOperacaoLote;
+import com.facilite.backend.dto.TransicaoLoteRequest;
 import com.facilite.backend.exception.ProjetoNotFoundException;
+import com.facilite.backend.exception.VersaoConflitanteException;
 import com.facilite.backend.mapper.ProjetoMapper;
+import com.facilite.backend.model.MetricasCalculadas;
 import com.facilite.backend.model.Projeto;
+import com.facilite.backend.model.ProjetoMetricas;
 import com.facilite.backend.model.Responsavel;
 import com.facilite.backend.model.StatusProjeto;
+import com.facilite.backend.repository.BuscaProjetoRepository;
+import com.facilite.backend.repository.ImpressaoColecoesRepository;
+import com.facilite.backend.repository.KeysetRepository;
+import com.facilite.backend.repository.ProjetoExcluidoRepository;
 import com.facilite.backend.repository.ProjetoRepository;
 import com.facilite.backend.repository.ResponsavelRepository;
 import com.facilite.backend.service.MetricaService;
 import com.facilite.backend.service.ProjetoService;
 import com.facilite.backend.service.TransicaoStatusService;
+import com.facilite.backend.util.CampoCursor;
+import com.facilite.backend.util.CursorCodec;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class ProjetoServiceImpl implements ProjetoService {
 
+    private static final int LIMITE_MAXIMO_PAGINA = 100;
+
+    private static final Map<String, CampoCursor<Projeto>> CAMPOS_CURSOR = Map.of(
+            "nome", CampoCursor.texto("nome", Projeto::getNome),
+            "createdAt", CampoCursor.dataHora("createdAt", Projeto::getCreatedAt)
+    );
+
     private final ProjetoRepository projetoRepository;
     private final ResponsavelRepository responsavelRepository;
     private final MetricaService metricaService;
     private final TransicaoStatusService transicaoStatusService;
     private final ProjetoMapper projetoMapper;
+    private final KeysetRepository keysetRepository;
+    private final BuscaProjetoRepository buscaProjetoRepository;
+    private final ImpressaoColecoesRepository impressaoColecoesRepository;
+    private final ProjetoExcluidoRepository projetoExcluidoRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public List<ProjetoResponse> listarTodos() {
-        return projetoMapper.toResponseList(projetoRepository.findAll());
+        return projetoRepository.findAllComMetricas().stream()
+                .map(projetoMapper::toResponse)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String impressaoColecao() {
+        // Status e métricas das listagens dependem de CURRENT_DATE, então a data entra na impressão
+        return impressaoColecoesRepository.impressaoProjetos() + "-" + Long.toString(LocalDate.now().toEpochDay(), 36);
     }
 
     @Override
@@ -54,13 +111,25 @@ public class ProjetoServiceImpl implements ProjetoService {
         calcularEAtualizarMetricas(projeto);
 
         Projeto projetoSalvo = projetoRepository.save(projeto);
-        return projetoMapper.toResponse(projetoSalvo);
+        // Com ID por sequência o insert fica para o commit; o flush preenche createdAt/updatedAt da resposta
+        projetoRepository.flush();
+        ProjetoResponse response = projetoMapper.toResponse(projetoSalvo);
+        impressaoColecoesRepository.registrarAlteracaoProjetos();
+        eventPublisher.publishEvent(EventoQuadro.projeto(TipoEventoQuadro.PROJETO_CRIADO, null, response));
+        return response;
     }
 
     @Override
     public ProjetoResponse atualizarProjeto(Long id, ProjetoRequest request) {
+        return atualizarProjeto(id, request, null);
+    }
+
+    @Override
+    public ProjetoResponse atualizarProjeto(Long id, ProjetoRequest request, Long versaoEsperada) {
         Projeto projeto = projetoRepository.findById(id)
                 .orElseThrow(() -> new ProjetoNotFoundException(id));
+        verificarVersao(projeto, versaoEsperada);
+        StatusProjeto statusAnterior = projeto.getStatus();
 
         Set<Responsavel> responsaveis = obterResponsaveisPorIds(request.getResponsavelIds());
 
@@ -68,31 +137,49 @@ public class ProjetoServiceImpl implements ProjetoService {
         calcularEAtualizarMetricas(projeto);
 
         Projeto projetoAtualizado = projetoRepository.save(projeto);
-        return projetoMapper.toResponse(projetoAtualizado);
+        // O flush aplica o update com checagem de versão e devolve a nova versão na resposta
+        projetoRepository.flush();
+        ProjetoResponse response = projetoMapper.toResponse(projetoAtualizado);
+        impressaoColecoesRepository.registrarAlteracaoProjetos();
+        eventPublisher.publishEvent(EventoQuadro.projeto(TipoEventoQuadro.PROJETO_ATUALIZADO, statusAnterior, response));
+        return response;
     }
 
     @Override
     public void excluirProjeto(Long id) {
         Projeto projeto = projetoRepository.findById(id)
                 .orElseThrow(() -> new ProjetoNotFoundException(id));
+        projetoExcluidoRepository.registrarExclusoes(List.of(id), LocalDateTime.now());
         projetoRepository.delete(projeto);
+        impressaoColecoesRepository.registrarAlteracaoProjetos();
+        eventPublisher.publishEvent(EventoQuadro.projetoExcluido(id, projeto.getStatus()));
     }
 
     @Override
     public List<ProjetoResponse> listarPorStatus(StatusProjeto status) {
-        return projetoMapper.toResponseList(projetoRepository.findByStatus(status));
+        return projetoRepository.findComMetricasByStatus(status).stream()
+                .map(projetoMapper::toResponse)
+                .toList();
     }
 
    @Override
     public ProjetoResponse transicionarStatus(Long id, StatusProjeto novoStatus) {
+        return transicionarStatus(id, novoStatus, null);
+    }
+
+    @Override
+    public ProjetoResponse transicionarStatus(Long id, StatusProjeto novoStatus, Long versaoEsperada) {
         Projeto projeto = projetoRepository.findById(id)
                 .orElseThrow(() -> new ProjetoNotFoundException(id));
+        verificarVersao(projeto, versaoEsperada);
+        StatusProjeto statusAnterior = projeto.getStatus();
 
         try{
         transicaoStatusService.executarTransicao(projeto, novoStatus);
         calcularEAtualizarMetricas(projeto);
 
         Projeto projetoAtualizado = projetoRepository.save(projeto);
+        projetoRepository.flush();
 
         // Validar se status final corresponde ao solicitado
         if (projetoAtualizado.getStatus() != novoStatus) {
@@ -102,19 +189,110 @@ public class ProjetoServiceImpl implements ProjetoService {
             );
         }
 
-        return projetoMapper.toResponse(projetoAtualizado);
+        ProjetoResponse response = projetoMapper.toResponse(projetoAtualizado);
+        impressaoColecoesRepository.registrarAlteracaoProjetos();
+        eventPublisher.publishEvent(EventoQuadro.projeto(TipoEventoQuadro.PROJETO_TRANSICIONADO, statusAnterior, response));
+        return response;
         } catch (IllegalArgumentException e) {
               throw new IllegalArgumentException(e.getMessage());
+        } catch (OptimisticLockingFailureException e) {
+              throw e;
         } catch (Exception e) {
                throw new IllegalArgumentException("Erro ao transicionar status: " + e.getMessage());
         }
     }
 
+    @Override
+    public ResultadoTransicaoLoteResponse transicionarStatusEmLote(TransicaoLoteRequest request, StatusProjeto novoStatus) {
+        Set<Long> ids = new LinkedHashSet<>(request.getIds());
+        Map<Long, Projeto> projetos = projetoRepository.findByIdIn(ids).stream()
+                .collect(Collectors.toMap(Projeto::getId, Function.identity()));
+
+        // Cada projeto é validado isoladamente: uma transição rejeitada não derruba as demais
+        Map<Long, String> erros = new HashMap<>();
+        Map<Long, StatusProjeto> statusAnteriores = new HashMap<>();
+        for (Long id : ids) {
+            Projeto projeto = projetos.get(id);
+            if (projeto == null) {
+                erros.put(id, new ProjetoNotFoundException(id).getMessage());
+                continue;
+            }
+            EstadoTransicao estadoAnterior = EstadoTransicao.de(projeto);
+            statusAnteriores.put(id, estadoAnterior.status());
+            try {
+                aplicarTransicao(projeto, novoStatus);
+            } catch (IllegalArgumentException e) {
+                // A transição pode ter alterado datas antes de falhar; restaurar evita o update no flush
+                estadoAnterior.restaurar(projeto);
+                erros.put(id, e.getMessage());
+            }
+        }
+        // Um único flush: os updates dos projetos transicionados saem em lote
+        projetoRepository.flush();
+
+        List<ResultadoTransicaoResponse> resultados = ids.stream()
+                .map(id -> erros.containsKey(id)
+                        ? ResultadoTransicaoResponse.falha(id, erros.get(id))
+                        : ResultadoTransicaoResponse.sucesso(projetoMapper.toResponse(projetos.get(id))))
+                .toList();
+        if (erros.size() < ids.size()) {
+            impressaoColecoesRepository.registrarAlteracaoProjetos();
+        }
+        resultados.stream()
+                .filter(ResultadoTransicaoResponse::isSucesso)
+                .forEach(resultado -> eventPublisher.publishEvent(EventoQuadro.projeto(
+                        TipoEventoQuadro.PROJETO_TRANSICIONADO, statusAnteriores.get(resultado.getId()), resultado.getProjeto())));
+        return new ResultadoTransicaoLoteResponse(ids.size() - erros.size(), erros.size(), resultados);
+    }
+
+    // If-Match: a versão lida precisa ser a que o cliente viu; o @Version cobre a corrida até o update
+    private void verificarVersao(Projeto projeto, Long versaoEsperada) {
+        if (versaoEsperada != null && !versaoEsperada.equals(projeto.getVersao())) {
+            throw new VersaoConflitanteException(projeto.getId(), versaoEsperada, projeto.getVersao());
+        }
+    }
+
+    // Mesmas regras de transicionarStatus, sem salvar
+    private void aplicarTransicao(Projeto projeto, StatusProjeto novoStatus) {
+        transicaoStatusService.executarTransicao(projeto, novoStatus);
+        calcularEAtualizarMetricas(projeto);
+
+        if (projeto.getStatus() != novoStatus) {
+            throw new IllegalArgumentException(
+                    "Transição bloqueada: status final é " + projeto.getStatus() +
+                            ". Ajuste as datas para realizar esta transição."
+            );
+        }
+    }
+
+    // Campos que executarTransicao e calcularEAtualizarMetricas podem alterar
+    private record EstadoTransicao(StatusProjeto status, LocalDate inicioRealizado, LocalDate terminoRealizado,
+                                   Integer diasAtraso, Double percentualTempoRestante, LocalDate proximaReavaliacao) {
+
+        static EstadoTransicao de(Projeto projeto) {
+            return new EstadoTransicao(projeto.getStatus(), projeto.getInicioRealizado(), projeto.getTerminoRealizado(),
+                    projeto.getDiasAtraso(), projeto.getPercentualTempoRestante(), projeto.getProximaReavaliacao());
+        }
+
+        void restaurar(Projeto projeto) {
+            projeto.setStatus(status);
+            projeto.setInicioRealizado(inicioRealizado);
+            projeto.setTerminoRealizado(terminoRealizado);
+            projeto.setDiasAtraso(diasAtraso);
+            projeto.setPercentualTempoRestante(percentualTempoRestante);
+            projeto.setProximaReavaliacao(proximaReavaliacao);
+        }
+    }
+
     @Override
     public void calcularEAtualizarMetricas(Projeto projeto) {
-        projeto.setStatus(metricaService.calcularStatus(projeto));
-        projeto.setDiasAtraso(metricaService.calcularDiasAtraso(projeto));
-        projeto.setPercentualTempoRestante(metricaService.calcularPercentualTempoRestante(projeto));
+        // Uma única data de referência: perto da meia-noite status e métricas não saem de dias diferentes
+        LocalDate hoje = LocalDate.now();
+        MetricasCalculadas metricas = metricaService.calcularMetricas(projeto, hoje);
+        projeto.setStatus(metricas.status());
+        projeto.setDiasAtraso(metricas.diasAtraso());
+        projeto.setPercentualTempoRestante(metricas.percentualTempoRestante());
+        projeto.setProximaReavaliacao(metricas.proximaReavaliacao());
     }
 
 
@@ -122,12 +300,273 @@ public class ProjetoServiceImpl implements ProjetoService {
         if (responsavelIds == null || responsavelIds.isEmpty()) {
             return new HashSet<>();
         }
+        // IDs inexistentes são ignorados; só o banco confirma a existência
         return new HashSet<>(responsavelRepository.findAllById(responsavelIds));
     }
 
     @Override
     public Page<ProjetoResponse> listarPaginado(Pageable pageable) {
-        Page<Projeto> projetosPage = projetoRepository.findAll(pageable);
-        return projetosPage.map(projetoMapper::toResponse);
+        // Duas fases: página de IDs (com count) e depois os projetos com responsáveis em uma consulta
+        Page<Long> idsPage = projetoRepository.findIds(pageable);
+        List<ProjetoResponse> conteudo = buscarComMetricasNaOrdem(idsPage.getContent()).stream()
+                .map(projetoMapper::toResponse)
+                .toList();
+        return new PageImpl<>(conteudo, idsPage.getPageable(), idsPage.getTotalElements());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<ProjetoResponse> buscarPorNome(String busca, Pageable pageable) {
+        if (busca == null || busca.isBlank()) {
+            throw new IllegalArgumentException("Informe o termo de busca");
+        }
+        validarLimitePagina(pageable.getPageSize());
+        // Mesmas duas fases da listagem paginada, com os IDs já na ordem de similaridade
+        Page<Long> idsPage = buscaProjetoRepository.buscarIds(busca, pageable);
+        List<ProjetoResponse> conteudo = buscarComMetricasNaOrdem(idsPage.getContent()).stream()
+                .map(projetoMapper::toResponse)
+                .toList();
+        return new PageImpl<>(conteudo, idsPage.getPageable(), idsPage.getTotalElements());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PaginaCursorResponse<ProjetoResponse> listarPorCursor(String cursor, int tamanho, String ordenarPor,
+                                                                 Sort.Direction direcao, boolean incluirTotal) {
+        validarLimitePagina(tamanho);
+        CampoCursor<Projeto> campo = CampoCursor.resolver(CAMPOS_CURSOR, ordenarPor);
+
+        Comparable<?> valorCursor = null;
+        Long idCursor = null;
+        if (cursor != null && !cursor.isBlank()) {
+            CursorCodec.Posicao posicao = CursorCodec.decodificar(cursor);
+            valorCursor = campo.converter(posicao.valor());
+            idCursor = posicao.id();
+        }
+
+        // Um item a mais indica se há próxima página; o count só roda quando solicitado
+        List<Long> ids = keysetRepository.buscarIds(
+                Projeto.class, campo.atributo(), direcao, valorCursor, idCursor, tamanho + 1);
+        boolean temMais = ids.size() > tamanho;
+        List<Projeto> projetos = buscarComResponsaveisNaOrdem(temMais ? ids.subList(0, tamanho) : ids);
+
+        String proximoCursor = null;
+        if (temMais && !projetos.isEmpty()) {
+            Projeto ultimo = projetos.get(projetos.size() - 1);
+            proximoCursor = campo.codificarCursor(ultimo, ultimo.getId());
+        }
+        Long total = incluirTotal ? projetoRepository.count() : null;
+
+        return new PaginaCursorResponse<>(projetoMapper.toResponseList(projetos), proximoCursor, total);
+    }
+
+    /**
+     * Carrega os projetos (com responsáveis) em uma única consulta, preservando a ordem dos IDs
+     */
+    private List<Projeto> buscarComResponsaveisNaOrdem(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Projeto> projetosPorId = projetoRepository.findByIdIn(ids).stream()
+                .collect(Collectors.toMap(Projeto::getId, Function.identity()));
+        return ids.stream()
+                .map(projetosPorId::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private List<ProjetoMetricas> buscarComMetricasNaOrdem(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, ProjetoMetricas> projetosPorId = projetoRepository.findComMetricasByIdIn(ids).stream()
+                .collect(Collectors.toMap(ProjetoMetricas::getId, Function.identity()));
+        return ids.stream()
+                .map(projetosPorId::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public KanbanBoardResponse carregarBoard(int limite) {
+        validarLimitePagina(limite);
+
+        Map<StatusProjeto, Long> totais = new EnumMap<>(StatusProjeto.class);
+        projetoRepository.contarPorStatus()
+                .forEach(contagem -> totais.put(contagem.getStatus(), contagem.getTotal()));
+
+        // IDs já vêm na ordem das colunas
+        List<ProjetoMetricas> projetos = buscarComMetricasNaOrdem(projetoRepository.findIdsPrimeirosPorStatus(limite));
+
+        Map<StatusProjeto, List<ProjetoMetricas>> cardsPorStatus = new EnumMap<>(StatusProjeto.class);
+        for (ProjetoMetricas projeto : projetos) {
+            cardsPorStatus.computeIfAbsent(projeto.getStatus(), status -> new ArrayList<>()).add(projeto);
+        }
+
+        List<KanbanColunaResponse> colunas = Arrays.stream(StatusProjeto.values())
+                .map(status -> {
+                    long total = totais.getOrDefault(status, 0L);
+                    List<ProjetoMetricas> cards = cardsPorStatus.getOrDefault(status, List.of());
+                    return montarColuna(status, total, cards, total > cards.size());
+                })
+                .toList();
+
+        return new KanbanBoardResponse(colunas);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public KanbanColunaResponse carregarColuna(StatusProjeto status, String cursor, int limite) {
+        validarLimitePagina(limite);
+
+        // Busca um item a mais para saber se existe próxima página sem precisar de outra consulta
+        Limit limiteConsulta = Limit.of(limite + 1);
+        List<Long> ids;
+        if (cursor == null || cursor.isBlank()) {
+            ids = projetoRepository.findIdsPorStatus(status, limiteConsulta);
+        } else {
+            CursorCodec.Posicao posicao = CursorCodec.decodificar(cursor);
+            ids = projetoRepository.findIdsProximosPorStatus(status, posicao.valor(), posicao.id(), limiteConsulta);
+        }
+        List<ProjetoMetricas> cards = buscarComMetricasNaOrdem(ids);
+
+        boolean temMais = cards.size() > limite;
+        if (temMais) {
+            cards = cards.subList(0, limite);
+        }
+
+        return montarColuna(status, projetoRepository.countByStatus(status), cards, temMais);
+    }
+
+    @Override
+    public ResultadoLoteResponse executarLote(LoteProjetosRequest request) {
+        List<OperacaoLoteRequest> operacoes = request.getOperacoes();
+        Set<Long> idsAtualizacao = new LinkedHashSet<>();
+        Set<Long> idsExclusao = new LinkedHashSet<>();
+        Set<Long> responsavelIds = new HashSet<>();
+        for (OperacaoLoteRequest operacao : operacoes) {
+            validarOperacaoLote(operacao);
+            Long id = operacao.getId();
+            if (id != null && (idsAtualizacao.contains(id) || idsExclusao.contains(id))) {
+                throw new IllegalArgumentException("Projeto " + id + " aparece em mais de uma operação do lote");
+            }
+            if (operacao.getTipo() == TipoOperacaoLote.ATUALIZAR) {
+                idsAtualizacao.add(id);
+            } else if (operacao.getTipo() == TipoOperacaoLote.EXCLUIR) {
+                idsExclusao.add(id);
+            }
+            if (operacao.getProjeto() != null && operacao.getProjeto().getResponsavelIds() != null) {
+                responsavelIds.addAll(operacao.getProjeto().getResponsavelIds());
+            }
+        }
+
+        // Exclusões primeiro: a consulta limpa o contexto de persistência, que ainda não tem alterações do lote.
+        // Só o status é lido antes, para os eventos do quadro ajustarem o total da coluna certa
+        Map<Long, StatusProjeto> statusExcluidos = idsExclusao.isEmpty() ? Map.of()
+                : projetoRepository.findSituacaoByIdIn(idsExclusao).stream()
+                .collect(Collectors.toMap(ProjetoRepository.SituacaoProjeto::getId, ProjetoRepository.SituacaoProjeto::getStatus));
+        if (!idsExclusao.isEmpty()) {
+            projetoExcluidoRepository.registrarExclusoes(idsExclusao, LocalDateTime.now());
+            if (projetoRepository.excluirPorIds(idsExclusao) != idsExclusao.size()) {
+                throw new IllegalArgumentException("Nem todos os projetos a excluir foram encontrados: " + idsExclusao);
+            }
+        }
+
+        // Uma consulta IN para os projetos a atualizar e outra para todos os responsáveis do lote
+        Map<Long, Projeto> projetos = idsAtualizacao.isEmpty() ? Map.of()
+                : projetoRepository.findByIdIn(idsAtualizacao).stream()
+                .collect(Collectors.toMap(Projeto::getId, Function.identity()));
+        for (Long id : idsAtualizacao) {
+            if (!projetos.containsKey(id)) {
+                throw new ProjetoNotFoundException(id);
+            }
+        }
+        Map<Long, Responsavel> responsaveis = responsavelIds.isEmpty() ? Map.of()
+                : responsavelRepository.findAllById(responsavelIds).stream()
+                .collect(Collectors.toMap(Responsavel::getId, Function.identity()));
+
+        List<Projeto> criados = new ArrayList<>();
+        List<Projeto> atualizados = new ArrayList<>();
+        Map<Long, StatusProjeto> statusAnteriores = new HashMap<>();
+        for (OperacaoLoteRequest operacao : operacoes) {
+            if (operacao.getTipo() == TipoOperacaoLote.CRIAR) {
+                Projeto projeto = projetoMapper.toEntity(operacao.getProjeto(),
+                        selecionarResponsaveis(responsaveis, operacao.getProjeto().getResponsavelIds()));
+                calcularEAtualizarMetricas(projeto);
+                criados.add(projeto);
+            } else if (operacao.getTipo() == TipoOperacaoLote.ATUALIZAR) {
+                Projeto projeto = projetos.get(operacao.getId());
+                statusAnteriores.put(projeto.getId(), projeto.getStatus());
+                projetoMapper.updateEntityFromRequest(operacao.getProjeto(), projeto,
+                        selecionarResponsaveis(responsaveis, operacao.getProjeto().getResponsavelIds()));
+                calcularEAtualizarMetricas(projeto);
+                atualizados.add(projeto);
+            }
+        }
+        projetoRepository.saveAll(criados);
+        // Um único flush: inserts, updates e vínculos saem em lote
+        projetoRepository.flush();
+
+        List<ProjetoResponse> respostasCriados = projetoMapper.toResponseList(criados);
+        List<ProjetoResponse> respostasAtualizados = projetoMapper.toResponseList(atualizados);
+        impressaoColecoesRepository.registrarAlteracaoProjetos();
+        respostasCriados.forEach(projeto -> eventPublisher.publishEvent(
+                EventoQuadro.projeto(TipoEventoQuadro.PROJETO_CRIADO, null, projeto)));
+        respostasAtualizados.forEach(projeto -> eventPublisher.publishEvent(
+                EventoQuadro.projeto(TipoEventoQuadro.PROJETO_ATUALIZADO, statusAnteriores.get(projeto.getId()), projeto)));
+        statusExcluidos.forEach((id, status) -> eventPublisher.publishEvent(EventoQuadro.projetoExcluido(id, status)));
+
+        return new ResultadoLoteResponse(respostasCriados, respostasAtualizados, new ArrayList<>(idsExclusao));
+    }
+
+    private void validarOperacaoLote(OperacaoLoteRequest operacao) {
+        switch (operacao.getTipo()) {
+            case CRIAR -> {
+                if (operacao.getProjeto() == null || operacao.getId() != null) {
+                    throw new IllegalArgumentException("Operação CRIAR exige projeto e não aceita id");
+                }
+            }
+            case ATUALIZAR -> {
+                if (operacao.getProjeto() == null || operacao.getId() == null) {
+                    throw new IllegalArgumentException("Operação ATUALIZAR exige id e projeto");
+                }
+            }
+            case EXCLUIR -> {
+                if (operacao.getId() == null) {
+                    throw new IllegalArgumentException("Operação EXCLUIR exige id");
+                }
+            }
+        }
+    }
+
+    // Mesma regra de obterResponsaveisPorIds: IDs inexistentes são ignorados
+    private Set<Responsavel> selecionarResponsaveis(Map<Long, Responsavel> responsaveis, Set<Long> ids) {
+        if (ids == null) {
+            return new HashSet<>();
+        }
+        return ids.stream()
+                .map(responsaveis::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(HashSet::new));
+    }
+
+    private KanbanColunaResponse montarColuna(StatusProjeto status, long total, List<ProjetoMetricas> cards, boolean temMais) {
+        String proximoCursor = null;
+        if (temMais && !cards.isEmpty()) {
+            ProjetoMetricas ultimo = cards.get(cards.size() - 1);
+            proximoCursor = CursorCodec.codificar(ultimo.getNome(), ultimo.getId());
+        }
+        List<ProjetoResponse> respostas = cards.stream()
+                .map(projetoMapper::toResponse)
+                .toList();
+        return new KanbanColunaResponse(status, total, respostas, proximoCursor);
+    }
+
+    private void validarLimitePagina(int limite) {
+        if (limite < 1 || limite > LIMITE_MAXIMO_PAGINA) {
+            throw new IllegalArgumentException(
+                    "O tamanho da página deve estar entre 1 e " + LIMITE_MAXIMO_PAGINA);
+        }
     }
-}
\ No newline at end of file
+}
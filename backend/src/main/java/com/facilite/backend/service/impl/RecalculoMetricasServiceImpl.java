@@ -0,0 +1,213 @@
+package com.facilite.backend.service.impl;
+
+import com.facilite.backend.dto.EventoQuadro;
+import com.facilite.backend.dto.ResultadoRecalculoResponse;
+import com.facilite.backend.model.MetricasCalculadas;
+import com.facilite.backend.model.Projeto;
+import com.facilite.backend.model.StatusProjeto;
+import com.facilite.backend.repository.ImpressaoColecoesRepository;
+import com.facilite.backend.service.MetricaService;
+import com.facilite.backend.service.RecalculoMetricasService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Recalcula status, dias de atraso e percentual de tempo restante dos projetos cuja
+ * próxima reavaliação venceu. Lê em lotes ordenados por ID (sem carregar entidades JPA)
+ * e grava via JDBC batch; só as linhas com métricas alteradas têm updated_at modificado.
+ */
+@Service
+public class RecalculoMetricasServiceImpl implements RecalculoMetricasService {
+
+    private static final String SELECT_LOTE = """
+            SELECT id, status, inicio_previsto, termino_previsto, inicio_realizado, termino_realizado,
+                   dias_atraso, percentual_tempo_restante
+            FROM projetos
+            WHERE proxima_reavaliacao <= ? AND id > ?
+            ORDER BY id
+            LIMIT ?
+            """;
+
+    private static final String UPDATE_METRICAS = """
+            UPDATE projetos
+            SET status = ?, dias_atraso = ?, percentual_tempo_restante = ?, proxima_reavaliacao = ?, updated_at = ?,
+                versao = versao + 1
+            WHERE id = ?
+            """;
+
+    private static final String UPDATE_REAVALIACAO = """
+            UPDATE projetos
+            SET proxima_reavaliacao = ?
+            WHERE id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MetricaService metricaService;
+    private final ImpressaoColecoesRepository impressaoColecoesRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int tamanhoLote;
+
+    private final Counter escaneadosCounter;
+    private final Counter atualizadosCounter;
+    private final Timer duracaoTimer;
+    private final AtomicReference<ResultadoRecalculoResponse> ultimaExecucao = new AtomicReference<>();
+
+    public RecalculoMetricasServiceImpl(JdbcTemplate jdbcTemplate,
+                                        TransactionTemplate transactionTemplate,
+                                        MetricaService metricaService,
+                                        ImpressaoColecoesRepository impressaoColecoesRepository,
+                                        MeterRegistry meterRegistry,
+                                        ApplicationEventPublisher eventPublisher,
+                                        @Value("${kanban.recalculo.tamanho-lote:1000}") int tamanhoLote) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.metricaService = metricaService;
+        this.impressaoColecoesRepository = impressaoColecoesRepository;
+        this.eventPublisher = eventPublisher;
+        this.tamanhoLote = tamanhoLote;
+        this.escaneadosCounter = Counter.builder("kanban.recalculo.projetos.escaneados")
+                .description("Projetos lidos pelo recálculo de métricas")
+                .register(meterRegistry);
+        this.atualizadosCounter = Counter.builder("kanban.recalculo.projetos.atualizados")
+                .description("Projetos com métricas alteradas pelo recálculo")
+                .register(meterRegistry);
+        this.duracaoTimer = Timer.builder("kanban.recalculo.duracao")
+                .description("Duração de cada execução do recálculo de métricas")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public ResultadoRecalculoResponse recalcular() {
+        LocalDateTime iniciadoEm = LocalDateTime.now();
+        // Uma única data de referência para toda a execução, mesmo que ela atravesse a meia-noite
+        LocalDate referencia = iniciadoEm.toLocalDate();
+        Date hoje = Date.valueOf(referencia);
+        long inicio = System.nanoTime();
+        long escaneados = 0;
+        long atualizados = 0;
+        long ultimoId = 0;
+
+        while (true) {
+            List<LinhaProjeto> lote = jdbcTemplate.query(SELECT_LOTE, this::mapearLinha, hoje, ultimoId, tamanhoLote);
+            if (lote.isEmpty()) {
+                break;
+            }
+
+            List<Object[]> alteracoes = new ArrayList<>();
+            List<Object[]> reagendamentos = new ArrayList<>();
+            Timestamp agora = Timestamp.valueOf(LocalDateTime.now());
+            List<MetricasCalculadas> metricas = metricaService.calcularMetricas(
+                    lote.stream().map(LinhaProjeto::paraProjeto).toList(), referencia);
+            for (int i = 0; i < lote.size(); i++) {
+                LinhaProjeto linha = lote.get(i);
+                MetricasCalculadas calculadas = metricas.get(i);
+                Date proximaReavaliacao = data(calculadas.proximaReavaliacao());
+
+                if (linha.mudou(calculadas)) {
+                    alteracoes.add(new Object[]{
+                            calculadas.status().name(), calculadas.diasAtraso(),
+                            calculadas.percentualTempoRestante(), proximaReavaliacao, agora, linha.id()});
+                } else {
+                    reagendamentos.add(new Object[]{proximaReavaliacao, linha.id()});
+                }
+            }
+
+            // Cada lote em sua própria transação para não segurar locks durante a varredura inteira
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!alteracoes.isEmpty()) {
+                    jdbcTemplate.batchUpdate(UPDATE_METRICAS, alteracoes);
+                    impressaoColecoesRepository.registrarAlteracaoProjetos();
+                }
+                if (!reagendamentos.isEmpty()) {
+                    jdbcTemplate.batchUpdate(UPDATE_REAVALIACAO, reagendamentos);
+                }
+            });
+
+            escaneados += lote.size();
+            atualizados += alteracoes.size();
+            ultimoId = lote.get(lote.size() - 1).id();
+        }
+
+        long duracaoNanos = System.nanoTime() - inicio;
+        escaneadosCounter.increment(escaneados);
+        atualizadosCounter.increment(atualizados);
+        duracaoTimer.record(duracaoNanos, TimeUnit.NANOSECONDS);
+
+        ResultadoRecalculoResponse resultado = new ResultadoRecalculoResponse(
+                iniciadoEm, escaneados, atualizados, TimeUnit.NANOSECONDS.toMillis(duracaoNanos));
+        ultimaExecucao.set(resultado);
+        if (atualizados > 0) {
+            eventPublisher.publishEvent(EventoQuadro.resincronizar());
+        }
+        return resultado;
+    }
+
+    @Override
+    public Optional<ResultadoRecalculoResponse> ultimaExecucao() {
+        return Optional.ofNullable(ultimaExecucao.get());
+    }
+
+    private LinhaProjeto mapearLinha(ResultSet rs, int rowNum) throws SQLException {
+        return new LinhaProjeto(
+                rs.getLong("id"),
+                StatusProjeto.valueOf(rs.getString("status")),
+                data(rs, "inicio_previsto"),
+                data(rs, "termino_previsto"),
+                data(rs, "inicio_realizado"),
+                data(rs, "termino_realizado"),
+                (Integer) rs.getObject("dias_atraso", Integer.class),
+                (Double) rs.getObject("percentual_tempo_restante", Double.class));
+    }
+
+    private static LocalDate data(ResultSet rs, String coluna) throws SQLException {
+        Date data = rs.getDate(coluna);
+        return data != null ? data.toLocalDate() : null;
+    }
+
+    private static Date data(LocalDate data) {
+        return data != null ? Date.valueOf(data) : null;
+    }
+
+    private record LinhaProjeto(long id, StatusProjeto status,
+                                LocalDate inicioPrevisto, LocalDate terminoPrevisto,
+                                LocalDate inicioRealizado, LocalDate terminoRealizado,
+                                Integer diasAtraso, Double percentualTempoRestante) {
+
+        Projeto paraProjeto() {
+            Projeto projeto = new Projeto();
+            projeto.setId(id);
+            projeto.setStatus(status);
+            projeto.setInicioPrevisto(inicioPrevisto);
+            projeto.setTerminoPrevisto(terminoPrevisto);
+            projeto.setInicioRealizado(inicioRealizado);
+            projeto.setTerminoRealizado(terminoRealizado);
+            return projeto;
+        }
+
+        boolean mudou(MetricasCalculadas recalculadas) {
+            return status != recalculadas.status()
+                    || !Objects.equals(diasAtraso, recalculadas.diasAtraso())
+                    || !Objects.equals(percentualTempoRestante, recalculadas.percentualTempoRestante());
+        }
+    }
+}
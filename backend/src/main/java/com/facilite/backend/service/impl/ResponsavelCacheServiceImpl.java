@@ -0,0 +1,136 @@
+package com.facilite.backend.service.impl;
+
+import com.facilite.backend.dto.EventoQuadro;
+import com.facilite.backend.dto.ResponsavelResponse;
+import com.facilite.backend.mapper.ResponsavelMapper;
+import com.facilite.backend.model.Responsavel;
+import com.facilite.backend.service.ResponsavelCacheService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Cache LRU de ResponsavelResponse por ID, limitado por kanban.cache.responsaveis.tamanho-maximo.
+ * Poucas centenas de responsáveis aparecem em centenas de milhares de projetos: o mapper de
+ * projetos reaproveita a mesma instância em vez de converter o responsável a cada projeto.
+ * As entradas são indexadas pelo ID e cada uma vale só para o updatedAt com que foi convertida:
+ * uma entidade mais nova no próximo acesso a substitui, mesmo que uma leitura antiga tenha
+ * regravado a entrada depois da invalidação.
+ * O cache não diz se o responsável existe: criação e atualização de projetos sempre confirmam os
+ * IDs no banco com findAllById. Métricas no padrão do Micrometer (cache.gets, cache.evictions,
+ * cache.size) com a tag cache=responsaveis.
+ */
+@Service
+public class ResponsavelCacheServiceImpl implements ResponsavelCacheService {
+
+    private static final String NOME = "responsaveis";
+
+    private final ResponsavelMapper responsavelMapper;
+    private final Map<Long, ResponsavelResponse> entradas;
+    private final Counter acertosCounter;
+    private final Counter faltasCounter;
+    private final Counter despejosCounter;
+
+    public ResponsavelCacheServiceImpl(ResponsavelMapper responsavelMapper,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${kanban.cache.responsaveis.tamanho-maximo:1000}") int tamanhoMaximo) {
+        this.responsavelMapper = responsavelMapper;
+        this.acertosCounter = Counter.builder("cache.gets")
+                .tag("cache", NOME).tag("result", "hit")
+                .description("Leituras atendidas pelo cache de responsáveis")
+                .register(meterRegistry);
+        this.faltasCounter = Counter.builder("cache.gets")
+                .tag("cache", NOME).tag("result", "miss")
+                .description("Leituras que precisaram converter ou consultar o responsável")
+                .register(meterRegistry);
+        this.despejosCounter = Counter.builder("cache.evictions")
+                .tag("cache", NOME)
+                .description("Responsáveis removidos do cache por tamanho")
+                .register(meterRegistry);
+        this.entradas = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, ResponsavelResponse> maisAntiga) {
+                boolean despejar = size() > tamanhoMaximo;
+                if (despejar) {
+                    despejosCounter.increment();
+                }
+                return despejar;
+            }
+        };
+        Gauge.builder("cache.size", this, ResponsavelCacheServiceImpl::tamanho)
+                .tag("cache", NOME)
+                .description("Responsáveis em cache")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public ResponsavelResponse obter(Responsavel responsavel) {
+        if (responsavel == null) {
+            return null;
+        }
+        Long id = responsavel.getId();
+        synchronized (entradas) {
+            ResponsavelResponse emCache = entradas.get(id);
+            if (emCache != null && Objects.equals(emCache.getUpdatedAt(), responsavel.getUpdatedAt())) {
+                acertosCounter.increment();
+                return emCache;
+            }
+        }
+        faltasCounter.increment();
+        ResponsavelResponse response = responsavelMapper.toResponse(responsavel);
+        if (id != null) {
+            synchronized (entradas) {
+                entradas.put(id, response);
+            }
+        }
+        return response;
+    }
+
+    boolean contem(Long id) {
+        synchronized (entradas) {
+            return entradas.containsKey(id);
+        }
+    }
+
+    @Override
+    public void invalidar(Long id) {
+        synchronized (entradas) {
+            entradas.remove(id);
+        }
+    }
+
+    @Override
+    public void limpar() {
+        synchronized (entradas) {
+            entradas.clear();
+        }
+    }
+
+    /**
+     * Invalida de novo depois do commit (uma leitura concorrente pode ter recolocado o valor antigo)
+     * e também para alterações feitas em outras instâncias, recebidas pelo barramento
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void aoAlterar(EventoQuadro evento) {
+        switch (evento.getTipo()) {
+            case RESPONSAVEL_ATUALIZADO, RESPONSAVEL_EXCLUIDO -> invalidar(evento.getId());
+            case RESINCRONIZAR -> limpar();
+            default -> {
+            }
+        }
+    }
+
+    private int tamanho() {
+        synchronized (entradas) {
+            return entradas.size();
+        }
+    }
+}
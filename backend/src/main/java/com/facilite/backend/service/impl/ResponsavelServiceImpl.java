@@ -1,34 +1,74 @@
 package com.facilite.backend.service.impl;
 
+import com.facilite.backend.dto.EventoQuadro;
+import com.facilite.backend.dto.PaginaCursorResponse;
 import com.facilite.backend.dto.ResponsavelRequest;
 import com.facilite.backend.dto.ResponsavelResponse;
+import com.facilite.backend.dto.ResponsavelUpsertRequest;
+import com.facilite.backend.dto.ResultadoUpsertResponsavel;
+import com.facilite.backend.dto.TipoEventoQuadro;
 import com.facilite.backend.exception.EmailAlreadyExistsException;
 import com.facilite.backend.exception.ResponsavelNotFoundException;
 import com.facilite.backend.mapper.ResponsavelMapper;
 import com.facilite.backend.model.Responsavel;
+import com.facilite.backend.repository.ImpressaoColecoesRepository;
+import com.facilite.backend.repository.KeysetRepository;
+import com.facilite.backend.repository.ProjetoRepository;
 import com.facilite.backend.repository.ResponsavelRepository;
+import com.facilite.backend.repository.UpsertResponsavelRepository;
+import com.facilite.backend.service.CacheEntidadesService;
+import com.facilite.backend.service.ResponsavelCacheService;
 import com.facilite.backend.service.ResponsavelService;
+import com.facilite.backend.util.CampoCursor;
+import com.facilite.backend.util.CursorCodec;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class ResponsavelServiceImpl implements ResponsavelService {
 
+    private static final int LIMITE_MAXIMO_PAGINA = 100;
+
+    private static final Map<String, CampoCursor<Responsavel>> CAMPOS_CURSOR = Map.of(
+            "nome", CampoCursor.texto("nome", Responsavel::getNome),
+            "createdAt", CampoCursor.dataHora("createdAt", Responsavel::getCreatedAt)
+    );
+
     private final ResponsavelRepository responsavelRepository;
+    private final ProjetoRepository projetoRepository;
+    private final UpsertResponsavelRepository upsertResponsavelRepository;
     private final ResponsavelMapper responsavelMapper;
+    private final KeysetRepository keysetRepository;
+    private final ImpressaoColecoesRepository impressaoColecoesRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ResponsavelCacheService responsavelCacheService;
+    private final CacheEntidadesService cacheEntidadesService;
 
     @Override
     public List<ResponsavelResponse> listarTodos() {
         return responsavelMapper.toResponseList(responsavelRepository.findAll());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public String impressaoColecao() {
+        return impressaoColecoesRepository.impressaoResponsaveis();
+    }
+
     @Override
     public ResponsavelResponse buscarPorId(Long id) {
         Responsavel responsavel = responsavelRepository.findById(id)
@@ -38,13 +78,20 @@ public class ResponsavelServiceImpl implements ResponsavelService {
 
     @Override
     public ResponsavelResponse criarResponsavel(ResponsavelRequest request) {
-        if (existePorEmail(request.getEmail())) {
-            throw new EmailAlreadyExistsException(request.getEmail());
-        }
-
         Responsavel responsavel = responsavelMapper.toEntity(request);
-        Responsavel responsavelSalvo = responsavelRepository.save(responsavel);
-        return responsavelMapper.toResponse(responsavelSalvo);
+        Responsavel responsavelSalvo;
+        try {
+            responsavelSalvo = responsavelRepository.save(responsavel);
+            // Com ID por sequência o insert fica para o commit; o flush preenche createdAt/updatedAt da resposta
+            // e faz o índice único acusar aqui um email repetido
+            responsavelRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            throw traduzirViolacao(e, request.getEmail());
+        }
+        ResponsavelResponse response = responsavelMapper.toResponse(responsavelSalvo);
+        impressaoColecoesRepository.registrarAlteracaoResponsaveis();
+        eventPublisher.publishEvent(EventoQuadro.responsavel(TipoEventoQuadro.RESPONSAVEL_CRIADO, response));
+        return response;
     }
 
     @Override
@@ -52,22 +99,58 @@ public class ResponsavelServiceImpl implements ResponsavelService {
         Responsavel responsavel = responsavelRepository.findById(id)
                 .orElseThrow(() -> new ResponsavelNotFoundException(id));
 
-        // Verificar se email já existe (para outro responsável)
-        if (!responsavel.getEmail().equals(request.getEmail()) &&
-                existePorEmail(request.getEmail())) {
-            throw new EmailAlreadyExistsException(request.getEmail());
+        responsavelMapper.updateEntityFromRequest(request, responsavel);
+        Responsavel responsavelAtualizado;
+        try {
+            responsavelAtualizado = responsavelRepository.save(responsavel);
+            responsavelRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            throw traduzirViolacao(e, request.getEmail());
         }
+        projetoRepository.marcarAlteradosPorResponsavel(id, LocalDateTime.now());
+        impressaoColecoesRepository.registrarAlteracaoResponsaveis();
+        responsavelCacheService.invalidar(id);
+        ResponsavelResponse response = responsavelMapper.toResponse(responsavelAtualizado);
+        eventPublisher.publishEvent(EventoQuadro.responsavel(TipoEventoQuadro.RESPONSAVEL_ATUALIZADO, response));
+        return response;
+    }
 
-        responsavelMapper.updateEntityFromRequest(request, responsavel);
-        Responsavel responsavelAtualizado = responsavelRepository.save(responsavel);
-        return responsavelMapper.toResponse(responsavelAtualizado);
+    @Override
+    public ResultadoUpsertResponsavel upsertPorEmail(String email, ResponsavelUpsertRequest request) {
+        UpsertResponsavelRepository.Resultado resultado =
+                upsertResponsavelRepository.upsertPorEmail(email, request.getNome(), request.getCargo());
+        if (!resultado.alterado()) {
+            // Mesmos dados já gravados: nada a marcar, invalidar ou publicar
+            return new ResultadoUpsertResponsavel(responsavelMapper.toResponse(resultado.responsavel()), false);
+        }
+        Long id = resultado.responsavel().getId();
+        if (!resultado.criado()) {
+            projetoRepository.marcarAlteradosPorResponsavel(id, LocalDateTime.now());
+        }
+        impressaoColecoesRepository.registrarAlteracaoResponsaveis();
+        // Gravado via JDBC: os caches não enxergam a alteração sozinhos
+        responsavelCacheService.invalidar(id);
+        cacheEntidadesService.invalidarResponsavel(id);
+        ResponsavelResponse response = responsavelMapper.toResponse(resultado.responsavel());
+        TipoEventoQuadro tipo = resultado.criado()
+                ? TipoEventoQuadro.RESPONSAVEL_CRIADO
+                : TipoEventoQuadro.RESPONSAVEL_ATUALIZADO;
+        eventPublisher.publishEvent(EventoQuadro.responsavel(tipo, response));
+        return new ResultadoUpsertResponsavel(response, resultado.criado());
     }
 
     @Override
     public void excluirResponsavel(Long id) {
         Responsavel responsavel = responsavelRepository.findById(id)
                 .orElseThrow(() -> new ResponsavelNotFoundException(id));
+        // Antes da exclusão: depois dela a cascata já removeu os vínculos que apontam os projetos
+        projetoRepository.marcarAlteradosPorResponsavel(id, LocalDateTime.now());
         responsavelRepository.delete(responsavel);
+        impressaoColecoesRepository.registrarAlteracaoResponsaveis();
+        responsavelCacheService.invalidar(id);
+        // O banco remove os vínculos por cascata, sem passar pelo cache de segundo nível
+        cacheEntidadesService.invalidarResponsavelExcluido(id);
+        eventPublisher.publishEvent(EventoQuadro.responsavelExcluido(id));
     }
 
     @Override
@@ -81,4 +164,53 @@ public class ResponsavelServiceImpl implements ResponsavelService {
         Page<Responsavel> responsaveisPage = responsavelRepository.findAll(pageable);
         return responsaveisPage.map(responsavelMapper::toResponse);
     }
-}
\ No newline at end of file
+
+    @Override
+    @Transactional(readOnly = true)
+    public PaginaCursorResponse<ResponsavelResponse> listarPorCursor(String cursor, int tamanho, String ordenarPor,
+                                                                     Sort.Direction direcao, boolean incluirTotal) {
+        if (tamanho < 1 || tamanho > LIMITE_MAXIMO_PAGINA) {
+            throw new IllegalArgumentException(
+                    "O tamanho da página deve estar entre 1 e " + LIMITE_MAXIMO_PAGINA);
+        }
+        CampoCursor<Responsavel> campo = CampoCursor.resolver(CAMPOS_CURSOR, ordenarPor);
+
+        Comparable<?> valorCursor = null;
+        Long idCursor = null;
+        if (cursor != null && !cursor.isBlank()) {
+            CursorCodec.Posicao posicao = CursorCodec.decodificar(cursor);
+            valorCursor = campo.converter(posicao.valor());
+            idCursor = posicao.id();
+        }
+
+        List<Responsavel> responsaveis = keysetRepository.buscar(
+                Responsavel.class, campo.atributo(), direcao, valorCursor, idCursor, tamanho + 1);
+        boolean temMais = responsaveis.size() > tamanho;
+        if (temMais) {
+            responsaveis = responsaveis.subList(0, tamanho);
+        }
+
+        String proximoCursor = null;
+        if (temMais) {
+            Responsavel ultimo = responsaveis.get(responsaveis.size() - 1);
+            proximoCursor = campo.codificarCursor(ultimo, ultimo.getId());
+        }
+        Long total = incluirTotal ? responsavelRepository.count() : null;
+
+        return new PaginaCursorResponse<>(responsavelMapper.toResponseList(responsaveis), proximoCursor, total);
+    }
+
+    /**
+     * O índice único de email decide o conflito: checar antes com existsByEmail custaria outra ida
+     * ao banco e ainda perderia para um cadastro concorrente
+     */
+    private RuntimeException traduzirViolacao(DataIntegrityViolationException e, String email) {
+        if (e.getCause() instanceof ConstraintViolationException violacao
+                && violacao.getConstraintName() != null
+                // O H2 informa o índice da constraint (PUBLIC.UK_RESPONSAVEIS_EMAIL_INDEX_x)
+                && violacao.getConstraintName().toLowerCase(Locale.ROOT).contains(Responsavel.UNIQUE_EMAIL)) {
+            return new EmailAlreadyExistsException(email);
+        }
+        return e;
+    }
+}
@@ -0,0 +1,137 @@
+package com.facilite.backend.service.impl;
+
+import com.facilite.backend.dto.AlteracoesProjetosResponse;
+import com.facilite.backend.dto.ProjetoResponse;
+import com.facilite.backend.mapper.ProjetoMapper;
+import com.facilite.backend.model.ProjetoMetricas;
+import com.facilite.backend.model.ProjetoExcluido;
+import com.facilite.backend.repository.ProjetoExcluidoRepository;
+import com.facilite.backend.repository.ProjetoRepository;
+import com.facilite.backend.service.SincronizacaoProjetoService;
+import com.facilite.backend.util.TokenSincronizacao;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Sincronização incremental: projetos com updated_at depois da posição do token e exclusões
+ * registradas em projetos_excluidos, ambos lidos por keyset.
+ * Os projetos saem da view vw_projetos_metricas, com o mesmo status e métricas das listagens e do
+ * quadro. A seleção continua pelo updated_at gravado: um projeto cujo status ou métricas mudam só
+ * com a data só volta a aparecer depois que o recálculo o grava.
+ * Só entram linhas com carimbo até agora - margem, para que uma transação que gravou o carimbo
+ * e ainda não commitou (ou um nó com relógio um pouco atrasado) não fique para trás do token.
+ * A margem é uma heurística: uma transação aberta por mais tempo que ela commita um carimbo
+ * que o token já ultrapassou, e essa alteração não é entregue.
+ * Exclusões mais antigas que a retenção são expurgadas; tokens anteriores a ela são recusados,
+ * e o cliente precisa recomeçar sem token.
+ */
+@Service
+@Transactional(readOnly = true)
+public class SincronizacaoProjetoServiceImpl implements SincronizacaoProjetoService {
+
+    private static final int LIMITE_MAXIMO = 1000;
+    private static final LocalDateTime INICIO = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final ProjetoRepository projetoRepository;
+    private final ProjetoExcluidoRepository projetoExcluidoRepository;
+    private final ProjetoMapper projetoMapper;
+    private final Duration margem;
+    private final Duration retencao;
+
+    public SincronizacaoProjetoServiceImpl(ProjetoRepository projetoRepository,
+                                           ProjetoExcluidoRepository projetoExcluidoRepository,
+                                           ProjetoMapper projetoMapper,
+                                           @Value("${kanban.changes.margem:5s}") Duration margem,
+                                           @Value("${kanban.changes.retencao:30d}") Duration retencao) {
+        this.projetoRepository = projetoRepository;
+        this.projetoExcluidoRepository = projetoExcluidoRepository;
+        this.projetoMapper = projetoMapper;
+        this.margem = margem;
+        this.retencao = retencao;
+    }
+
+    @Override
+    public AlteracoesProjetosResponse buscarAlteracoes(String token, int limite) {
+        if (limite < 1 || limite > LIMITE_MAXIMO) {
+            throw new IllegalArgumentException("O limite deve estar entre 1 e " + LIMITE_MAXIMO);
+        }
+        // Mesma precisão de TIMESTAMP no banco, para o token bater com os valores gravados
+        LocalDateTime ate = LocalDateTime.now().minus(margem).truncatedTo(ChronoUnit.MICROS);
+
+        // Sem token o cliente não tem nada copiado: recebe todos os projetos e nenhuma exclusão antiga
+        TokenSincronizacao posicao = token == null || token.isBlank()
+                ? new TokenSincronizacao(INICIO, 0L, ate, Long.MAX_VALUE)
+                : TokenSincronizacao.decodificar(token);
+        // Exclusões anteriores à retenção podem já ter sido expurgadas: o token não é mais confiável
+        if (posicao.excluidoEm().isBefore(LocalDateTime.now().minus(retencao))) {
+            throw new IllegalArgumentException("Token de sincronização expirado; sincronize novamente sem since");
+        }
+
+        // Um item a mais indica se há mais alterações depois do limite
+        List<Long> ids = projetoRepository.findIdsAlteradosDesde(
+                posicao.alteradoEm(), posicao.idAlterado(), ate, Limit.of(limite + 1));
+        boolean maisProjetos = ids.size() > limite;
+        List<ProjetoMetricas> projetos = buscarNaOrdem(maisProjetos ? ids.subList(0, limite) : ids);
+
+        List<ProjetoExcluido> excluidos = projetoExcluidoRepository.findExcluidosDesde(
+                posicao.excluidoEm(), posicao.idExcluido(), ate, Limit.of(limite + 1));
+        boolean maisExclusoes = excluidos.size() > limite;
+        if (maisExclusoes) {
+            excluidos = excluidos.subList(0, limite);
+        }
+
+        // Cada lado avança até o último item entregue ou, se esgotou, até o limite superior desta leitura
+        // (nunca recuando, caso o token venha de uma leitura com margem menor)
+        LocalDateTime alteradoEm = posicao.alteradoEm().isAfter(ate) ? posicao.alteradoEm() : ate;
+        Long idAlterado = Long.MAX_VALUE;
+        if (maisProjetos) {
+            ProjetoMetricas ultimo = projetos.get(projetos.size() - 1);
+            alteradoEm = ultimo.getUpdatedAt();
+            idAlterado = ultimo.getId();
+        }
+        LocalDateTime excluidoEm = posicao.excluidoEm().isAfter(ate) ? posicao.excluidoEm() : ate;
+        Long idExcluido = Long.MAX_VALUE;
+        if (maisExclusoes) {
+            ProjetoExcluido ultimo = excluidos.get(excluidos.size() - 1);
+            excluidoEm = ultimo.getExcluidoEm();
+            idExcluido = ultimo.getProjetoId();
+        }
+
+        List<ProjetoResponse> respostas = projetos.stream()
+                .map(projetoMapper::toResponse)
+                .toList();
+        String proximoToken = new TokenSincronizacao(alteradoEm, idAlterado, excluidoEm, idExcluido).codificar();
+        return new AlteracoesProjetosResponse(respostas,
+                excluidos.stream().map(ProjetoExcluido::getProjetoId).toList(),
+                proximoToken, maisProjetos || maisExclusoes);
+    }
+
+    @Override
+    @Transactional
+    public int expurgarExclusoes() {
+        return projetoExcluidoRepository.excluirAnterioresA(LocalDateTime.now().minus(retencao));
+    }
+
+    private List<ProjetoMetricas> buscarNaOrdem(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, ProjetoMetricas> projetosPorId = projetoRepository.findComMetricasByIdIn(ids).stream()
+                .collect(Collectors.toMap(ProjetoMetricas::getId, Function.identity()));
+        return ids.stream()
+                .map(projetosPorId::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+}
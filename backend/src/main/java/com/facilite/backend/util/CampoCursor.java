@@ -0,0 +1,50 @@
+package com.facilite.backend.util;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+/**
+ * Campo que pode ser usado como chave de ordenação na paginação por cursor.
+ * Sabe ler o valor da entidade (para gerar o próximo cursor) e converter o valor
+ * do cursor de volta para o tipo do atributo.
+ */
+public record CampoCursor<T>(String atributo,
+                             Function<T, String> leitor,
+                             Function<String, Comparable<?>> conversor) {
+
+    public static <T> CampoCursor<T> texto(String atributo, Function<T, String> getter) {
+        return new CampoCursor<>(atributo, getter, valor -> valor);
+    }
+
+    public static <T> CampoCursor<T> dataHora(String atributo, Function<T, LocalDateTime> getter) {
+        return new CampoCursor<>(atributo, entidade -> Objects.toString(getter.apply(entidade), null),
+                LocalDateTime::parse);
+    }
+
+    /**
+     * Busca o campo pelo nome informado pelo cliente
+     */
+    public static <T> CampoCursor<T> resolver(Map<String, CampoCursor<T>> permitidos, String nome) {
+        CampoCursor<T> campo = permitidos.get(nome);
+        if (campo == null) {
+            throw new IllegalArgumentException(
+                    "Ordenação inválida: " + nome + ". Valores aceitos: " + String.join(", ", new TreeSet<>(permitidos.keySet())));
+        }
+        return campo;
+    }
+
+    public String codificarCursor(T entidade, Long id) {
+        return CursorCodec.codificar(leitor.apply(entidade), id);
+    }
+
+    public Comparable<?> converter(String valor) {
+        try {
+            return conversor.apply(valor);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Cursor inválido para a ordenação por " + atributo);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.facilite.backend.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Codifica e decodifica cursores opacos usados na paginação por chave (keyset).
+ * O cursor carrega o valor da coluna de ordenação e o ID do último item da página.
+ */
+public final class CursorCodec {
+
+    private static final char SEPARADOR = '|';
+
+    private CursorCodec() {
+    }
+
+    public record Posicao(String valor, Long id) {
+    }
+
+    /**
+     * Gera o cursor que aponta para a posição logo após o item informado
+     */
+    public static String codificar(String valor, Long id) {
+        String bruto = id + String.valueOf(SEPARADOR) + (valor == null ? "" : valor);
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(bruto.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica um cursor recebido do cliente
+     */
+    public static Posicao decodificar(String cursor) {
+        try {
+            String bruto = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separador = bruto.indexOf(SEPARADOR);
+            if (separador <= 0) {
+                throw new IllegalArgumentException("Cursor inválido: " + cursor);
+            }
+            Long id = Long.valueOf(bruto.substring(0, separador));
+            return new Posicao(bruto.substring(separador + 1), id);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Cursor inválido: " + cursor);
+        }
+    }
+}
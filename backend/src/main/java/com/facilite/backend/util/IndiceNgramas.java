@@ -0,0 +1,230 @@
+package com.facilite.backend.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Índice de autocomplete em memória. As palavras dos campos, normalizadas como em {@link Trigramas},
+ * são quebradas nos trigramas do início com bordas ("  j", " jo", "joa", "oao"); cada trigrama aponta
+ * para a lista ordenada dos IDs que o contêm, guardada em um long[]. A busca intersecta as listas dos
+ * trigramas do termo e confirma que cada palavra buscada é início de alguma palavra do documento.
+ * Não é thread-safe: quem usa controla o acesso.
+ */
+public final class IndiceNgramas {
+
+    private static final Pattern SEPARADORES = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    // Primeiro quem começa pelo termo, depois os rótulos mais curtos, em ordem alfabética
+    private static final Comparator<Candidato> ORDEM = Comparator
+            .comparing(Candidato::noInicio).reversed()
+            .thenComparingInt((Candidato c) -> c.documento().rotulo().length())
+            .thenComparing(c -> c.documento().rotulo())
+            .thenComparingLong(c -> c.documento().id());
+
+    /**
+     * Documento indexado com os campos originais; o primeiro é o rótulo exibido
+     */
+    public record Documento(long id, List<String> campos) {
+
+        public String rotulo() {
+            return campos.get(0);
+        }
+    }
+
+    private record Entrada(Documento documento, String rotuloNormalizado, String[] palavras) {
+    }
+
+    private record Candidato(Documento documento, boolean noInicio) {
+    }
+
+    private final Map<String, ListaIds> postagens = new HashMap<>();
+    private final Map<Long, Entrada> entradas = new HashMap<>();
+
+    /**
+     * Indexa ou substitui o documento; campos nulos são ignorados na busca
+     */
+    public void indexar(long id, String... campos) {
+        remover(id);
+        String[] palavras = palavras(campos);
+        String rotulo = Trigramas.normalizar(campos[0]);
+        entradas.put(id, new Entrada(new Documento(id, Collections.unmodifiableList(Arrays.asList(campos.clone()))),
+                rotulo == null ? "" : rotulo, palavras));
+        for (String trigrama : trigramas(palavras)) {
+            postagens.computeIfAbsent(trigrama, t -> new ListaIds()).adicionar(id);
+        }
+    }
+
+    public boolean remover(long id) {
+        Entrada entrada = entradas.remove(id);
+        if (entrada == null) {
+            return false;
+        }
+        for (String trigrama : trigramas(entrada.palavras())) {
+            ListaIds lista = postagens.get(trigrama);
+            if (lista != null && lista.remover(id) && lista.tamanho == 0) {
+                postagens.remove(trigrama);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Até {@code limite} documentos em que cada palavra da busca inicia alguma palavra indexada
+     */
+    public List<Documento> buscar(String busca, int limite) {
+        String[] termos = palavras(busca);
+        if (termos.length == 0 || limite < 1) {
+            return List.of();
+        }
+        List<ListaIds> listas = new ArrayList<>();
+        for (String trigrama : trigramas(termos)) {
+            ListaIds lista = postagens.get(trigrama);
+            if (lista == null) {
+                return List.of();
+            }
+            listas.add(lista);
+        }
+        // Percorre a lista mais curta e procura cada ID nas demais por busca binária
+        listas.sort(Comparator.comparingInt(l -> l.tamanho));
+        ListaIds menor = listas.get(0);
+        PriorityQueue<Candidato> melhores = new PriorityQueue<>(limite + 1, ORDEM.reversed());
+        for (int i = 0; i < menor.tamanho; i++) {
+            long id = menor.ids[i];
+            if (!presenteEmTodas(id, listas)) {
+                continue;
+            }
+            Entrada entrada = entradas.get(id);
+            if (!cobreTermos(entrada.palavras(), termos)) {
+                continue;
+            }
+            melhores.offer(new Candidato(entrada.documento(), entrada.rotuloNormalizado().startsWith(termos[0])));
+            if (melhores.size() > limite) {
+                melhores.poll();
+            }
+        }
+        return melhores.stream().sorted(ORDEM).map(Candidato::documento).toList();
+    }
+
+    public int tamanho() {
+        return entradas.size();
+    }
+
+    /**
+     * Libera a folga dos arrays depois de uma carga completa
+     */
+    public void compactar() {
+        postagens.values().forEach(ListaIds::compactar);
+    }
+
+    private static boolean presenteEmTodas(long id, List<ListaIds> listas) {
+        for (int i = 1; i < listas.size(); i++) {
+            if (!listas.get(i).contem(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean cobreTermos(String[] palavras, String[] termos) {
+        for (String termo : termos) {
+            boolean encontrado = false;
+            for (String palavra : palavras) {
+                if (palavra.startsWith(termo)) {
+                    encontrado = true;
+                    break;
+                }
+            }
+            if (!encontrado) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String[] palavras(String... textos) {
+        Set<String> palavras = new LinkedHashSet<>();
+        for (String texto : textos) {
+            if (texto == null) {
+                continue;
+            }
+            for (String palavra : SEPARADORES.split(Trigramas.normalizar(texto))) {
+                if (!palavra.isEmpty()) {
+                    palavras.add(palavra);
+                }
+            }
+        }
+        return palavras.toArray(String[]::new);
+    }
+
+    private static Set<String> trigramas(String[] palavras) {
+        Set<String> trigramas = new LinkedHashSet<>();
+        for (String palavra : palavras) {
+            String comBorda = "  " + palavra;
+            for (int i = 0; i + 3 <= comBorda.length(); i++) {
+                trigramas.add(comBorda.substring(i, i + 3));
+            }
+        }
+        return trigramas;
+    }
+
+    /**
+     * IDs em ordem crescente; a carga inicial chega ordenada e só acrescenta no fim
+     */
+    private static final class ListaIds {
+
+        private long[] ids = new long[4];
+        private int tamanho;
+
+        void adicionar(long id) {
+            if (tamanho == 0 || ids[tamanho - 1] < id) {
+                garantirCapacidade();
+                ids[tamanho++] = id;
+                return;
+            }
+            int posicao = Arrays.binarySearch(ids, 0, tamanho, id);
+            if (posicao >= 0) {
+                return;
+            }
+            posicao = -posicao - 1;
+            garantirCapacidade();
+            System.arraycopy(ids, posicao, ids, posicao + 1, tamanho - posicao);
+            ids[posicao] = id;
+            tamanho++;
+        }
+
+        boolean remover(long id) {
+            int posicao = Arrays.binarySearch(ids, 0, tamanho, id);
+            if (posicao < 0) {
+                return false;
+            }
+            System.arraycopy(ids, posicao + 1, ids, posicao, tamanho - posicao - 1);
+            tamanho--;
+            return true;
+        }
+
+        boolean contem(long id) {
+            return Arrays.binarySearch(ids, 0, tamanho, id) >= 0;
+        }
+
+        void compactar() {
+            if (ids.length > tamanho) {
+                ids = Arrays.copyOf(ids, tamanho);
+            }
+        }
+
+        private void garantirCapacidade() {
+            if (tamanho == ids.length) {
+                ids = Arrays.copyOf(ids, Math.max(4, tamanho + (tamanho >> 1)));
+            }
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.facilite.backend.util;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lê registros CSV (RFC 4180) um por vez, sem carregar o arquivo em memória.
+ * Aceita campos entre aspas com vírgulas, aspas duplicadas e quebras de linha.
+ */
+public final class LeitorCsv {
+
+    private final Reader reader;
+    private long linha = 1;
+    private long linhaRegistro;
+    private int pendente = -2;
+
+    public LeitorCsv(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Próximo registro, ou null no fim do arquivo. Linhas em branco são ignoradas.
+     */
+    public List<String> proximoRegistro() throws IOException {
+        int c = ler();
+        while (c == '\r' || c == '\n') {
+            c = consumirQuebra(c);
+        }
+        if (c == -1) {
+            return null;
+        }
+        linhaRegistro = linha;
+
+        List<String> campos = new ArrayList<>();
+        StringBuilder campo = new StringBuilder();
+        boolean entreAspas = false;
+        while (true) {
+            if (entreAspas) {
+                if (c == -1) {
+                    throw new IOException("Aspas não fechadas no registro iniciado na linha " + linhaRegistro);
+                }
+                if (c == '"') {
+                    int seguinte = ler();
+                    if (seguinte == '"') {
+                        campo.append('"');
+                    } else {
+                        entreAspas = false;
+                        c = seguinte;
+                        continue;
+                    }
+                } else {
+                    if (c == '\n') {
+                        linha++;
+                    }
+                    campo.append((char) c);
+                }
+            } else if (c == '"' && campo.isEmpty()) {
+                entreAspas = true;
+            } else if (c == ',') {
+                campos.add(campo.toString());
+                campo.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                campos.add(campo.toString());
+                if (c != -1) {
+                    pendente = consumirQuebra(c);
+                }
+                return campos;
+            } else {
+                campo.append((char) c);
+            }
+            c = ler();
+        }
+    }
+
+    /**
+     * Linha do arquivo em que começa o último registro lido (a partir de 1)
+     */
+    public long linhaRegistro() {
+        return linhaRegistro;
+    }
+
+    // Consome \r\n, \r ou \n e devolve o caractere seguinte
+    private int consumirQuebra(int c) throws IOException {
+        linha++;
+        int seguinte = ler();
+        if (c == '\r' && seguinte == '\n') {
+            seguinte = ler();
+        }
+        return seguinte;
+    }
+
+    private int ler() throws IOException {
+        if (pendente != -2) {
+            int c = pendente;
+            pendente = -2;
+            return c;
+        }
+        return reader.read();
+    }
+}
@@ -0,0 +1,39 @@
+package com.facilite.backend.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Token opaco da sincronização incremental. Guarda duas posições independentes,
+ * (updatedAt, id) dos projetos e (excluidoEm, projetoId) das exclusões, já entregues ao cliente.
+ */
+public record TokenSincronizacao(LocalDateTime alteradoEm, Long idAlterado, LocalDateTime excluidoEm, Long idExcluido) {
+
+    private static final String SEPARADOR = "|";
+
+    public String codificar() {
+        String bruto = String.join(SEPARADOR, alteradoEm.toString(), idAlterado.toString(),
+                excluidoEm.toString(), idExcluido.toString());
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(bruto.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica um token recebido do cliente
+     */
+    public static TokenSincronizacao decodificar(String token) {
+        try {
+            String bruto = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] partes = bruto.split("\\|", -1);
+            if (partes.length != 4) {
+                throw new IllegalArgumentException("Token inválido: " + token);
+            }
+            return new TokenSincronizacao(LocalDateTime.parse(partes[0]), Long.valueOf(partes[1]),
+                    LocalDateTime.parse(partes[2]), Long.valueOf(partes[3]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Token inválido: " + token);
+        }
+    }
+}
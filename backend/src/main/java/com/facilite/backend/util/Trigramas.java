@@ -0,0 +1,84 @@
+package com.facilite.backend.util;
+
+import java.text.Normalizer;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Normalização e similaridade por trigramas no formato do pg_trgm: cada palavra recebe dois
+ * espaços antes e um depois e é quebrada em sequências de três caracteres. No PostgreSQL a busca
+ * usa a extensão; no H2 dos testes estes métodos são registrados como funções (CREATE ALIAS).
+ */
+public final class Trigramas {
+
+    private static final Pattern DIACRITICOS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARADORES = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private Trigramas() {
+    }
+
+    /**
+     * Minúsculas e sem acentos, como normalizar_busca() no banco
+     */
+    public static String normalizar(String texto) {
+        if (texto == null) {
+            return null;
+        }
+        String semAcentos = DIACRITICOS.matcher(Normalizer.normalize(texto, Normalizer.Form.NFD)).replaceAll("");
+        return semAcentos.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Trigramas em comum sobre o total de trigramas distintos dos dois textos (similarity do pg_trgm)
+     */
+    public static double similaridade(String a, String b) {
+        Set<String> trigramasA = extrair(a);
+        Set<String> trigramasB = extrair(b);
+        if (trigramasA.isEmpty() || trigramasB.isEmpty()) {
+            return 0;
+        }
+        int comuns = comuns(trigramasA, trigramasB);
+        return (double) comuns / (trigramasA.size() + trigramasB.size() - comuns);
+    }
+
+    /**
+     * Fração dos trigramas da busca que aparecem no texto. Aproxima o word_similarity do pg_trgm,
+     * que procura o melhor trecho do texto; aqui o texto inteiro conta como trecho.
+     */
+    public static double similaridadePalavra(String busca, String texto) {
+        Set<String> trigramasBusca = extrair(busca);
+        if (trigramasBusca.isEmpty()) {
+            return 0;
+        }
+        return (double) comuns(trigramasBusca, extrair(texto)) / trigramasBusca.size();
+    }
+
+    static Set<String> extrair(String texto) {
+        Set<String> trigramas = new HashSet<>();
+        if (texto == null) {
+            return trigramas;
+        }
+        for (String palavra : SEPARADORES.split(texto.toLowerCase(Locale.ROOT))) {
+            if (palavra.isEmpty()) {
+                continue;
+            }
+            String comBordas = "  " + palavra + " ";
+            for (int i = 0; i + 3 <= comBordas.length(); i++) {
+                trigramas.add(comBordas.substring(i, i + 3));
+            }
+        }
+        return trigramas;
+    }
+
+    private static int comuns(Set<String> a, Set<String> b) {
+        int comuns = 0;
+        for (String trigrama : a) {
+            if (b.contains(trigrama)) {
+                comuns++;
+            }
+        }
+        return comuns;
+    }
+}
@@ -0,0 +1,41 @@
+package com.facilite.backend.util;
+
+/**
+ * Converte a versão otimista de uma entidade em ETag e lê o If-Match enviado pelo cliente.
+ * A ETag é forte ({@code "3"}), pois a versão muda a cada alteração persistida.
+ */
+public final class VersaoETag {
+
+    private VersaoETag() {
+    }
+
+    public static String formatar(Long versao) {
+        return "\"" + versao + "\"";
+    }
+
+    /**
+     * ETag fraca para listagens: a impressão identifica o conteúdo, não os bytes da resposta
+     */
+    public static String fraca(String impressao) {
+        return impressao == null ? null : "W/\"" + impressao + "\"";
+    }
+
+    /**
+     * Versão exigida pelo If-Match; nulo quando o cabeçalho está ausente ou é {@code *}
+     */
+    public static Long versaoEsperada(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String valor = ifMatch.trim();
+        // If-Match usa comparação forte: ETags fracas (W/"...") nunca correspondem
+        if (valor.length() < 3 || valor.charAt(0) != '"' || valor.charAt(valor.length() - 1) != '"') {
+            throw new IllegalArgumentException("If-Match inválido: " + ifMatch);
+        }
+        try {
+            return Long.parseLong(valor.substring(1, valor.length() - 1));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("If-Match inválido: " + ifMatch);
+        }
+    }
+}
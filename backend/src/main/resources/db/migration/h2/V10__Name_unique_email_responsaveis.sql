@@ -0,0 +1,11 @@
+-- Migration: V10__Name_unique_email_responsaveis.sql
+-- Description: Nome fixo para a constraint de email único, usada para traduzir a violação em 409 e como alvo do upsert
+
+-- O H2 gera um nome próprio para o UNIQUE da coluna e não permite renomeá-lo sem conhecê-lo:
+-- a coluna é recriada para descartar a constraint original
+ALTER TABLE responsaveis ADD COLUMN email_novo VARCHAR(255);
+UPDATE responsaveis SET email_novo = email;
+ALTER TABLE responsaveis DROP COLUMN email;
+ALTER TABLE responsaveis ALTER COLUMN email_novo RENAME TO email;
+ALTER TABLE responsaveis ALTER COLUMN email SET NOT NULL;
+ALTER TABLE responsaveis ADD CONSTRAINT uk_responsaveis_email UNIQUE (email);
@@ -0,0 +1,7 @@
+-- Migration: V11__Create_busca_trigramas_projetos.sql
+-- Description: Busca de projetos por nome (GET /api/projetos/search) com índice de trigramas, sem diferenciar acentos
+
+-- Sem pg_trgm no H2: as mesmas funções implementadas em Java, sem índice (varredura completa)
+CREATE ALIAS normalizar_busca DETERMINISTIC FOR 'com.facilite.backend.util.Trigramas.normalizar';
+CREATE ALIAS similaridade DETERMINISTIC FOR 'com.facilite.backend.util.Trigramas.similaridade';
+CREATE ALIAS similaridade_palavra DETERMINISTIC FOR 'com.facilite.backend.util.Trigramas.similaridadePalavra';
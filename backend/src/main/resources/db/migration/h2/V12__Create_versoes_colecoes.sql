@@ -0,0 +1,9 @@
+-- Migration: V12__Create_versoes_colecoes.sql
+-- Description: Contador de alterações por coleção, lido como ETag das listagens sem varrer projetos e responsáveis
+
+CREATE TABLE versoes_colecoes (
+                                  colecao VARCHAR(30) PRIMARY KEY,
+                                  versao BIGINT NOT NULL
+);
+
+INSERT INTO versoes_colecoes (colecao, versao) VALUES ('projetos', 0), ('responsaveis', 0);
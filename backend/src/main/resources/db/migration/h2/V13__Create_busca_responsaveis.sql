@@ -0,0 +1,5 @@
+-- Migration: V13__Create_busca_responsaveis.sql
+-- Description: Busca de projetos também pelo nome dos responsáveis vinculados
+
+-- Sem índice de trigramas no H2: só o caminho do responsável para os projetos
+CREATE INDEX idx_projeto_responsavel_responsavel_id ON projeto_responsavel (responsavel_id, projeto_id);
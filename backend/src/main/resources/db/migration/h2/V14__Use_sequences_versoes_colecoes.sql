@@ -0,0 +1,8 @@
+-- Migration: V14__Use_sequences_versoes_colecoes.sql
+-- Description: Impressões das coleções passam a sequências: nextval não trava linha, então as escritas
+-- deixam de esperar umas pelas outras no contador de versoes_colecoes
+
+DROP TABLE versoes_colecoes;
+
+CREATE SEQUENCE versao_projetos_seq;
+CREATE SEQUENCE versao_responsaveis_seq;
@@ -0,0 +1,4 @@
+-- Migration: V3__Create_index_board.sql
+-- Description: Índice para montar as colunas do quadro Kanban (status, nome, id)
+
+CREATE INDEX idx_projetos_status_nome_id ON projetos (status, nome, id);
@@ -0,0 +1,51 @@
+-- Migration: V6__Create_view_projetos_metricas.sql
+-- Description: Métricas derivadas calculadas a partir das datas e de CURRENT_DATE
+-- Espelha MetricaServiceImpl.calcularStatus, calcularDiasAtraso e calcularPercentualTempoRestante
+
+CREATE VIEW vw_projetos_metricas AS
+SELECT c.id,
+       c.nome,
+       c.status,
+       c.inicio_previsto,
+       c.termino_previsto,
+       c.inicio_realizado,
+       c.termino_realizado,
+       CAST(CASE
+           WHEN c.termino_realizado IS NULL
+                AND c.termino_previsto < CURRENT_DATE
+                AND c.status <> 'A_INICIAR'
+               THEN DATEDIFF(DAY, c.termino_previsto, CURRENT_DATE)
+           ELSE 0
+       END AS INTEGER) AS dias_atraso,
+       CASE
+           WHEN c.inicio_previsto IS NULL
+                OR c.termino_previsto IS NULL
+                OR c.status IN ('A_INICIAR', 'CONCLUIDO')
+                OR c.termino_previsto <= c.inicio_previsto
+                OR c.termino_previsto < CURRENT_DATE
+               THEN CAST(0 AS DOUBLE PRECISION)
+           ELSE LEAST(CAST(100 AS DOUBLE PRECISION),
+                      CAST(DATEDIFF(DAY, CURRENT_DATE, c.termino_previsto) AS DOUBLE PRECISION) * 100
+                          / CAST(DATEDIFF(DAY, c.inicio_previsto, c.termino_previsto) AS DOUBLE PRECISION))
+       END AS percentual_tempo_restante,
+       c.created_at,
+       c.updated_at
+FROM (
+    SELECT p.id,
+           p.nome,
+           CAST(CASE
+               WHEN p.termino_realizado IS NOT NULL THEN 'CONCLUIDO'
+               WHEN p.inicio_realizado IS NOT NULL
+                    AND p.termino_previsto > CURRENT_DATE THEN 'EM_ANDAMENTO'
+               WHEN (p.inicio_previsto < CURRENT_DATE AND p.inicio_realizado IS NULL)
+                    OR p.termino_previsto < CURRENT_DATE THEN 'ATRASADO'
+               ELSE 'A_INICIAR'
+           END AS VARCHAR(50)) AS status,
+           p.inicio_previsto,
+           p.termino_previsto,
+           p.inicio_realizado,
+           p.termino_realizado,
+           p.created_at,
+           p.updated_at
+    FROM projetos p
+) c;
@@ -0,0 +1,13 @@
+-- Migration: V7__Use_pooled_sequences.sql
+-- Description: Sequências com incremento 50 para o otimizador pooled do Hibernate (inserts em lote)
+
+-- Cada NEXT VALUE reserva o bloco (valor - 49 .. valor); o primeiro bloco começa após o maior ID existente
+CREATE SEQUENCE projetos_id_seq START WITH 50 INCREMENT BY 50;
+ALTER SEQUENCE projetos_id_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM projetos);
+ALTER TABLE projetos ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE projetos ALTER COLUMN id SET DEFAULT NEXT VALUE FOR projetos_id_seq;
+
+CREATE SEQUENCE responsaveis_id_seq START WITH 50 INCREMENT BY 50;
+ALTER SEQUENCE responsaveis_id_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM responsaveis);
+ALTER TABLE responsaveis ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE responsaveis ALTER COLUMN id SET DEFAULT NEXT VALUE FOR responsaveis_id_seq;
@@ -0,0 +1,4 @@
+-- Migration: V10__Name_unique_email_responsaveis.sql
+-- Description: Nome fixo para a constraint de email único, usada para traduzir a violação em 409 e como alvo do upsert
+
+ALTER TABLE responsaveis RENAME CONSTRAINT responsaveis_email_key TO uk_responsaveis_email;
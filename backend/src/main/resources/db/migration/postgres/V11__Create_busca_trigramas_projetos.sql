@@ -0,0 +1,14 @@
+-- Migration: V11__Create_busca_trigramas_projetos.sql
+-- Description: Busca de projetos por nome (GET /api/projetos/search) com índice de trigramas, sem diferenciar acentos
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE EXTENSION IF NOT EXISTS unaccent;
+
+-- unaccent() é STABLE (depende do dicionário) e não pode ir para um índice; com o dicionário
+-- fixo a função fica IMMUTABLE
+CREATE OR REPLACE FUNCTION normalizar_busca(texto TEXT) RETURNS TEXT
+    LANGUAGE sql IMMUTABLE PARALLEL SAFE STRICT AS
+$$ SELECT lower(public.unaccent('public.unaccent'::regdictionary, texto)) $$;
+
+-- Atende tanto o operador de similaridade por palavra (<%) quanto LIKE '%termo%'
+CREATE INDEX idx_projetos_nome_trgm ON projetos USING gin (normalizar_busca(nome) gin_trgm_ops);
@@ -0,0 +1,7 @@
+-- Migration: V13__Create_busca_responsaveis.sql
+-- Description: Busca de projetos também pelo nome dos responsáveis vinculados
+
+CREATE INDEX idx_responsaveis_nome_trgm ON responsaveis USING gin (normalizar_busca(nome) gin_trgm_ops);
+
+-- Do responsável para os projetos: busca, cascata da exclusão e projetos marcados quando ele muda
+CREATE INDEX idx_projeto_responsavel_responsavel_id ON projeto_responsavel (responsavel_id, projeto_id);
@@ -0,0 +1,8 @@
+-- Migration: V4__Create_index_keyset.sql
+-- Description: Índices compostos para a paginação por cursor, ordenada por (campo, id)
+
+CREATE INDEX idx_projetos_nome_id ON projetos (nome, id);
+CREATE INDEX idx_projetos_created_at_id ON projetos (created_at, id);
+
+CREATE INDEX idx_responsaveis_nome_id ON responsaveis (nome, id);
+CREATE INDEX idx_responsaveis_created_at_id ON responsaveis (created_at, id);
@@ -0,0 +1,9 @@
+-- Migration: V5__Add_proxima_reavaliacao.sql
+-- Description: Data da próxima reavaliação de métricas; o recálculo diário processa apenas projetos vencidos
+
+ALTER TABLE projetos ADD COLUMN proxima_reavaliacao DATE;
+
+-- Projetos existentes são reavaliados na próxima execução, que calcula a data correta
+UPDATE projetos SET proxima_reavaliacao = CURRENT_DATE WHERE termino_realizado IS NULL;
+
+CREATE INDEX idx_projetos_proxima_reavaliacao ON projetos (proxima_reavaliacao);
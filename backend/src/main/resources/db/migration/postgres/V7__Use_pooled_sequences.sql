@@ -0,0 +1,9 @@
+-- Migration: V7__Use_pooled_sequences.sql
+-- Description: Sequências com incremento 50 para o otimizador pooled do Hibernate (inserts em lote)
+
+-- Cada nextval reserva o bloco (valor - 49 .. valor); o próximo bloco começa após o maior ID existente
+ALTER SEQUENCE projetos_id_seq INCREMENT BY 50;
+SELECT setval('projetos_id_seq', COALESCE((SELECT MAX(id) FROM projetos), 1));
+
+ALTER SEQUENCE responsaveis_id_seq INCREMENT BY 50;
+SELECT setval('responsaveis_id_seq', COALESCE((SELECT MAX(id) FROM responsaveis), 1));
@@ -0,0 +1,12 @@
+-- Migration: V9__Create_projetos_excluidos.sql
+-- Description: Sincronização incremental (GET /api/projetos/changes): índice por updated_at e registro das exclusões
+
+CREATE INDEX idx_projetos_updated_at_id ON projetos (updated_at, id);
+
+-- Uma linha por projeto excluído, para os clientes removerem o que já tinham copiado
+CREATE TABLE projetos_excluidos (
+                                    projeto_id BIGINT PRIMARY KEY,
+                                    excluido_em TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_projetos_excluidos_excluido_em_id ON projetos_excluidos (excluido_em, projeto_id);
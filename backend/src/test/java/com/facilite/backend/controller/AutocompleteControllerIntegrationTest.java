@@ -0,0 +1,71 @@
+package com.facilite.backend.controller;
+
+import com.facilite.backend.dto.ResponsavelRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Sem @Transactional: o índice só recebe as alterações depois do commit.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class AutocompleteControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void sugerir_ProjetosCarregadosNaSubida_DeveIgnorarAcentos() throws Exception {
+        mockMvc.perform(get("/api/autocomplete").param("q", "sistema gest").param("type", "projeto"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].tipo").value("PROJETO"))
+                .andExpect(jsonPath("$[0].nome").value("Sistema de Gestão Comercial"))
+                .andExpect(jsonPath("$[0].email").doesNotExist());
+    }
+
+    @Test
+    void sugerir_ResponsavelCriadoEExcluido_DeveAcompanharAlteracoes() throws Exception {
+        ResponsavelRequest request = new ResponsavelRequest();
+        request.setNome("Zuleica Autocompletar");
+        request.setEmail("zuleica.autocompletar@empresa.com");
+        String json = mockMvc.perform(post("/api/responsaveis")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        long id = objectMapper.readTree(json).get("id").asLong();
+
+        mockMvc.perform(get("/api/autocomplete").param("q", "zul").param("type", "RESPONSAVEL"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(id))
+                .andExpect(jsonPath("$[0].email").value("zuleica.autocompletar@empresa.com"));
+
+        mockMvc.perform(delete("/api/responsaveis/{id}", id))
+                .andExpect(status().is2xxSuccessful());
+
+        mockMvc.perform(get("/api/autocomplete").param("q", "zul").param("type", "responsavel"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+    }
+
+    @Test
+    void sugerir_ComTipoInvalido_DeveRetornarBadRequest() throws Exception {
+        mockMvc.perform(get("/api/autocomplete").param("q", "jo").param("type", "cargo"))
+                .andExpect(status().isBadRequest());
+    }
+}
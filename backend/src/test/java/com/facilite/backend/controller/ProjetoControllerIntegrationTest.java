@@ -1,19 +1,41 @@
 package com.facilite.backend.controller;
 
+import com.facilite.backend.dto.LoteProjetosRequest;
+import com.facilite.backend.dto.OperacaoLoteRequest;
 import com.facilite.backend.dto.ProjetoRequest;
+import com.facilite.backend.dto.ResponsavelRequest;
+import com.facilite.backend.dto.TipoOperacaoLote;
+import com.facilite.backend.dto.TransicaoLoteRequest;
 import com.facilite.backend.model.StatusProjeto;
+import com.facilite.backend.service.SincronizacaoProjetoService;
+import com.facilite.backend.util.TokenSincronizacao;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -29,6 +51,15 @@ class ProjetoControllerIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SincronizacaoProjetoService sincronizacaoProjetoService;
+
     // ========== TESTES CRIAÇÃO ==========
 
     @Test
@@ -81,6 +112,53 @@ class ProjetoControllerIntegrationTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    void buscarPorNome_SemAcentoEMaiusculas_DeveEncontrarProjeto() throws Exception {
+        mockMvc.perform(get("/api/projetos/search").param("q", "GESTAO comercial"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].nome").value("Sistema de Gestão Comercial"));
+    }
+
+    @Test
+    void buscarPorNome_ComErroDeDigitacao_DeveOrdenarPorSimilaridade() throws Exception {
+        mockMvc.perform(get("/api/projetos/search").param("q", "relatorios"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].nome").value("Sistema de Relatórios"));
+
+        mockMvc.perform(get("/api/projetos/search").param("q", "aplicativo mobil"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].nome").value("Aplicativo Mobile"));
+    }
+
+    @Test
+    void buscarPorNome_DevePaginarResultados() throws Exception {
+        mockMvc.perform(get("/api/projetos/search").param("q", "sistema").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.totalElements").value(2));
+    }
+
+    @Test
+    void buscarPorNome_PeloNomeDoResponsavel_DeveEncontrarProjetosVinculados() throws Exception {
+        mockMvc.perform(get("/api/projetos/search").param("q", "JOAO"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(2))
+                .andExpect(jsonPath("$.content[*].nome", containsInAnyOrder("Sistema de Gestão Comercial", "Aplicativo Mobile")));
+    }
+
+    @Test
+    void buscarPorNome_SemCorrespondencia_DeveRetornarPaginaVazia() throws Exception {
+        mockMvc.perform(get("/api/projetos/search").param("q", "xyzwq"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(0));
+    }
+
+    @Test
+    void buscarPorNome_ComTermoEmBranco_DeveRetornarBadRequest() throws Exception {
+        mockMvc.perform(get("/api/projetos/search").param("q", "  "))
+                .andExpect(status().isBadRequest());
+    }
+
     // ========== TESTES BUSCA ==========
 
     @Test
@@ -143,6 +221,82 @@ class ProjetoControllerIntegrationTest {
                 .andExpect(jsonPath("$.updatedAt").exists()); // Verifica auditoria
     }
 
+    @Test
+    void buscarProjeto_AposAtualizarResponsavel_DeveRefletirNovoNome() throws Exception {
+        ResponsavelRequest responsavelRequest = new ResponsavelRequest();
+        responsavelRequest.setNome("Responsável Cache");
+        responsavelRequest.setEmail("responsavel.cache@empresa.com");
+        responsavelRequest.setCargo("Analista");
+
+        String responsavelJson = mockMvc.perform(post("/api/responsaveis")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(responsavelRequest)))
+                .andReturn().getResponse().getContentAsString();
+        Long responsavelId = objectMapper.readTree(responsavelJson).get("id").asLong();
+
+        ProjetoRequest projetoRequest = new ProjetoRequest();
+        projetoRequest.setNome("Projeto Com Responsável Em Cache");
+        projetoRequest.setResponsavelIds(Set.of(responsavelId));
+        projetoRequest.setInicioPrevisto(LocalDate.now().plusDays(1));
+        projetoRequest.setTerminoPrevisto(LocalDate.now().plusDays(10));
+
+        String projetoJson = mockMvc.perform(post("/api/projetos")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(projetoRequest)))
+                .andReturn().getResponse().getContentAsString();
+        Long projetoId = objectMapper.readTree(projetoJson).get("id").asLong();
+
+        // Primeira leitura coloca o responsável no cache
+        mockMvc.perform(get("/api/projetos/{id}", projetoId))
+                .andExpect(jsonPath("$.responsaveis[0].nome").value("Responsável Cache"));
+
+        responsavelRequest.setNome("Responsável Renomeado");
+        mockMvc.perform(put("/api/responsaveis/{id}", responsavelId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(responsavelRequest)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/projetos/{id}", projetoId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.responsaveis[0].nome").value("Responsável Renomeado"));
+    }
+
+    @Test
+    void criarProjeto_ComResponsavelExcluidoSemEvento_DeveIgnorarId() throws Exception {
+        ResponsavelRequest responsavelRequest = new ResponsavelRequest();
+        responsavelRequest.setNome("Responsável Removido");
+        responsavelRequest.setEmail("responsavel.removido@empresa.com");
+        String responsavelJson = mockMvc.perform(post("/api/responsaveis")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(responsavelRequest)))
+                .andReturn().getResponse().getContentAsString();
+        Long responsavelId = objectMapper.readTree(responsavelJson).get("id").asLong();
+
+        // Mapear um projeto com o responsável o coloca no cache
+        ProjetoRequest projetoRequest = new ProjetoRequest();
+        projetoRequest.setNome("Projeto Com Responsável Removido");
+        projetoRequest.setResponsavelIds(Set.of(responsavelId));
+        projetoRequest.setInicioPrevisto(LocalDate.now().plusDays(1));
+        projetoRequest.setTerminoPrevisto(LocalDate.now().plusDays(10));
+        mockMvc.perform(post("/api/projetos")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(projetoRequest)))
+                .andExpect(status().isCreated());
+
+        // Exclusão feita por outra instância, sem evento: a entrada no cache não prova que ele existe
+        entityManager.flush();
+        entityManager.clear();
+        jdbcTemplate.update("DELETE FROM responsaveis WHERE id = ?", responsavelId);
+
+        projetoRequest.setResponsavelIds(Set.of(responsavelId, 1L));
+        mockMvc.perform(post("/api/projetos")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(projetoRequest)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.responsaveis.length()").value(1))
+                .andExpect(jsonPath("$.responsaveis[0].id").value(1));
+    }
+
     // ========== TESTES EXCLUSÃO ==========
 
     @Test
@@ -199,4 +353,535 @@ class ProjetoControllerIntegrationTest {
         mockMvc.perform(patch("/api/projetos/{id}/status/{novoStatus}", 999, "STATUS_INVALIDO"))
                 .andExpect(status().isBadRequest());
     }
-}
\ No newline at end of file
+
+    // ========== TESTES CONCORRÊNCIA OTIMISTA ==========
+
+    @Test
+    void atualizarProjeto_ComIfMatchDaVersaoAtual_DeveAtualizarEDevolverNovaETag() throws Exception {
+        Long id = criarProjetoAIniciar("Projeto Versionado");
+        String etag = mockMvc.perform(get("/api/projetos/{id}", id))
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(put("/api/projetos/{id}", id)
+                        .header(HttpHeaders.IF_MATCH, etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(projetoRequest("Projeto Versionado 2"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nome").value("Projeto Versionado 2"))
+                .andExpect(header().string(HttpHeaders.ETAG, not(etag)));
+
+        // Quem ainda tem a ETag antiga recebe 412 em vez de sobrescrever a alteração
+        mockMvc.perform(put("/api/projetos/{id}", id)
+                        .header(HttpHeaders.IF_MATCH, etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(projetoRequest("Projeto Versionado 3"))))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(patch("/api/projetos/{id}/status/{novoStatus}", id, StatusProjeto.EM_ANDAMENTO)
+                        .header(HttpHeaders.IF_MATCH, etag))
+                .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(get("/api/projetos/{id}", id))
+                .andExpect(jsonPath("$.nome").value("Projeto Versionado 2"))
+                .andExpect(jsonPath("$.status").value("A_INICIAR"));
+    }
+
+    @Test
+    void transicionarStatus_SemIfMatch_DeveManterComportamentoAtual() throws Exception {
+        Long id = criarProjetoAIniciar("Projeto Sem If-Match");
+
+        mockMvc.perform(patch("/api/projetos/{id}/status/{novoStatus}", id, StatusProjeto.EM_ANDAMENTO))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.versao").value(1))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""));
+    }
+
+    @Test
+    void atualizarProjeto_ComIfMatchInvalido_DeveRetornarBadRequest() throws Exception {
+        Long id = criarProjetoAIniciar("Projeto If-Match Inválido");
+
+        mockMvc.perform(put("/api/projetos/{id}", id)
+                        .header(HttpHeaders.IF_MATCH, "W/\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(projetoRequest("Projeto If-Match Inválido"))))
+                .andExpect(status().isBadRequest());
+    }
+
+    // ========== TESTES GET CONDICIONAL ==========
+
+    @Test
+    void listagens_ComIfNoneMatchAtual_DevemRetornarNotModifiedAteHaverAlteracao() throws Exception {
+        Long id = criarProjetoAIniciar("Projeto Condicional");
+        String etagLista = mockMvc.perform(get("/api/projetos"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String etagBoard = mockMvc.perform(get("/api/projetos/board"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/projetos").header(HttpHeaders.IF_NONE_MATCH, etagLista))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        mockMvc.perform(get("/api/projetos/board").header(HttpHeaders.IF_NONE_MATCH, etagBoard))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(patch("/api/projetos/{id}/status/{novoStatus}", id, StatusProjeto.EM_ANDAMENTO))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/projetos").header(HttpHeaders.IF_NONE_MATCH, etagLista))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(etagLista)));
+        mockMvc.perform(get("/api/projetos/board").header(HttpHeaders.IF_NONE_MATCH, etagBoard))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void listagens_AposExclusao_DevemMudarETag() throws Exception {
+        Long id = criarProjetoAIniciar("Projeto Condicional Excluído");
+        String etag = mockMvc.perform(get("/api/projetos/paginado"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(delete("/api/projetos/{id}", id))
+                .andExpect(status().isNoContent());
+        // Sem commit entre as requisições do teste, o delete só chega ao banco no flush
+        entityManager.flush();
+
+        mockMvc.perform(get("/api/projetos/paginado").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void listagens_AposRenomearResponsavel_DevemMudarETagDeProjetosEResponsaveis() throws Exception {
+        String etagProjetos = mockMvc.perform(get("/api/projetos"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String etagResponsaveis = mockMvc.perform(get("/api/responsaveis"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        ResponsavelRequest request = new ResponsavelRequest();
+        request.setNome("João Silva Renomeado");
+        request.setEmail("joao.silva@empresa.com");
+        mockMvc.perform(put("/api/responsaveis/{id}", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/projetos").header(HttpHeaders.IF_NONE_MATCH, etagProjetos))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/responsaveis").header(HttpHeaders.IF_NONE_MATCH, etagResponsaveis))
+                .andExpect(status().isOk());
+    }
+
+    // ========== TESTES SINCRONIZAÇÃO INCREMENTAL ==========
+
+    @Test
+    void alteracoes_ComToken_DevemTrazerSoCriacoesEExclusoesPosteriores() throws Exception {
+        JsonNode inicial = buscarAlteracoes(null, 500);
+        assertFalse(inicial.get("temMais").asBoolean());
+        assertTrue(inicial.get("projetos").size() >= 5);
+        assertEquals(0, inicial.get("excluidos").size());
+
+        ProjetoRequest request = new ProjetoRequest();
+        request.setNome("Projeto Sincronizado");
+        request.setInicioPrevisto(LocalDate.now().plusDays(1));
+        request.setTerminoPrevisto(LocalDate.now().plusDays(30));
+        Long id = criarProjeto(request);
+        entityManager.flush();
+
+        JsonNode criacao = buscarAlteracoes(inicial.get("proximoToken").asText(), 500);
+        assertEquals(1, criacao.get("projetos").size());
+        assertEquals(id, criacao.get("projetos").get(0).get("id").asLong());
+        assertEquals(0, criacao.get("excluidos").size());
+
+        mockMvc.perform(delete("/api/projetos/" + id))
+                .andExpect(status().isNoContent());
+        entityManager.flush();
+
+        JsonNode exclusao = buscarAlteracoes(criacao.get("proximoToken").asText(), 500);
+        assertEquals(0, exclusao.get("projetos").size());
+        assertEquals(1, exclusao.get("excluidos").size());
+        assertEquals(id, exclusao.get("excluidos").get(0).asLong());
+    }
+
+    @Test
+    void alteracoes_DevemTrazerStatusEMetricasDaView() throws Exception {
+        Long id = criarProjetoAIniciar("Projeto Sincronizado Pela View");
+        // Status gravado continua A_INICIAR; pela data o projeto já está atrasado
+        jdbcTemplate.update("UPDATE projetos SET inicio_previsto = ? WHERE id = ?", LocalDate.now().minusDays(1), id);
+        entityManager.clear();
+
+        JsonNode alteracoes = buscarAlteracoes(null, 1000);
+        JsonNode projeto = null;
+        for (JsonNode p : alteracoes.get("projetos")) {
+            if (p.get("id").asLong() == id) {
+                projeto = p;
+            }
+        }
+        assertEquals("ATRASADO", projeto.get("status").asText());
+    }
+
+    @Test
+    void alteracoes_AposRenomearEExcluirResponsavel_DevemTrazerSoProjetosVinculados() throws Exception {
+        ResponsavelRequest responsavelRequest = new ResponsavelRequest();
+        responsavelRequest.setNome("Responsável Sincronizado");
+        responsavelRequest.setEmail("responsavel.sincronizado@empresa.com");
+        String responsavelJson = mockMvc.perform(post("/api/responsaveis")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(responsavelRequest)))
+                .andReturn().getResponse().getContentAsString();
+        Long responsavelId = objectMapper.readTree(responsavelJson).get("id").asLong();
+
+        ProjetoRequest request = new ProjetoRequest();
+        request.setNome("Projeto Com Responsável Sincronizado");
+        request.setResponsavelIds(Set.of(responsavelId));
+        request.setInicioPrevisto(LocalDate.now().plusDays(1));
+        request.setTerminoPrevisto(LocalDate.now().plusDays(30));
+        Long vinculado = criarProjeto(request);
+        criarProjetoAIniciar("Projeto Sem Responsável Sincronizado");
+        entityManager.flush();
+        String token = buscarAlteracoes(null, 500).get("proximoToken").asText();
+
+        responsavelRequest.setNome("Responsável Sincronizado Renomeado");
+        mockMvc.perform(put("/api/responsaveis/{id}", responsavelId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(responsavelRequest)))
+                .andExpect(status().isOk());
+
+        JsonNode renomeacao = buscarAlteracoes(token, 500);
+        assertEquals(1, renomeacao.get("projetos").size());
+        assertEquals(vinculado, renomeacao.get("projetos").get(0).get("id").asLong());
+        assertEquals("Responsável Sincronizado Renomeado",
+                renomeacao.get("projetos").get(0).get("responsaveis").get(0).get("nome").asText());
+
+        mockMvc.perform(delete("/api/responsaveis/{id}", responsavelId))
+                .andExpect(status().isNoContent());
+        entityManager.flush();
+
+        JsonNode exclusao = buscarAlteracoes(renomeacao.get("proximoToken").asText(), 500);
+        assertEquals(1, exclusao.get("projetos").size());
+        assertEquals(vinculado, exclusao.get("projetos").get(0).get("id").asLong());
+        assertEquals(0, exclusao.get("projetos").get(0).get("responsaveis").size());
+    }
+
+    @Test
+    void expurgarExclusoes_DeveRemoverSoAsAnterioresARetencaoERecusarTokensAntigos() throws Exception {
+        LocalDateTime antiga = LocalDateTime.now().minusDays(40);
+        jdbcTemplate.update("INSERT INTO projetos_excluidos (projeto_id, excluido_em) VALUES (?, ?), (?, ?)",
+                900001L, antiga, 900002L, LocalDateTime.now().minusDays(1));
+
+        assertEquals(1, sincronizacaoProjetoService.expurgarExclusoes());
+        assertEquals(List.of(900002L), jdbcTemplate.queryForList(
+                "SELECT projeto_id FROM projetos_excluidos WHERE projeto_id IN (900001, 900002)", Long.class));
+
+        String tokenAntigo = new TokenSincronizacao(antiga, 0L, antiga, 0L).codificar();
+        mockMvc.perform(get("/api/projetos/changes").param("since", tokenAntigo))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void alteracoes_ComLimitePequeno_DevemPercorrerTodosOsProjetosSemRepetir() throws Exception {
+        int total = objectMapper.readTree(mockMvc.perform(get("/api/projetos"))
+                .andReturn().getResponse().getContentAsString()).size();
+
+        Set<Long> ids = new HashSet<>();
+        String token = null;
+        JsonNode pagina;
+        do {
+            pagina = buscarAlteracoes(token, 2);
+            assertTrue(pagina.get("projetos").size() <= 2);
+            pagina.get("projetos").forEach(projeto -> assertTrue(ids.add(projeto.get("id").asLong())));
+            token = pagina.get("proximoToken").asText();
+        } while (pagina.get("temMais").asBoolean());
+
+        assertEquals(total, ids.size());
+        assertEquals(0, buscarAlteracoes(token, 2).get("projetos").size());
+    }
+
+    @Test
+    void alteracoes_ComTokenInvalido_DeveRetornarBadRequest() throws Exception {
+        mockMvc.perform(get("/api/projetos/changes").param("since", "invalido"))
+                .andExpect(status().isBadRequest());
+    }
+
+    // ========== TESTES QUADRO KANBAN ==========
+
+    @Test
+    void carregarBoard_DeveRetornarColunasComTotalEPrimeiraPagina() throws Exception {
+        for (int i = 1; i <= 3; i++) {
+            criarProjetoAIniciar("Projeto Board " + i);
+        }
+
+        String response = mockMvc.perform(get("/api/projetos/board").param("limite", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.colunas.length()").value(4))
+                .andExpect(jsonPath("$.colunas[0].status").value("A_INICIAR"))
+                .andExpect(jsonPath("$.colunas[0].projetos.length()").value(2))
+                .andExpect(jsonPath("$.colunas[0].proximoCursor").isNotEmpty())
+                .andReturn().getResponse().getContentAsString();
+
+        JsonNode coluna = objectMapper.readTree(response).get("colunas").get(0);
+        long total = coluna.get("total").asLong();
+        String cursor = coluna.get("proximoCursor").asText();
+        Set<Long> idsPrimeiraPagina = new HashSet<>();
+        coluna.get("projetos").forEach(p -> idsPrimeiraPagina.add(p.get("id").asLong()));
+
+        String proximaPagina = mockMvc.perform(get("/api/projetos/board/{status}", "A_INICIAR")
+                        .param("cursor", cursor)
+                        .param("limite", "100"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("A_INICIAR"))
+                .andExpect(jsonPath("$.total").value(total))
+                .andReturn().getResponse().getContentAsString();
+
+        JsonNode projetos = objectMapper.readTree(proximaPagina).get("projetos");
+        assertEquals(total - 2, projetos.size());
+        projetos.forEach(p -> assertFalse(idsPrimeiraPagina.contains(p.get("id").asLong())));
+    }
+
+    @Test
+    void carregarBoard_ComStatusAlteradoSoPelaData_DeveUsarAMesmaColunaDasListagens() throws Exception {
+        Long id = criarProjetoAIniciar("0 Projeto Virada do Dia");
+        // Simula a virada do dia sem o recálculo: o início previsto passa, o status gravado continua A_INICIAR
+        jdbcTemplate.update("UPDATE projetos SET inicio_previsto = ?, termino_previsto = ? WHERE id = ?",
+                LocalDate.now().minusDays(1), LocalDate.now().plusDays(10), id);
+        entityManager.clear();
+
+        String board = mockMvc.perform(get("/api/projetos/board").param("limite", "100"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        JsonNode colunas = objectMapper.readTree(board).get("colunas");
+        assertTrue(idsDaColuna(colunas, StatusProjeto.ATRASADO).contains(id));
+        assertFalse(idsDaColuna(colunas, StatusProjeto.A_INICIAR).contains(id));
+
+        mockMvc.perform(get("/api/projetos/board/{status}", "ATRASADO").param("limite", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.projetos[0].id").value(id));
+        mockMvc.perform(get("/api/projetos/status/ATRASADO"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.id == " + id + ")].status").value("ATRASADO"));
+    }
+
+    @Test
+    void carregarBoard_ComLimiteInvalido_DeveRetornarBadRequest() throws Exception {
+        mockMvc.perform(get("/api/projetos/board").param("limite", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void carregarColuna_ComCursorInvalido_DeveRetornarBadRequest() throws Exception {
+        mockMvc.perform(get("/api/projetos/board/{status}", "A_INICIAR").param("cursor", "@@@"))
+                .andExpect(status().isBadRequest());
+    }
+
+    // ========== TESTES PAGINAÇÃO POR CURSOR ==========
+
+    @Test
+    void listarPorCursor_DevePercorrerTodasAsPaginasSemRepetir() throws Exception {
+        for (int i = 1; i <= 5; i++) {
+            criarProjetoAIniciar("Projeto Cursor " + i);
+        }
+
+        List<String> nomes = new ArrayList<>();
+        Set<Long> ids = new HashSet<>();
+        String cursor = null;
+        do {
+            var requisicao = get("/api/projetos/cursor").param("tamanho", "2");
+            if (cursor != null) {
+                requisicao.param("cursor", cursor);
+            }
+            JsonNode pagina = objectMapper.readTree(mockMvc.perform(requisicao)
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.total").doesNotExist())
+                    .andReturn().getResponse().getContentAsString());
+
+            pagina.get("conteudo").forEach(p -> {
+                nomes.add(p.get("nome").asText());
+                assertTrue(ids.add(p.get("id").asLong()));
+            });
+            cursor = pagina.get("proximoCursor").isNull() ? null : pagina.get("proximoCursor").asText();
+        } while (cursor != null);
+
+        List<String> nomesDoTeste = nomes.stream().filter(n -> n.startsWith("Projeto Cursor")).toList();
+        assertEquals(List.of("Projeto Cursor 1", "Projeto Cursor 2", "Projeto Cursor 3",
+                "Projeto Cursor 4", "Projeto Cursor 5"), nomesDoTeste);
+    }
+
+    @Test
+    void listarPorCursor_ComIncluirTotal_DeveRetornarTotal() throws Exception {
+        criarProjetoAIniciar("Projeto Cursor Total");
+
+        mockMvc.perform(get("/api/projetos/cursor")
+                        .param("ordenarPor", "createdAt")
+                        .param("direcao", "DESC")
+                        .param("incluirTotal", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").isNumber())
+                .andExpect(jsonPath("$.conteudo[0].nome").value("Projeto Cursor Total"));
+    }
+
+    @Test
+    void listarPorCursor_ComOrdenacaoInvalida_DeveRetornarBadRequest() throws Exception {
+        mockMvc.perform(get("/api/projetos/cursor").param("ordenarPor", "status"))
+                .andExpect(status().isBadRequest());
+    }
+
+    // ========== TESTES LOTE ==========
+
+    @Test
+    void executarLote_ComCriacaoAtualizacaoEExclusao_DeveAplicarTudo() throws Exception {
+        Long atualizar = criarProjetoAIniciar("Projeto Lote Atualizar");
+        Long excluir = criarProjetoAIniciar("Projeto Lote Excluir");
+
+        LoteProjetosRequest lote = new LoteProjetosRequest();
+        lote.setOperacoes(List.of(
+                operacao(TipoOperacaoLote.CRIAR, null, projetoRequest("Projeto Lote Novo")),
+                operacao(TipoOperacaoLote.ATUALIZAR, atualizar, projetoRequest("Projeto Lote Atualizado")),
+                operacao(TipoOperacaoLote.EXCLUIR, excluir, null)));
+
+        mockMvc.perform(post("/api/projetos/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(lote)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.criados[0].nome").value("Projeto Lote Novo"))
+                .andExpect(jsonPath("$.criados[0].id").isNumber())
+                .andExpect(jsonPath("$.criados[0].createdAt").exists())
+                .andExpect(jsonPath("$.atualizados[0].id").value(atualizar))
+                .andExpect(jsonPath("$.atualizados[0].nome").value("Projeto Lote Atualizado"))
+                .andExpect(jsonPath("$.excluidos[0]").value(excluir));
+
+        mockMvc.perform(get("/api/projetos/{id}", excluir))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/projetos/{id}", atualizar))
+                .andExpect(jsonPath("$.nome").value("Projeto Lote Atualizado"));
+    }
+
+    @Test
+    void executarLote_ComProjetoInexistente_DeveRetornarNotFound() throws Exception {
+        LoteProjetosRequest lote = new LoteProjetosRequest();
+        lote.setOperacoes(List.of(
+                operacao(TipoOperacaoLote.CRIAR, null, projetoRequest("Projeto Lote Descartado")),
+                operacao(TipoOperacaoLote.ATUALIZAR, 999999L, projetoRequest("Projeto Lote Inexistente"))));
+
+        mockMvc.perform(post("/api/projetos/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(lote)))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void executarLote_ComOperacaoIncompletaOuRepetida_DeveRetornarBadRequest() throws Exception {
+        Long id = criarProjetoAIniciar("Projeto Lote Repetido");
+        LoteProjetosRequest repetido = new LoteProjetosRequest();
+        repetido.setOperacoes(List.of(
+                operacao(TipoOperacaoLote.ATUALIZAR, id, projetoRequest("Projeto Lote Repetido 2")),
+                operacao(TipoOperacaoLote.EXCLUIR, id, null)));
+        LoteProjetosRequest semId = new LoteProjetosRequest();
+        semId.setOperacoes(List.of(operacao(TipoOperacaoLote.EXCLUIR, null, null)));
+
+        for (LoteProjetosRequest lote : List.of(repetido, semId, new LoteProjetosRequest())) {
+            mockMvc.perform(post("/api/projetos/batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(lote)))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    // ========== TESTES TRANSIÇÃO EM LOTE ==========
+
+    @Test
+    void transicionarStatusEmLote_DeveRetornarResultadoPorProjetoSemDerrubarOLote() throws Exception {
+        Long valido = criarProjetoAIniciar("Projeto Transição Lote");
+        ProjetoRequest concluidoComAtraso = new ProjetoRequest();
+        concluidoComAtraso.setNome("Projeto Transição Lote Concluído");
+        concluidoComAtraso.setInicioPrevisto(LocalDate.now().minusDays(20));
+        concluidoComAtraso.setTerminoPrevisto(LocalDate.now().minusDays(5));
+        concluidoComAtraso.setInicioRealizado(LocalDate.now().minusDays(20));
+        concluidoComAtraso.setTerminoRealizado(LocalDate.now().minusDays(3));
+        Long bloqueado = criarProjeto(concluidoComAtraso);
+
+        TransicaoLoteRequest request = new TransicaoLoteRequest();
+        request.setIds(List.of(valido, bloqueado, 999999L));
+
+        mockMvc.perform(patch("/api/projetos/status/{novoStatus}", StatusProjeto.EM_ANDAMENTO)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.sucessos").value(1))
+                .andExpect(jsonPath("$.falhas").value(2))
+                .andExpect(jsonPath("$.resultados[0].id").value(valido))
+                .andExpect(jsonPath("$.resultados[0].sucesso").value(true))
+                .andExpect(jsonPath("$.resultados[0].projeto.status").value("EM_ANDAMENTO"))
+                .andExpect(jsonPath("$.resultados[1].id").value(bloqueado))
+                .andExpect(jsonPath("$.resultados[1].sucesso").value(false))
+                .andExpect(jsonPath("$.resultados[1].erro").value(containsString("ficaria Atrasado")))
+                .andExpect(jsonPath("$.resultados[2].id").value(999999))
+                .andExpect(jsonPath("$.resultados[2].erro").value("Projeto não encontrado com ID: 999999"));
+
+        // A falha não deixa alterações parciais no projeto rejeitado
+        mockMvc.perform(get("/api/projetos/{id}", bloqueado))
+                .andExpect(jsonPath("$.status").value("CONCLUIDO"))
+                .andExpect(jsonPath("$.terminoRealizado").exists());
+        mockMvc.perform(get("/api/projetos/{id}", valido))
+                .andExpect(jsonPath("$.status").value("EM_ANDAMENTO"));
+    }
+
+    @Test
+    void transicionarStatusEmLote_SemIds_DeveRetornarBadRequest() throws Exception {
+        mockMvc.perform(patch("/api/projetos/status/{novoStatus}", StatusProjeto.EM_ANDAMENTO)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TransicaoLoteRequest())))
+                .andExpect(status().isBadRequest());
+    }
+
+    private OperacaoLoteRequest operacao(TipoOperacaoLote tipo, Long id, ProjetoRequest projeto) {
+        OperacaoLoteRequest operacao = new OperacaoLoteRequest();
+        operacao.setTipo(tipo);
+        operacao.setId(id);
+        operacao.setProjeto(projeto);
+        return operacao;
+    }
+
+    private ProjetoRequest projetoRequest(String nome) {
+        ProjetoRequest request = new ProjetoRequest();
+        request.setNome(nome);
+        request.setInicioPrevisto(LocalDate.now().plusDays(1));
+        request.setTerminoPrevisto(LocalDate.now().plusDays(10));
+        return request;
+    }
+
+    private Long criarProjetoAIniciar(String nome) throws Exception {
+        ProjetoRequest request = new ProjetoRequest();
+        request.setNome(nome);
+        request.setInicioPrevisto(LocalDate.now().plusDays(1));
+        request.setTerminoPrevisto(LocalDate.now().plusDays(10));
+        return criarProjeto(request);
+    }
+
+    private Set<Long> idsDaColuna(JsonNode colunas, StatusProjeto status) {
+        Set<Long> ids = new HashSet<>();
+        colunas.forEach(coluna -> {
+            if (status.name().equals(coluna.get("status").asText())) {
+                coluna.get("projetos").forEach(p -> ids.add(p.get("id").asLong()));
+            }
+        });
+        return ids;
+    }
+
+    private JsonNode buscarAlteracoes(String token, int limite) throws Exception {
+        var requisicao = get("/api/projetos/changes").param("limite", String.valueOf(limite));
+        if (token != null) {
+            requisicao.param("since", token);
+        }
+        return objectMapper.readTree(mockMvc.perform(requisicao)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString());
+    }
+
+    private Long criarProjeto(ProjetoRequest request) throws Exception {
+        String response = mockMvc.perform(post("/api/projetos")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andReturn().getResponse().getContentAsString();
+
+        return objectMapper.readTree(response).get("id").asLong();
+    }
+}
@@ -1,10 +1,16 @@
 package com.facilite.backend.controller;
 
+import com.facilite.backend.dto.FormatoArquivo;
 import com.facilite.backend.dto.ProjetoRequest;
 import com.facilite.backend.dto.ProjetoResponse;
+import com.facilite.backend.dto.ResultadoImportacaoResponse;
 import com.facilite.backend.exception.ProjetoNotFoundException;
 import com.facilite.backend.model.StatusProjeto;
+import com.facilite.backend.service.EventoQuadroService;
+import com.facilite.backend.service.ExportacaoProjetoService;
+import com.facilite.backend.service.ImportacaoProjetoService;
 import com.facilite.backend.service.ProjetoService;
+import com.facilite.backend.service.SincronizacaoProjetoService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -12,7 +18,11 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
@@ -21,6 +31,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -36,6 +48,18 @@ class ProjetoControllerTest {
     @MockitoBean
     private ProjetoService projetoService;
 
+    @MockitoBean
+    private ExportacaoProjetoService exportacaoProjetoService;
+
+    @MockitoBean
+    private ImportacaoProjetoService importacaoProjetoService;
+
+    @MockitoBean
+    private EventoQuadroService eventoQuadroService;
+
+    @MockitoBean
+    private SincronizacaoProjetoService sincronizacaoProjetoService;
+
     // ========== TESTES GET /api/projetos ==========
 
     @Test
@@ -135,7 +159,7 @@ class ProjetoControllerTest {
         response.setNome("Projeto Atualizado");
         response.setStatus(StatusProjeto.EM_ANDAMENTO);
 
-        when(projetoService.atualizarProjeto(eq(1L), any(ProjetoRequest.class))).thenReturn(response);
+        when(projetoService.atualizarProjeto(eq(1L), any(ProjetoRequest.class), isNull())).thenReturn(response);
 
         mockMvc.perform(put("/api/projetos/1")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -151,7 +175,7 @@ class ProjetoControllerTest {
         ProjetoRequest request = new ProjetoRequest(); // Nome em branco - dados inválidos
 
         // CORREÇÃO: Configure o mock para lançar exception de validação
-        when(projetoService.atualizarProjeto(eq(1L), any(ProjetoRequest.class)))
+        when(projetoService.atualizarProjeto(eq(1L), any(ProjetoRequest.class), isNull()))
                 .thenThrow(new IllegalArgumentException("Dados inválidos"));
 
         mockMvc.perform(put("/api/projetos/1")
@@ -207,7 +231,7 @@ class ProjetoControllerTest {
         response.setNome("Projeto Teste");
         response.setStatus(StatusProjeto.EM_ANDAMENTO);
 
-        when(projetoService.transicionarStatus(1L, StatusProjeto.EM_ANDAMENTO)).thenReturn(response);
+        when(projetoService.transicionarStatus(1L, StatusProjeto.EM_ANDAMENTO, null)).thenReturn(response);
 
         mockMvc.perform(patch("/api/projetos/1/status/EM_ANDAMENTO"))
                 .andExpect(status().isOk())
@@ -217,10 +241,56 @@ class ProjetoControllerTest {
 
     @Test
     void transicionarStatus_ComTransicaoInvalida_DeveRetornarBadRequest() throws Exception {
-        when(projetoService.transicionarStatus(1L, StatusProjeto.EM_ANDAMENTO))
+        when(projetoService.transicionarStatus(1L, StatusProjeto.EM_ANDAMENTO, null))
                 .thenThrow(new IllegalArgumentException("Transição de status não permitida"));
 
         mockMvc.perform(patch("/api/projetos/1/status/EM_ANDAMENTO"))
                 .andExpect(status().isBadRequest());
        }
-}
\ No newline at end of file
+
+    // ========== TESTES GET /api/projetos/export ==========
+
+    @Test
+    void exportarProjetos_ComFormatoNdjson_DeveTransmitirCorpoDoServico() throws Exception {
+        doAnswer(invocation -> {
+            OutputStream saida = invocation.getArgument(1);
+            saida.write("{\"id\":1}\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(exportacaoProjetoService).exportar(eq(FormatoArquivo.NDJSON), any(OutputStream.class));
+
+        MvcResult resultado = mockMvc.perform(get("/api/projetos/export").param("format", "ndjson"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(resultado))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"projetos.ndjson\""))
+                .andExpect(content().string("{\"id\":1}\n"));
+    }
+
+    @Test
+    void exportarProjetos_ComFormatoInvalido_DeveRetornarBadRequest() throws Exception {
+        mockMvc.perform(get("/api/projetos/export").param("format", "xml"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(exportacaoProjetoService);
+    }
+
+    // ========== TESTES POST /api/projetos/import ==========
+
+    @Test
+    void importarProjetos_ComFormatoNdjson_DeveRetornarResultado() throws Exception {
+        ResultadoImportacaoResponse resultado = new ResultadoImportacaoResponse(2, 2, 0, 0, 5, List.of());
+        when(importacaoProjetoService.importar(eq(FormatoArquivo.NDJSON), any(InputStream.class)))
+                .thenReturn(resultado);
+
+        mockMvc.perform(post("/api/projetos/import").param("format", "ndjson")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{\"nome\":\"A\"}\n{\"nome\":\"B\"}\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.processados").value(2))
+                .andExpect(jsonPath("$.importados").value(2))
+                .andExpect(jsonPath("$.erros").isEmpty());
+    }
+}
@@ -0,0 +1,94 @@
+package com.facilite.backend.controller;
+
+import com.facilite.backend.dto.ProjetoRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Sem @Transactional: os eventos do stream só saem depois do commit,
+ * então cada requisição precisa de fato commitar.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ProjetoStreamIntegrationTest {
+
+    private static final long ESPERA_MAXIMA_MS = 5000;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void stream_DeveReceberCriacaoEExclusaoAposCommit() throws Exception {
+        MvcResult stream = mockMvc.perform(get("/api/projetos/stream").accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        try {
+            ProjetoRequest request = new ProjetoRequest();
+            request.setNome("Projeto Stream");
+            request.setInicioPrevisto(LocalDate.now().plusDays(1));
+            request.setTerminoPrevisto(LocalDate.now().plusDays(30));
+            String response = mockMvc.perform(post("/api/projetos")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated())
+                    .andReturn().getResponse().getContentAsString();
+            long id = objectMapper.readTree(response).get("id").asLong();
+
+            aguardar(stream.getResponse(), "\"tipo\":\"PROJETO_CRIADO\",\"id\":" + id);
+
+            mockMvc.perform(delete("/api/projetos/" + id))
+                    .andExpect(status().isNoContent());
+
+            aguardar(stream.getResponse(), "\"tipo\":\"PROJETO_EXCLUIDO\",\"id\":" + id + ",\"statusAnterior\":\"A_INICIAR\"");
+        } finally {
+            stream.getRequest().getAsyncContext().complete();
+        }
+    }
+
+    @Test
+    void stream_AlteracaoRejeitada_NaoDeveEmitirEvento() throws Exception {
+        MvcResult stream = mockMvc.perform(get("/api/projetos/stream").accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        try {
+            mockMvc.perform(delete("/api/projetos/999999"))
+                    .andExpect(status().isNotFound());
+            aguardar(stream.getResponse(), ":conectado");
+
+            Thread.sleep(200);
+            assertTrue(!stream.getResponse().getContentAsString().contains("PROJETO_EXCLUIDO"));
+        } finally {
+            stream.getRequest().getAsyncContext().complete();
+        }
+    }
+
+    private void aguardar(MockHttpServletResponse response, String trecho) throws Exception {
+        long limite = System.currentTimeMillis() + ESPERA_MAXIMA_MS;
+        while (!response.getContentAsString().contains(trecho)) {
+            if (System.currentTimeMillis() > limite) {
+                throw new AssertionError("Evento não recebido: " + trecho + "\n" + response.getContentAsString());
+            }
+            Thread.sleep(20);
+        }
+    }
+}
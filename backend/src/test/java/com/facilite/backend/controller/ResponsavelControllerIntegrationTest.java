@@ -0,0 +1,140 @@
+package com.facilite.backend.controller;
+
+import com.facilite.backend.dto.ResponsavelRequest;
+import com.facilite.backend.dto.ResponsavelUpsertRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class ResponsavelControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // ========== TESTES EMAIL ÚNICO ==========
+
+    @Test
+    void criarResponsavel_ComEmailExistente_DeveRetornarConflictPeloIndiceUnico() throws Exception {
+        ResponsavelRequest request = new ResponsavelRequest();
+        request.setNome("Outro João");
+        request.setEmail("joao.silva@empresa.com");
+
+        mockMvc.perform(post("/api/responsaveis")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    void atualizarResponsavel_ComEmailDeOutro_DeveRetornarConflictPeloIndiceUnico() throws Exception {
+        ResponsavelRequest request = new ResponsavelRequest();
+        request.setNome("Maria Santos");
+        request.setEmail("joao.silva@empresa.com");
+
+        mockMvc.perform(put("/api/responsaveis/{id}", 2)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isConflict());
+    }
+
+    // ========== TESTES UPSERT POR EMAIL ==========
+
+    @Test
+    void upsertPorEmail_EmailNovoEDepoisExistente_DeveCriarEAtualizarOMesmoResponsavel() throws Exception {
+        ResponsavelUpsertRequest request = new ResponsavelUpsertRequest();
+        request.setNome("Pessoa Sincronizada");
+        request.setCargo("Analista");
+
+        String criado = mockMvc.perform(put("/api/responsaveis/by-email/{email}", "sincronizada@empresa.com")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.email").value("sincronizada@empresa.com"))
+                .andExpect(jsonPath("$.createdAt").exists())
+                .andReturn().getResponse().getContentAsString();
+        long id = objectMapper.readTree(criado).get("id").asLong();
+
+        request.setCargo("Coordenadora");
+        String atualizado = mockMvc.perform(put("/api/responsaveis/by-email/{email}", "sincronizada@empresa.com")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.cargo").value("Coordenadora"))
+                .andReturn().getResponse().getContentAsString();
+
+        assertEquals(id, objectMapper.readTree(atualizado).get("id").asLong());
+        mockMvc.perform(get("/api/responsaveis/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.cargo").value("Coordenadora"));
+    }
+
+    @Test
+    void upsertPorEmail_ComMesmosDados_NaoDeveAlterarResponsavelProjetosNemETag() throws Exception {
+        Map<String, Object> antes = jdbcTemplate.queryForMap(
+                "SELECT id, updated_at FROM responsaveis WHERE email = 'joao.silva@empresa.com'");
+        List<Long> versoesAntes = versoesProjetosVinculados((Long) antes.get("id"));
+        String etagAntes = mockMvc.perform(get("/api/projetos"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        ResponsavelUpsertRequest request = new ResponsavelUpsertRequest();
+        request.setNome("João Silva");
+        request.setCargo("Desenvolvedor Senior");
+        mockMvc.perform(put("/api/responsaveis/by-email/{email}", "joao.silva@empresa.com")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(antes.get("id")))
+                .andExpect(jsonPath("$.nome").value("João Silva"));
+
+        assertEquals(antes.get("updated_at"), jdbcTemplate.queryForObject(
+                "SELECT updated_at FROM responsaveis WHERE email = 'joao.silva@empresa.com'", Object.class));
+        assertEquals(versoesAntes, versoesProjetosVinculados((Long) antes.get("id")));
+        mockMvc.perform(get("/api/projetos").header(HttpHeaders.IF_NONE_MATCH, etagAntes))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void upsertPorEmail_ComEmailInvalido_DeveRetornarBadRequest() throws Exception {
+        ResponsavelUpsertRequest request = new ResponsavelUpsertRequest();
+        request.setNome("Sem Email");
+
+        mockMvc.perform(put("/api/responsaveis/by-email/{email}", "sem-arroba")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+    }
+
+    private List<Long> versoesProjetosVinculados(Long responsavelId) {
+        return jdbcTemplate.queryForList("""
+                SELECT p.versao FROM projetos p
+                JOIN projeto_responsavel pr ON pr.projeto_id = p.id
+                WHERE pr.responsavel_id = ?
+                ORDER BY p.id
+                """, Long.class, responsavelId);
+    }
+}
@@ -1,7 +1,9 @@
 package com.facilite.backend.controller;
 
+import com.facilite.backend.dto.PaginaCursorResponse;
 import com.facilite.backend.dto.ResponsavelRequest;
 import com.facilite.backend.dto.ResponsavelResponse;
+import com.facilite.backend.dto.ResponsavelUpsertRequest;
 import com.facilite.backend.exception.ProjetoNotFoundException;
 import com.facilite.backend.exception.ResponsavelNotFoundException;
 import com.facilite.backend.service.ResponsavelService;
@@ -10,6 +12,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -56,6 +60,28 @@ class ResponsavelControllerTest {
                 .andExpect(jsonPath("$[0].cargo").value("Desenvolvedor"));
     }
 
+    @Test
+    void listarResponsaveis_ComIfNoneMatchAtual_DeveRetornarNotModifiedSemListar() throws Exception {
+        when(responsavelService.impressaoColecao()).thenReturn("3-abc");
+
+        mockMvc.perform(get("/api/responsaveis").header(HttpHeaders.IF_NONE_MATCH, "W/\"3-abc\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"3-abc\""))
+                .andExpect(content().string(""));
+
+        verify(responsavelService, never()).listarTodos();
+    }
+
+    @Test
+    void listarResponsaveis_ComIfNoneMatchAntigo_DeveRetornarListaComNovaETag() throws Exception {
+        when(responsavelService.impressaoColecao()).thenReturn("4-abd");
+        when(responsavelService.listarTodos()).thenReturn(List.of());
+
+        mockMvc.perform(get("/api/responsaveis").header(HttpHeaders.IF_NONE_MATCH, "W/\"3-abc\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"4-abd\""));
+    }
+
     // ========== TESTES GET /api/responsaveis/{id} ==========
 
     @Test
@@ -198,4 +224,45 @@ class ResponsavelControllerTest {
 
         mockMvc.perform(delete("/api/responsaveis/1"))
                 .andExpect(status().isNotFound());
-    }}
\ No newline at end of file
+    }
+
+    // ========== TESTES PUT /api/responsaveis/by-email/{email} ==========
+
+    @Test
+    void upsertPorEmail_ComEmailInvalido_DeveRetornarBadRequestSemChamarServico() throws Exception {
+        ResponsavelUpsertRequest request = new ResponsavelUpsertRequest();
+        request.setNome("Sem Email");
+
+        mockMvc.perform(put("/api/responsaveis/by-email/{email}", "sem-arroba")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Email deve ser válido"));
+
+        verify(responsavelService, never()).upsertPorEmail(any(), any());
+    }
+
+    // ========== TESTES GET /api/responsaveis/cursor ==========
+
+    @Test
+    void listarPorCursor_DeveRetornarPaginaComProximoCursor() throws Exception {
+        ResponsavelResponse response = new ResponsavelResponse(1L, "Ana Costa", "ana@email.com", "Analista");
+        when(responsavelService.listarPorCursor(null, 1, "nome", Sort.Direction.ASC, false))
+                .thenReturn(new PaginaCursorResponse<>(List.of(response), "cursor-2", null));
+
+        mockMvc.perform(get("/api/responsaveis/cursor").param("tamanho", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.conteudo[0].nome").value("Ana Costa"))
+                .andExpect(jsonPath("$.proximoCursor").value("cursor-2"))
+                .andExpect(jsonPath("$.total").doesNotExist());
+    }
+
+    @Test
+    void listarPorCursor_ComOrdenacaoInvalida_DeveRetornarBadRequest() throws Exception {
+        when(responsavelService.listarPorCursor(null, 10, "cargo", Sort.Direction.ASC, false))
+                .thenThrow(new IllegalArgumentException("Ordenação inválida: cargo"));
+
+        mockMvc.perform(get("/api/responsaveis/cursor").param("ordenarPor", "cargo"))
+                .andExpect(status().isBadRequest());
+    }
+}
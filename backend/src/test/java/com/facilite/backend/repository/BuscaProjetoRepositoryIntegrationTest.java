@@ -0,0 +1,116 @@
+package com.facilite.backend.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Busca com pg_trgm (<%, word_similarity, normalizar_busca) e os índices GIN de V11/V13,
+ * que o H2 dos demais testes só imita.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(properties = {
+        "kanban.recalculo.habilitado=false",
+        "kanban.barramento.habilitado=false",
+        "kanban.changes.expurgo.habilitado=false"
+})
+class BuscaProjetoRepositoryIntegrationTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void banco(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private BuscaProjetoRepository buscaProjetoRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void buscarIds_SemAcentoEComErroDeDigitacao_DeveOrdenarPorSimilaridade() {
+        assertEquals("Sistema de Gestão Comercial", primeiroNome("GESTAO comercial"));
+        assertEquals("Sistema de Relatórios", primeiroNome("relatorios"));
+        assertEquals("Aplicativo Mobile", primeiroNome("aplicativo mobil"));
+        assertEquals(0, buscaProjetoRepository.buscarIds("xyzwq", PageRequest.of(0, 10)).getTotalElements());
+    }
+
+    @Test
+    void buscarIds_ComTermoCurtoOuCaracteresDeLike_DeveUsarLikeEscapado() {
+        assertEquals("Portal do Cliente", primeiroNome("cli"));
+        assertEquals(0, buscaProjetoRepository.buscarIds("%", PageRequest.of(0, 10)).getTotalElements());
+    }
+
+    @Test
+    void buscarIds_PeloNomeDoResponsavel_DeveTrazerProjetosVinculados() {
+        Page<Long> pagina = buscaProjetoRepository.buscarIds("joao", PageRequest.of(0, 10));
+
+        assertEquals(2, pagina.getTotalElements());
+        assertEquals(List.of("Aplicativo Mobile", "Sistema de Gestão Comercial"),
+                nomes(pagina.getContent()).stream().sorted().toList());
+    }
+
+    @Test
+    void filtros_DevemUsarOsIndicesDeTrigramas() {
+        // Com poucas linhas o planejador prefere varrer a tabela; desligado, só o índice atende
+        String plano = jdbcTemplate.execute((ConnectionCallback<String>) conexao -> {
+            try (Statement statement = conexao.createStatement()) {
+                statement.execute("SET enable_seqscan = off");
+                try {
+                    return explicar(statement, "SELECT id FROM projetos WHERE 'gestao' <% normalizar_busca(nome)")
+                            + explicar(statement, "SELECT id FROM projetos WHERE normalizar_busca(nome) LIKE '%gest%'")
+                            + explicar(statement, "SELECT id FROM responsaveis WHERE 'joao' <% normalizar_busca(nome)");
+                } finally {
+                    statement.execute("RESET enable_seqscan");
+                }
+            }
+        });
+
+        assertTrue(plano.contains("idx_projetos_nome_trgm"), plano);
+        assertTrue(plano.contains("idx_responsaveis_nome_trgm"), plano);
+        assertFalse(plano.contains("Seq Scan"), plano);
+    }
+
+    private String primeiroNome(String busca) {
+        List<Long> ids = buscaProjetoRepository.buscarIds(busca, PageRequest.of(0, 1)).getContent();
+        assertFalse(ids.isEmpty(), "Nenhum projeto para " + busca);
+        return nomes(ids).get(0);
+    }
+
+    private List<String> nomes(List<Long> ids) {
+        return ids.stream()
+                .map(id -> jdbcTemplate.queryForObject("SELECT nome FROM projetos WHERE id = ?", String.class, id))
+                .toList();
+    }
+
+    private static String explicar(Statement statement, String sql) throws SQLException {
+        StringBuilder plano = new StringBuilder();
+        try (ResultSet rs = statement.executeQuery("EXPLAIN " + sql)) {
+            while (rs.next()) {
+                plano.append(rs.getString(1)).append('\n');
+            }
+        }
+        return plano.toString();
+    }
+}
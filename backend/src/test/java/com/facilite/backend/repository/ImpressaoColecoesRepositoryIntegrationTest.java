@@ -0,0 +1,37 @@
+package com.facilite.backend.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ImpressaoColecoesRepositoryIntegrationTest {
+
+    @Autowired
+    private ImpressaoColecoesRepository impressaoColecoesRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void registrarAlteracaoResponsaveis_DeveMudarAsImpressoesNaTransacaoEDeNovoAposOCommit() {
+        String projetosAntes = impressaoColecoesRepository.impressaoProjetos();
+        String responsaveisAntes = impressaoColecoesRepository.impressaoResponsaveis();
+
+        String[] naTransacao = transactionTemplate.execute(status -> {
+            impressaoColecoesRepository.registrarAlteracaoResponsaveis();
+            return new String[]{impressaoColecoesRepository.impressaoProjetos(),
+                    impressaoColecoesRepository.impressaoResponsaveis()};
+        });
+
+        assertNotEquals(projetosAntes, naTransacao[0]);
+        assertNotEquals(responsaveisAntes, naTransacao[1]);
+        assertNotEquals(naTransacao[0], impressaoColecoesRepository.impressaoProjetos());
+        assertNotEquals(naTransacao[1], impressaoColecoesRepository.impressaoResponsaveis());
+    }
+}
@@ -0,0 +1,114 @@
+package com.facilite.backend.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * INSERT ... ON CONFLICT do PostgreSQL, que o H2 dos demais testes não executa.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(properties = {
+        "kanban.recalculo.habilitado=false",
+        "kanban.barramento.habilitado=false",
+        "kanban.changes.expurgo.habilitado=false"
+})
+class UpsertResponsavelRepositoryIntegrationTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void banco(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private UpsertResponsavelRepository upsertResponsavelRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void upsertPorEmail_EmailNovoEDepoisExistente_DeveCriarEAtualizarOMesmoRegistro() {
+        UpsertResponsavelRepository.Resultado criado =
+                upsertResponsavelRepository.upsertPorEmail("upsert.pg@empresa.com", "Upsert PG", "Analista");
+        UpsertResponsavelRepository.Resultado atualizado =
+                upsertResponsavelRepository.upsertPorEmail("upsert.pg@empresa.com", "Upsert PG Renomeado", null);
+
+        assertTrue(criado.criado());
+        assertFalse(atualizado.criado());
+        assertTrue(atualizado.alterado());
+        assertEquals(criado.responsavel().getId(), atualizado.responsavel().getId());
+        assertEquals("Upsert PG Renomeado", atualizado.responsavel().getNome());
+        assertNull(atualizado.responsavel().getCargo());
+        assertEquals(criado.responsavel().getCreatedAt(), atualizado.responsavel().getCreatedAt());
+    }
+
+    @Test
+    void upsertPorEmail_ComMesmosDados_NaoDeveTocarALinha() {
+        UpsertResponsavelRepository.Resultado criado =
+                upsertResponsavelRepository.upsertPorEmail("repetido.pg@empresa.com", "Repetido PG", null);
+        UpsertResponsavelRepository.Resultado repetido =
+                upsertResponsavelRepository.upsertPorEmail("repetido.pg@empresa.com", "Repetido PG", null);
+
+        assertTrue(criado.alterado());
+        assertFalse(repetido.criado());
+        assertFalse(repetido.alterado());
+        assertEquals(criado.responsavel().getId(), repetido.responsavel().getId());
+        assertEquals(criado.responsavel().getUpdatedAt(), repetido.responsavel().getUpdatedAt());
+    }
+
+    @Test
+    void upsertPorEmail_ComConflitos_NaoDeveConsumirUmBlocoDaSequenciaPorChamada() {
+        long antes = ultimoValorSequencia();
+        for (int i = 0; i < 10; i++) {
+            upsertResponsavelRepository.upsertPorEmail("sequencia.pg@empresa.com", "Sequência " + i, null);
+        }
+
+        assertTrue(ultimoValorSequencia() - antes <= AlocadorIds.INCREMENTO);
+    }
+
+    @Test
+    void upsertPorEmail_Concorrente_DeveCriarUmUnicoResponsavel() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Callable<UpsertResponsavelRepository.Resultado>> tarefas = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                String nome = "Concorrente " + i;
+                tarefas.add(() -> upsertResponsavelRepository.upsertPorEmail("concorrente.pg@empresa.com", nome, null));
+            }
+            long criados = 0;
+            for (Future<UpsertResponsavelRepository.Resultado> resultado : executor.invokeAll(tarefas)) {
+                criados += resultado.get().criado() ? 1 : 0;
+            }
+
+            assertEquals(1, criados);
+            assertEquals(1, jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM responsaveis WHERE email = 'concorrente.pg@empresa.com'", Integer.class));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private long ultimoValorSequencia() {
+        return jdbcTemplate.queryForObject("SELECT last_value FROM " + AlocadorIds.SEQUENCIA_RESPONSAVEIS, Long.class);
+    }
+}
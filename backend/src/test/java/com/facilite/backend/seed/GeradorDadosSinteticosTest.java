@@ -0,0 +1,107 @@
+package com.facilite.backend.seed;
+
+import com.facilite.backend.model.Projeto;
+import com.facilite.backend.model.StatusProjeto;
+import com.facilite.backend.service.MetricaService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class GeradorDadosSinteticosTest {
+
+    private static final long SEMENTE = 777L;
+
+    @Autowired
+    private GeradorDadosSinteticos gerador;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MetricaService metricaService;
+
+    @Test
+    void gerar_DeveInserirQuantidadesEVinculosPorLote() {
+        GeradorDadosSinteticos.Resultado resultado = gerador.gerar(250, 40, SEMENTE, 60);
+
+        assertEquals(250, resultado.projetos());
+        assertEquals(40, resultado.responsaveis());
+        assertEquals(250, contar("SELECT COUNT(*) FROM projetos WHERE nome LIKE ?", "Projeto 777-%"));
+        assertEquals(40, contar("SELECT COUNT(*) FROM responsaveis WHERE email LIKE ?", "seed.777.%"));
+        assertEquals(resultado.vinculos(), contar("""
+                SELECT COUNT(*) FROM projeto_responsavel pr JOIN projetos p ON p.id = pr.projeto_id
+                WHERE p.nome LIKE ?
+                """, "Projeto 777-%"));
+        assertTrue(resultado.vinculos() > 0);
+    }
+
+    @Test
+    void gerar_DeveProduzirTodosOsStatusComMetricasCoerentes() {
+        gerador.gerar(400, 10, SEMENTE, 100);
+
+        List<Map<String, Object>> linhas = jdbcTemplate.queryForList(
+                "SELECT * FROM projetos WHERE nome LIKE ?", "Projeto 777-%");
+        Set<StatusProjeto> status = EnumSet.noneOf(StatusProjeto.class);
+        for (Map<String, Object> linha : linhas) {
+            Projeto projeto = new Projeto();
+            projeto.setInicioPrevisto(data(linha.get("INICIO_PREVISTO")));
+            projeto.setTerminoPrevisto(data(linha.get("TERMINO_PREVISTO")));
+            projeto.setInicioRealizado(data(linha.get("INICIO_REALIZADO")));
+            projeto.setTerminoRealizado(data(linha.get("TERMINO_REALIZADO")));
+
+            StatusProjeto gravado = StatusProjeto.valueOf((String) linha.get("STATUS"));
+            assertEquals(metricaService.calcularStatus(projeto), gravado);
+            status.add(gravado);
+        }
+        assertEquals(EnumSet.allOf(StatusProjeto.class), status);
+    }
+
+    @Test
+    void gerar_ComSementeJaUtilizada_DeveLancarExcecao() {
+        gerador.gerar(5, 2, SEMENTE, 10);
+
+        assertThrows(IllegalStateException.class, () -> gerador.gerar(5, 2, SEMENTE, 10));
+    }
+
+    @Test
+    void projetoAleatorio_ComMesmaSemente_DeveSerDeterministico() {
+        LocalDate hoje = LocalDate.of(2025, 3, 10);
+        SplittableRandom primeiro = new SplittableRandom(SEMENTE);
+        SplittableRandom segundo = new SplittableRandom(SEMENTE);
+
+        for (int i = 0; i < 100; i++) {
+            Projeto a = GeradorDadosSinteticos.projetoAleatorio(primeiro, hoje, "P" + i);
+            Projeto b = GeradorDadosSinteticos.projetoAleatorio(segundo, hoje, "P" + i);
+            assertEquals(a.getInicioPrevisto(), b.getInicioPrevisto());
+            assertEquals(a.getTerminoPrevisto(), b.getTerminoPrevisto());
+            assertEquals(a.getInicioRealizado(), b.getInicioRealizado());
+            assertEquals(a.getTerminoRealizado(), b.getTerminoRealizado());
+        }
+    }
+
+    private long contar(String sql, String parametro) {
+        Long total = jdbcTemplate.queryForObject(sql, Long.class, parametro);
+        return total != null ? total : 0;
+    }
+
+    private static LocalDate data(Object valor) {
+        return valor != null ? ((java.sql.Date) valor).toLocalDate() : null;
+    }
+}
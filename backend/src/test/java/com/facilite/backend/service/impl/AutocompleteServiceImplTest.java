@@ -0,0 +1,138 @@
+package com.facilite.backend.service.impl;
+
+import com.facilite.backend.dto.EventoQuadro;
+import com.facilite.backend.dto.ProjetoResponse;
+import com.facilite.backend.dto.ResponsavelResponse;
+import com.facilite.backend.dto.SugestaoAutocompleteResponse;
+import com.facilite.backend.dto.TipoAutocomplete;
+import com.facilite.backend.dto.TipoEventoQuadro;
+import com.facilite.backend.model.StatusProjeto;
+import com.facilite.backend.repository.NomeProjeto;
+import com.facilite.backend.repository.NomeResponsavel;
+import com.facilite.backend.repository.ProjetoRepository;
+import com.facilite.backend.repository.ResponsavelRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AutocompleteServiceImplTest {
+
+    private ProjetoRepository projetoRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private AutocompleteServiceImpl autocomplete;
+
+    @BeforeEach
+    void setUp() {
+        projetoRepository = mock(ProjetoRepository.class);
+        ResponsavelRepository responsavelRepository = mock(ResponsavelRepository.class);
+        when(projetoRepository.streamNomes()).thenReturn(Stream.of(
+                projeto(1L, "Sistema de Gestão Comercial"),
+                projeto(2L, "Portal do Cliente"),
+                projeto(3L, "Gestão"),
+                projeto(4L, "Sistema de Relatórios")));
+        when(responsavelRepository.streamNomes()).thenReturn(Stream.of(
+                responsavel(1L, "João Silva", "joao.silva@empresa.com"),
+                responsavel(2L, "Maria Santos", "maria.santos@empresa.com")));
+        meterRegistry = new SimpleMeterRegistry();
+        autocomplete = new AutocompleteServiceImpl(projetoRepository, responsavelRepository,
+                mock(PlatformTransactionManager.class), meterRegistry, 5);
+        autocomplete.reconstruir();
+    }
+
+    @Test
+    void sugerir_PrefixoSemAcento_DeveEncontrarPeloInicioDasPalavras() {
+        assertEquals(List.of("Gestão", "Sistema de Gestão Comercial"), nomes("gest", TipoAutocomplete.PROJETO));
+        assertEquals(List.of("Sistema de Gestão Comercial"), nomes("SIS ges", TipoAutocomplete.PROJETO));
+        assertEquals(List.of(), nomes("estao", TipoAutocomplete.PROJETO));
+    }
+
+    @Test
+    void sugerir_Responsavel_DeveBuscarTambemPeloEmail() {
+        List<SugestaoAutocompleteResponse> sugestoes = autocomplete.sugerir("santos@emp", TipoAutocomplete.RESPONSAVEL, 5);
+
+        assertEquals(1, sugestoes.size());
+        assertEquals(2L, sugestoes.get(0).getId());
+        assertEquals("maria.santos@empresa.com", sugestoes.get(0).getEmail());
+        assertEquals(List.of("João Silva", "Maria Santos"), nomes("empresa", TipoAutocomplete.RESPONSAVEL));
+    }
+
+    @Test
+    void sugerir_DeveRespeitarOLimite() {
+        assertEquals(List.of("Sistema de Relatórios"), autocomplete.sugerir("sistema", TipoAutocomplete.PROJETO, 1)
+                .stream().map(SugestaoAutocompleteResponse::getNome).toList());
+        assertThrows(IllegalArgumentException.class, () -> autocomplete.sugerir("sistema", TipoAutocomplete.PROJETO, 6));
+        assertThrows(IllegalArgumentException.class, () -> autocomplete.sugerir(" ", TipoAutocomplete.PROJETO, 5));
+    }
+
+    @Test
+    void aoAlterar_DeveAtualizarORemoverDoIndice() {
+        ProjetoResponse renomeado = new ProjetoResponse(2L, "Portal do Fornecedor", StatusProjeto.A_INICIAR, 0, 100.0);
+        autocomplete.aoAlterar(EventoQuadro.projeto(TipoEventoQuadro.PROJETO_ATUALIZADO, StatusProjeto.A_INICIAR, renomeado));
+        autocomplete.aoAlterar(EventoQuadro.projetoExcluido(4L, StatusProjeto.EM_ANDAMENTO));
+        autocomplete.aoAlterar(EventoQuadro.responsavel(TipoEventoQuadro.RESPONSAVEL_CRIADO,
+                new ResponsavelResponse(3L, "Joana Lima", "joana.lima@empresa.com", null)));
+
+        assertEquals(List.of(), nomes("cliente", TipoAutocomplete.PROJETO));
+        assertEquals(List.of("Portal do Fornecedor"), nomes("forn", TipoAutocomplete.PROJETO));
+        assertEquals(List.of("Sistema de Gestão Comercial"), nomes("sistema", TipoAutocomplete.PROJETO));
+        assertEquals(List.of("Joana Lima", "João Silva"), nomes("jo", TipoAutocomplete.RESPONSAVEL));
+        assertEquals(3.0, meterRegistry.get("kanban.autocomplete.documentos").tag("tipo", "projeto").gauge().value());
+    }
+
+    @Test
+    void recarregar_ComFalhaNaLeitura_DeveManterOIndiceAtualSemPropagar() {
+        when(projetoRepository.streamNomes()).thenThrow(new IllegalStateException("banco indisponível"));
+
+        assertDoesNotThrow(autocomplete::recarregar);
+
+        assertEquals(List.of("Portal do Cliente"), nomes("cli", TipoAutocomplete.PROJETO));
+        autocomplete.aoAlterar(EventoQuadro.responsavel(TipoEventoQuadro.RESPONSAVEL_CRIADO,
+                new ResponsavelResponse(3L, "Joana Lima", "joana.lima@empresa.com", null)));
+        assertEquals(List.of("Joana Lima"), nomes("joana", TipoAutocomplete.RESPONSAVEL));
+    }
+
+    private List<String> nomes(String busca, TipoAutocomplete tipo) {
+        return autocomplete.sugerir(busca, tipo, 5).stream().map(SugestaoAutocompleteResponse::getNome).toList();
+    }
+
+    private static NomeProjeto projeto(Long id, String nome) {
+        return new NomeProjeto() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getNome() {
+                return nome;
+            }
+        };
+    }
+
+    private static NomeResponsavel responsavel(Long id, String nome, String email) {
+        return new NomeResponsavel() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getNome() {
+                return nome;
+            }
+
+            @Override
+            public String getEmail() {
+                return email;
+            }
+        };
+    }
+}
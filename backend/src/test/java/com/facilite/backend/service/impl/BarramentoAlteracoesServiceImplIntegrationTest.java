@@ -0,0 +1,125 @@
+package com.facilite.backend.service.impl;
+
+import com.facilite.backend.BackendApplication;
+import com.facilite.backend.dto.EventoQuadro;
+import com.facilite.backend.dto.LoteProjetosRequest;
+import com.facilite.backend.dto.OperacaoLoteRequest;
+import com.facilite.backend.dto.ProjetoRequest;
+import com.facilite.backend.dto.ProjetoResponse;
+import com.facilite.backend.dto.TipoEventoQuadro;
+import com.facilite.backend.dto.TipoOperacaoLote;
+import com.facilite.backend.service.ProjetoService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Duas instâncias da aplicação na mesma JVM, apontando para o mesmo PostgreSQL:
+ * o que uma grava precisa chegar à outra pelo LISTEN/NOTIFY.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class BarramentoAlteracoesServiceImplIntegrationTest {
+
+    private static final long ESPERA_MAXIMA_MS = 15_000;
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Test
+    void alteracoesDeUmaInstancia_DevemChegarNaOutraConsolidadasEAposReconexao() throws Exception {
+        try (ConfigurableApplicationContext instanciaA = iniciar();
+             ConfigurableApplicationContext instanciaB = iniciar()) {
+            List<EventoQuadro> recebidosEmB = new CopyOnWriteArrayList<>();
+            instanciaB.addApplicationListener(ApplicationListener.forPayload(payload -> {
+                if (payload instanceof EventoQuadro evento && evento.isRemoto()) {
+                    recebidosEmB.add(evento);
+                }
+            }));
+            JdbcTemplate jdbcTemplate = instanciaA.getBean(JdbcTemplate.class);
+            aguardar(() -> conexoesEscutando(jdbcTemplate) == 2);
+
+            ProjetoResponse criado = instanciaA.getBean(ProjetoService.class).criarProjeto(request("Projeto Replicado"));
+            aguardar(() -> recebidosEmB.stream().anyMatch(e -> e.getTipo() == TipoEventoQuadro.PROJETO_CRIADO
+                    && e.getProjeto() != null && "Projeto Replicado".equals(e.getProjeto().getNome())));
+            assertEquals(criado.getId(), recebidosEmB.get(0).getId());
+
+            // Rajada: 30 criações no mesmo commit saem em bem menos NOTIFYs
+            double enviadasAntes = contador(instanciaA, "kanban.barramento.notificacoes.enviadas");
+            List<OperacaoLoteRequest> operacoes = new ArrayList<>();
+            for (int i = 0; i < 30; i++) {
+                OperacaoLoteRequest operacao = new OperacaoLoteRequest();
+                operacao.setTipo(TipoOperacaoLote.CRIAR);
+                operacao.setProjeto(request("Projeto Rajada " + i));
+                operacoes.add(operacao);
+            }
+            LoteProjetosRequest lote = new LoteProjetosRequest();
+            lote.setOperacoes(operacoes);
+            instanciaA.getBean(ProjetoService.class).executarLote(lote);
+            aguardar(() -> recebidosEmB.stream().filter(e -> e.getTipo() == TipoEventoQuadro.PROJETO_CRIADO).count() == 31);
+            assertTrue(contador(instanciaA, "kanban.barramento.notificacoes.enviadas") - enviadasAntes < 30);
+            assertEquals(0.0, contador(instanciaA, "kanban.barramento.notificacoes.recebidas"));
+
+            // Derruba a conexão de LISTEN das duas instâncias: ao reconectar, cada uma pede resincronização
+            jdbcTemplate.queryForList("SELECT pg_terminate_backend(pid) FROM pg_stat_activity WHERE query LIKE 'LISTEN %'");
+            aguardar(() -> recebidosEmB.stream().anyMatch(e -> e.getTipo() == TipoEventoQuadro.RESINCRONIZAR));
+            aguardar(() -> conexoesEscutando(jdbcTemplate) == 2);
+            assertEquals(1.0, contador(instanciaB, "kanban.barramento.reconexoes"));
+        }
+    }
+
+    private ConfigurableApplicationContext iniciar() {
+        return new SpringApplicationBuilder(BackendApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=" + POSTGRES.getJdbcUrl(),
+                        "spring.datasource.username=" + POSTGRES.getUsername(),
+                        "spring.datasource.password=" + POSTGRES.getPassword(),
+                        "spring.jpa.show-sql=false",
+                        "kanban.recalculo.habilitado=false",
+                        "kanban.barramento.habilitado=true")
+                .run();
+    }
+
+    private static ProjetoRequest request(String nome) {
+        ProjetoRequest request = new ProjetoRequest();
+        request.setNome(nome);
+        request.setInicioPrevisto(LocalDate.now().plusDays(1));
+        request.setTerminoPrevisto(LocalDate.now().plusDays(30));
+        return request;
+    }
+
+    private static int conexoesEscutando(JdbcTemplate jdbcTemplate) {
+        Integer total = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM pg_stat_activity WHERE query LIKE 'LISTEN %'", Integer.class);
+        return total == null ? 0 : total;
+    }
+
+    private static double contador(ConfigurableApplicationContext contexto, String nome) {
+        return contexto.getBean(MeterRegistry.class).counter(nome).count();
+    }
+
+    private static void aguardar(BooleanSupplier condicao) throws InterruptedException {
+        long limite = System.currentTimeMillis() + ESPERA_MAXIMA_MS;
+        while (!condicao.getAsBoolean()) {
+            if (System.currentTimeMillis() > limite) {
+                fail("Condição não atendida em " + ESPERA_MAXIMA_MS + " ms");
+            }
+            Thread.sleep(50);
+        }
+    }
+}
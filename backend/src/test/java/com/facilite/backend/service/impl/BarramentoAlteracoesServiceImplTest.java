@@ -0,0 +1,46 @@
+package com.facilite.backend.service.impl;
+
+import com.facilite.backend.dto.TipoEventoQuadro;
+import com.facilite.backend.model.StatusProjeto;
+import com.facilite.backend.service.impl.BarramentoAlteracoesServiceImpl.Alteracao;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BarramentoAlteracoesServiceImplTest {
+
+    @Test
+    void consolidar_MesmoProjetoVariasVezes_DeveManterStatusDaPrimeiraETipoDaUltima() {
+        List<Alteracao> consolidadas = BarramentoAlteracoesServiceImpl.consolidar(List.of(
+                new Alteracao(TipoEventoQuadro.PROJETO_TRANSICIONADO, 1L, StatusProjeto.A_INICIAR),
+                new Alteracao(TipoEventoQuadro.PROJETO_ATUALIZADO, 2L, StatusProjeto.ATRASADO),
+                new Alteracao(TipoEventoQuadro.PROJETO_TRANSICIONADO, 1L, StatusProjeto.EM_ANDAMENTO),
+                new Alteracao(TipoEventoQuadro.RESPONSAVEL_ATUALIZADO, 1L, null)));
+
+        assertEquals(List.of(
+                new Alteracao(TipoEventoQuadro.PROJETO_ATUALIZADO, 2L, StatusProjeto.ATRASADO),
+                new Alteracao(TipoEventoQuadro.PROJETO_TRANSICIONADO, 1L, StatusProjeto.A_INICIAR),
+                new Alteracao(TipoEventoQuadro.RESPONSAVEL_ATUALIZADO, 1L, null)), consolidadas);
+    }
+
+    @Test
+    void consolidar_CriadoEExcluidoNaMesmaRajada_DeveVirarExclusaoSemStatusAnterior() {
+        List<Alteracao> consolidadas = BarramentoAlteracoesServiceImpl.consolidar(List.of(
+                new Alteracao(TipoEventoQuadro.PROJETO_CRIADO, 7L, null),
+                new Alteracao(TipoEventoQuadro.PROJETO_EXCLUIDO, 7L, StatusProjeto.A_INICIAR)));
+
+        assertEquals(List.of(new Alteracao(TipoEventoQuadro.PROJETO_EXCLUIDO, 7L, null)), consolidadas);
+    }
+
+    @Test
+    void consolidar_ComResincronizar_DeveDescartarAsDemais() {
+        List<Alteracao> consolidadas = BarramentoAlteracoesServiceImpl.consolidar(List.of(
+                new Alteracao(TipoEventoQuadro.PROJETO_CRIADO, 7L, null),
+                Alteracao.RESINCRONIZAR,
+                new Alteracao(TipoEventoQuadro.PROJETO_EXCLUIDO, 8L, StatusProjeto.CONCLUIDO)));
+
+        assertEquals(List.of(Alteracao.RESINCRONIZAR), consolidadas);
+    }
+}
@@ -0,0 +1,131 @@
+package com.facilite.backend.service.impl;
+
+import com.facilite.backend.dto.ProjetoRequest;
+import com.facilite.backend.dto.ProjetoResponse;
+import com.facilite.backend.dto.ResponsavelRequest;
+import com.facilite.backend.model.Projeto;
+import com.facilite.backend.model.Responsavel;
+import com.facilite.backend.model.StatusProjeto;
+import com.facilite.backend.service.ProjetoService;
+import com.facilite.backend.service.ResponsavelService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Sem @Transactional: o cache de segundo nível só é aproveitado entre transações (sessões) diferentes.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class CacheEntidadesIntegrationTest {
+
+    @Autowired
+    private ProjetoService projetoService;
+
+    @Autowired
+    private ResponsavelService responsavelService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @Test
+    void responsavel_LidoEmOutraTransacao_DeveVirDoCache() {
+        transactionTemplate.executeWithoutResult(status -> entityManager.find(Responsavel.class, 1L));
+        statistics.clear();
+
+        String nome = transactionTemplate.execute(status -> entityManager.find(Responsavel.class, 1L).getNome());
+
+        assertEquals("João Silva", nome);
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getDomainDataRegionStatistics("responsavel").getHitCount());
+    }
+
+    @Test
+    void listarPorStatus_RepetidoSemEscritas_DeveUsarCacheDeConsultas() {
+        // Status calculado pela view para a data atual
+        StatusProjeto status = projetoService.listarTodos().get(0).getStatus();
+        List<ProjetoResponse> primeira = projetoService.listarPorStatus(status);
+        statistics.clear();
+
+        List<ProjetoResponse> segunda = projetoService.listarPorStatus(status);
+
+        assertEquals(primeira.size(), segunda.size());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getQueryCacheHitCount());
+
+        Long id = segunda.get(0).getId();
+        String nome = segunda.get(0).getNome();
+        try {
+            renomear(id, nome + " (cache)");
+            statistics.clear();
+
+            List<ProjetoResponse> aposEscrita = projetoService.listarPorStatus(status);
+
+            assertEquals(1, statistics.getPrepareStatementCount());
+            assertTrue(aposEscrita.stream().anyMatch(p -> p.getNome().equals(nome + " (cache)")));
+        } finally {
+            renomear(id, nome);
+        }
+    }
+
+    @Test
+    void excluirResponsavel_DeveRemoverDaListaEmCacheDoProjeto() {
+        ResponsavelRequest responsavelRequest = new ResponsavelRequest();
+        responsavelRequest.setNome("Responsável Cascata");
+        responsavelRequest.setEmail("responsavel.cascata@empresa.com");
+        Long responsavelId = responsavelService.criarResponsavel(responsavelRequest).getId();
+
+        ProjetoRequest projetoRequest = new ProjetoRequest();
+        projetoRequest.setNome("Projeto Cascata");
+        projetoRequest.setResponsavelIds(Set.of(1L, responsavelId));
+        projetoRequest.setInicioPrevisto(LocalDate.now().plusDays(1));
+        projetoRequest.setTerminoPrevisto(LocalDate.now().plusDays(10));
+        Long projetoId = projetoService.criarProjeto(projetoRequest).getId();
+
+        try {
+            assertEquals(2, contarResponsaveis(projetoId));
+
+            responsavelService.excluirResponsavel(responsavelId);
+
+            assertEquals(1, contarResponsaveis(projetoId));
+        } finally {
+            projetoService.excluirProjeto(projetoId);
+        }
+    }
+
+    private void renomear(Long id, String nome) {
+        transactionTemplate.executeWithoutResult(status -> entityManager.find(Projeto.class, id).setNome(nome));
+    }
+
+    private int contarResponsaveis(Long projetoId) {
+        return transactionTemplate.execute(status ->
+                entityManager.find(Projeto.class, projetoId).getResponsaveis().size());
+    }
+}
@@ -0,0 +1,36 @@
+package com.facilite.backend.service.impl;
+
+import com.facilite.backend.dto.EventoQuadro;
+import com.facilite.backend.dto.TipoEventoQuadro;
+import com.facilite.backend.model.StatusProjeto;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventoQuadroServiceImplTest {
+
+    @Test
+    void enfileirar_ComFilaCheia_DeveTrocarPendentesPorUmUnicoResincronizar() {
+        EventoQuadroServiceImpl.Assinante assinante = new EventoQuadroServiceImpl.Assinante(new SseEmitter(), 2);
+
+        assertTrue(assinante.enfileirar(EventoQuadro.projetoExcluido(1L, StatusProjeto.A_INICIAR)));
+        assertTrue(assinante.enfileirar(EventoQuadro.projetoExcluido(2L, StatusProjeto.A_INICIAR)));
+        assertFalse(assinante.enfileirar(EventoQuadro.projetoExcluido(3L, StatusProjeto.A_INICIAR)));
+
+        assertEquals(1, assinante.fila.size());
+        assertEquals(TipoEventoQuadro.RESINCRONIZAR, assinante.fila.peek().getTipo());
+    }
+
+    @Test
+    void enfileirar_AposResincronizar_DeveVoltarAAceitarEventos() {
+        EventoQuadroServiceImpl.Assinante assinante = new EventoQuadroServiceImpl.Assinante(new SseEmitter(), 1);
+        assinante.enfileirar(EventoQuadro.projetoExcluido(1L, StatusProjeto.A_INICIAR));
+        assinante.enfileirar(EventoQuadro.projetoExcluido(2L, StatusProjeto.A_INICIAR));
+
+        assinante.fila.poll();
+
+        assertTrue(assinante.enfileirar(EventoQuadro.projetoExcluido(3L, StatusProjeto.A_INICIAR)));
+        assertEquals(3L, assinante.fila.peek().getId());
+    }
+}
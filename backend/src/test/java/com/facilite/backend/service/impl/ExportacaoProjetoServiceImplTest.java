@@ -0,0 +1,121 @@
+package com.facilite.backend.service.impl;
+
+import com.facilite.backend.dto.FormatoArquivo;
+import com.facilite.backend.model.Projeto;
+import com.facilite.backend.model.Responsavel;
+import com.facilite.backend.model.StatusProjeto;
+import com.facilite.backend.repository.ProjetoRepository;
+import com.facilite.backend.repository.ResponsavelRepository;
+import com.facilite.backend.service.ExportacaoProjetoService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class ExportacaoProjetoServiceImplTest {
+
+    @Autowired
+    private ExportacaoProjetoService exportacaoProjetoService;
+
+    @Autowired
+    private ProjetoRepository projetoRepository;
+
+    @Autowired
+    private ResponsavelRepository responsavelRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void exportar_EmNdjson_DeveGerarUmaLinhaPorProjetoComResponsaveis() throws Exception {
+        Responsavel ana = salvarResponsavel("Ana Exportação", "ana.exportacao@exemplo.com");
+        Responsavel bruno = salvarResponsavel("Bruno Exportação", "bruno.exportacao@exemplo.com");
+        Projeto comDois = salvarProjeto("Exportação com dois", Set.of(ana, bruno));
+        Projeto semResponsavel = salvarProjeto("Exportação sem responsável", Set.of());
+        entityManager.flush();
+        entityManager.clear();
+
+        String[] linhas = exportar(FormatoArquivo.NDJSON).split("\n");
+
+        assertEquals(projetoRepository.count(), linhas.length);
+        List<JsonNode> exportados = new ArrayList<>();
+        for (String linha : linhas) {
+            JsonNode no = objectMapper.readTree(linha);
+            if (no.get("nome").asText().startsWith("Exportação")) {
+                exportados.add(no);
+            }
+        }
+        assertEquals(2, exportados.size());
+        JsonNode primeiro = exportados.get(0);
+        assertEquals(comDois.getId(), primeiro.get("id").asLong());
+        assertEquals("EM_ANDAMENTO", primeiro.get("status").asText());
+        assertEquals(LocalDate.now().minusDays(5).toString(), primeiro.get("inicioPrevisto").asText());
+        assertEquals(2, primeiro.get("responsaveis").size());
+        assertEquals("ana.exportacao@exemplo.com", primeiro.get("responsaveis").get(0).get("email").asText());
+        assertEquals(semResponsavel.getId(), exportados.get(1).get("id").asLong());
+        assertEquals(0, exportados.get(1).get("responsaveis").size());
+    }
+
+    @Test
+    void exportar_EmCsv_DeveEscaparCamposEAgruparResponsaveis() throws Exception {
+        Responsavel ana = salvarResponsavel("Ana Exportação", "ana.exportacao@exemplo.com");
+        Responsavel bruno = salvarResponsavel("Bruno Exportação", "bruno.exportacao@exemplo.com");
+        Projeto projeto = salvarProjeto("Exportação, \"com aspas\"", Set.of(ana, bruno));
+        entityManager.flush();
+        entityManager.clear();
+
+        String[] linhas = exportar(FormatoArquivo.CSV).split("\r\n");
+
+        assertTrue(linhas[0].startsWith("id,nome,status,"));
+        assertEquals(projetoRepository.count() + 1, linhas.length);
+        String esperado = projeto.getId() + ",\"Exportação, \"\"com aspas\"\"\",EM_ANDAMENTO,"
+                + LocalDate.now().minusDays(5) + "," + LocalDate.now().plusDays(5) + ","
+                + LocalDate.now().minusDays(5) + ",,0,50.0,Ana Exportação; Bruno Exportação," + ana.getId() + ";" + bruno.getId();
+        assertTrue(List.of(linhas).contains(esperado));
+    }
+
+    private String exportar(FormatoArquivo formato) throws Exception {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        exportacaoProjetoService.exportar(formato, saida);
+        return saida.toString(StandardCharsets.UTF_8);
+    }
+
+    private Responsavel salvarResponsavel(String nome, String email) {
+        Responsavel responsavel = new Responsavel();
+        responsavel.setNome(nome);
+        responsavel.setEmail(email);
+        return responsavelRepository.save(responsavel);
+    }
+
+    private Projeto salvarProjeto(String nome, Set<Responsavel> responsaveis) {
+        LocalDate hoje = LocalDate.now();
+        Projeto projeto = new Projeto();
+        projeto.setNome(nome);
+        projeto.setStatus(StatusProjeto.EM_ANDAMENTO);
+        projeto.setInicioPrevisto(hoje.minusDays(5));
+        projeto.setTerminoPrevisto(hoje.plusDays(5));
+        projeto.setInicioRealizado(hoje.minusDays(5));
+        projeto.getResponsaveis().addAll(responsaveis);
+        return projetoRepository.save(projeto);
+    }
+}
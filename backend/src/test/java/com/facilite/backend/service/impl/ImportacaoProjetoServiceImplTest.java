@@ -0,0 +1,227 @@
+package com.facilite.backend.service.impl;
+
+import com.facilite.backend.dto.ErroImportacaoResponse;
+import com.facilite.backend.dto.FormatoArquivo;
+import com.facilite.backend.dto.ResultadoImportacaoResponse;
+import com.facilite.backend.model.Responsavel;
+import com.facilite.backend.model.StatusProjeto;
+import com.facilite.backend.repository.ResponsavelRepository;
+import com.facilite.backend.service.ExportacaoProjetoService;
+import com.facilite.backend.service.ImportacaoProjetoService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Lotes de 2 registros para exercitar a divisão em lotes e o cache de responsáveis entre lotes.
+ */
+@SpringBootTest(properties = "kanban.importacao.tamanho-lote=2")
+@ActiveProfiles("test")
+@Transactional
+class ImportacaoProjetoServiceImplTest {
+
+    @Autowired
+    private ImportacaoProjetoService importacaoProjetoService;
+
+    @Autowired
+    private ResponsavelRepository responsavelRepository;
+
+    @Autowired
+    private ExportacaoProjetoService exportacaoProjetoService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Responsavel ana;
+    private Responsavel bruno;
+
+    @BeforeEach
+    void setUp() {
+        ana = salvarResponsavel("Ana Importação", "ana.importacao@exemplo.com");
+        bruno = salvarResponsavel("Bruno Importação", "bruno.importacao@exemplo.com");
+    }
+
+    @Test
+    void importar_Csv_DeveInserirProjetosComMetricasEVinculos() throws Exception {
+        LocalDate hoje = LocalDate.now();
+        String csv = "nome,inicio_previsto,termino_previsto,inicio_realizado,termino_realizado,responsavel_ids\r\n"
+                + "Importação A," + hoje.plusDays(5) + "," + hoje.plusDays(20) + ",,," + ana.getId() + "\r\n"
+                + "\"Importação B, com vírgula\"," + hoje.minusDays(10) + "," + hoje.plusDays(10) + ","
+                + hoje.minusDays(10) + ",,\"" + ana.getId() + ";" + bruno.getId() + "\"\r\n"
+                + "Importação C," + hoje.minusDays(30) + "," + hoje.minusDays(3) + "," + hoje.minusDays(30) + ",,\r\n";
+
+        ResultadoImportacaoResponse resultado = importar(FormatoArquivo.CSV, csv);
+
+        assertEquals(3, resultado.getProcessados());
+        assertEquals(3, resultado.getImportados());
+        assertEquals(0, resultado.getRejeitados());
+
+        Map<String, Object> a = projeto("Importação A");
+        assertEquals(StatusProjeto.A_INICIAR.name(), a.get("STATUS"));
+        Map<String, Object> b = projeto("Importação B, com vírgula");
+        assertEquals(StatusProjeto.EM_ANDAMENTO.name(), b.get("STATUS"));
+        assertEquals(50.0, ((Number) b.get("PERCENTUAL_TEMPO_RESTANTE")).doubleValue());
+        Map<String, Object> c = projeto("Importação C");
+        assertEquals(StatusProjeto.ATRASADO.name(), c.get("STATUS"));
+        assertEquals(3, ((Number) c.get("DIAS_ATRASO")).intValue());
+
+        assertEquals(1, vinculos(a.get("ID")));
+        assertEquals(2, vinculos(b.get("ID")));
+        assertEquals(0, vinculos(c.get("ID")));
+    }
+
+    @Test
+    void importar_ComRegistrosInvalidos_DeveRejeitarApenasAsLinhasComErro() throws Exception {
+        String csv = """
+                nome,inicioPrevisto,responsavelIds
+                Importação válida,2025-01-10,
+                ,2025-01-10,
+                Importação data ruim,10/01/2025,
+                Importação responsável inexistente,,999999
+                "Importação com
+                quebra de linha",,abc
+                Importação final,,
+                """;
+
+        ResultadoImportacaoResponse resultado = importar(FormatoArquivo.CSV, csv);
+
+        assertEquals(6, resultado.getProcessados());
+        assertEquals(2, resultado.getImportados());
+        assertEquals(4, resultado.getRejeitados());
+        List<ErroImportacaoResponse> erros = resultado.getErros();
+        assertEquals(new ErroImportacaoResponse(3, "Nome é obrigatório"), erros.get(0));
+        assertEquals(new ErroImportacaoResponse(4, "Data inválida (use yyyy-MM-dd): 10/01/2025"), erros.get(1));
+        assertEquals(new ErroImportacaoResponse(5, "Responsável não encontrado com ID: 999999"), erros.get(2));
+        assertEquals(new ErroImportacaoResponse(6, "ID de responsável inválido: abc"), erros.get(3));
+        assertEquals(1, contar("Importação final"));
+    }
+
+    @Test
+    void importar_Ndjson_DeveConsultarCadaResponsavelUmaUnicaVez() throws Exception {
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < 6; i++) {
+            ndjson.append("{\"nome\":\"Importação NDJSON ").append(i).append("\",\"responsavelIds\":[")
+                    .append(ana.getId()).append("]}\n");
+        }
+        ndjson.append("\n{\"nome\":\n");
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        ResultadoImportacaoResponse resultado = importar(FormatoArquivo.NDJSON, ndjson.toString());
+
+        assertEquals(7, resultado.getProcessados());
+        assertEquals(6, resultado.getImportados());
+        assertEquals(8, resultado.getErros().get(0).getLinha());
+        // 6 registros válidos em 3 lotes, mas o ID só é consultado no primeiro
+        assertEquals(1, statistics.getQueryExecutionCount());
+        Long total = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM projeto_responsavel pr JOIN projetos p ON p.id = pr.projeto_id
+                WHERE p.nome LIKE 'Importação NDJSON %' AND pr.responsavel_id = ?
+                """, Long.class, ana.getId());
+        assertEquals(6L, total);
+    }
+
+    @Test
+    void importar_ExportacaoEmCsv_DeveAtualizarProjetosSemDuplicarNemPerderVinculos() throws Exception {
+        reimportarExportacao(FormatoArquivo.CSV);
+    }
+
+    @Test
+    void importar_ExportacaoEmNdjson_DeveAtualizarProjetosSemDuplicarNemPerderVinculos() throws Exception {
+        reimportarExportacao(FormatoArquivo.NDJSON);
+    }
+
+    @Test
+    void importar_IdRepetidoNoArquivo_DeveRejeitarSegundaOcorrencia() throws Exception {
+        importar(FormatoArquivo.CSV, "nome,responsavel_ids\nImportação Repetida," + ana.getId() + "\n");
+        Object id = projeto("Importação Repetida").get("ID");
+
+        ResultadoImportacaoResponse resultado = importar(FormatoArquivo.CSV,
+                "id,nome\n" + id + ",Importação Repetida 1\n" + id + ",Importação Repetida 2\n");
+
+        assertEquals(1, resultado.getAtualizados());
+        assertEquals(new ErroImportacaoResponse(3, "Projeto repetido no arquivo com ID: " + id), resultado.getErros().get(0));
+        assertEquals(1, contar("Importação Repetida 1"));
+        assertEquals(0, vinculos(id));
+    }
+
+    @Test
+    void importar_CsvSemColunaNome_DeveLancarExcecao() {
+        assertThrows(IllegalArgumentException.class,
+                () -> importar(FormatoArquivo.CSV, "titulo,inicio_previsto\nX,2025-01-01\n"));
+    }
+
+    private ResultadoImportacaoResponse importar(FormatoArquivo formato, String conteudo) throws Exception {
+        return importacaoProjetoService.importar(formato,
+                new ByteArrayInputStream(conteudo.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Exporta, altera nome e vínculos de um projeto e reimporta: o arquivo restaura o projeto pelo id
+     */
+    private void reimportarExportacao(FormatoArquivo formato) throws Exception {
+        importar(FormatoArquivo.CSV, "nome,responsavel_ids\nImportação Ida e Volta,\"" + ana.getId() + ";" + bruno.getId() + "\"\n");
+        Object id = projeto("Importação Ida e Volta").get("ID");
+        long total = contarTodos();
+        ByteArrayOutputStream exportacao = new ByteArrayOutputStream();
+        exportacaoProjetoService.exportar(formato, exportacao);
+        jdbcTemplate.update("UPDATE projetos SET nome = 'Importação Alterada' WHERE id = ?", id);
+        jdbcTemplate.update("DELETE FROM projeto_responsavel WHERE projeto_id = ?", id);
+
+        ResultadoImportacaoResponse resultado = importar(formato, exportacao.toString(StandardCharsets.UTF_8));
+
+        assertEquals(0, resultado.getRejeitados());
+        assertEquals(0, resultado.getImportados());
+        assertEquals(total, resultado.getAtualizados());
+        assertEquals(total, contarTodos());
+        assertEquals(id, projeto("Importação Ida e Volta").get("ID"));
+        assertEquals(2, vinculos(id));
+    }
+
+    private long contarTodos() {
+        Long total = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM projetos", Long.class);
+        return total != null ? total : 0;
+    }
+
+    private Map<String, Object> projeto(String nome) {
+        return jdbcTemplate.queryForMap("SELECT * FROM projetos WHERE nome = ?", nome);
+    }
+
+    private long contar(String nome) {
+        Long total = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM projetos WHERE nome = ?", Long.class, nome);
+        return total != null ? total : 0;
+    }
+
+    private long vinculos(Object projetoId) {
+        Long total = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM projeto_responsavel WHERE projeto_id = ?", Long.class, projetoId);
+        return total != null ? total : 0;
+    }
+
+    private Responsavel salvarResponsavel(String nome, String email) {
+        Responsavel responsavel = new Responsavel();
+        responsavel.setNome(nome);
+        responsavel.setEmail(email);
+        return responsavelRepository.saveAndFlush(responsavel);
+    }
+}
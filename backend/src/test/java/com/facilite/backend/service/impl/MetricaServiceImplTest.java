@@ -1,5 +1,6 @@
 package com.facilite.backend.service.impl;
 
+import com.facilite.backend.model.MetricasCalculadas;
 import com.facilite.backend.model.Projeto;
 import com.facilite.backend.model.StatusProjeto;
 import org.junit.jupiter.api.BeforeEach;
@@ -9,6 +10,9 @@ import org.mockito.InjectMocks;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -163,6 +167,121 @@ class MetricaServiceImplTest {
         assertEquals(0.0, result);
     }
 
+    // ========== TESTES CALCULAR PRÓXIMA REAVALIAÇÃO ==========
+
+    @Test
+    void calcularProximaReavaliacao_ProjetoConcluido_DeveRetornarNull() {
+        projeto.setTerminoRealizado(LocalDate.now());
+        projeto.setStatus(StatusProjeto.CONCLUIDO);
+        assertNull(metricaService.calcularProximaReavaliacao(projeto));
+    }
+
+    @Test
+    void calcularProximaReavaliacao_AIniciar_DeveRetornarDiaSeguinteAoInicioPrevisto() {
+        LocalDate hoje = LocalDate.now();
+        projeto.setInicioPrevisto(hoje.plusDays(3));
+        projeto.setTerminoPrevisto(hoje.plusDays(10));
+        projeto.setStatus(StatusProjeto.A_INICIAR);
+        assertEquals(hoje.plusDays(4), metricaService.calcularProximaReavaliacao(projeto));
+    }
+
+    @Test
+    void calcularProximaReavaliacao_EmAndamento_DeveRetornarAmanha() {
+        LocalDate hoje = LocalDate.now();
+        projeto.setInicioPrevisto(hoje.minusDays(3));
+        projeto.setTerminoPrevisto(hoje.plusDays(10));
+        projeto.setInicioRealizado(hoje.minusDays(3));
+        projeto.setStatus(StatusProjeto.EM_ANDAMENTO);
+        assertEquals(hoje.plusDays(1), metricaService.calcularProximaReavaliacao(projeto));
+    }
+
+    @Test
+    void calcularProximaReavaliacao_AtrasadoPorInicio_DeveRetornarAmanha() {
+        LocalDate hoje = LocalDate.now();
+        projeto.setInicioPrevisto(hoje.minusDays(3));
+        projeto.setTerminoPrevisto(hoje.plusDays(10));
+        projeto.setStatus(StatusProjeto.ATRASADO);
+        projeto.setInicioRealizado(null);
+        assertEquals(hoje.plusDays(1), metricaService.calcularProximaReavaliacao(projeto));
+    }
+
+    @Test
+    void calcularProximaReavaliacao_SemDatas_DeveRetornarNull() {
+        projeto.setStatus(StatusProjeto.A_INICIAR);
+        assertNull(metricaService.calcularProximaReavaliacao(projeto));
+    }
+
+    @Test
+    void calcularProximaReavaliacao_DeveSerAnteriorAQualquerMudancaDeMetrica() {
+        LocalDate hoje = LocalDate.now();
+        projeto.setInicioPrevisto(hoje.plusDays(2));
+        projeto.setTerminoPrevisto(hoje.plusDays(2));
+        projeto.setStatus(metricaService.calcularStatus(projeto));
+        assertEquals(hoje.plusDays(2), metricaService.calcularProximaReavaliacao(projeto));
+    }
+
+    // ========== TESTES CÁLCULO EM LOTE ==========
+
+    @Test
+    void calcularMetricas_EmLote_DeveSeguirAsMesmasRegrasDosCalculosIndividuais() {
+        LocalDate hoje = LocalDate.now();
+        Random random = new Random(7L);
+        List<Projeto> projetos = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            Projeto p = new Projeto();
+            p.setId((long) i);
+            p.setInicioPrevisto(random.nextInt(10) == 0 ? null : hoje.plusDays(random.nextInt(-60, 61)));
+            p.setTerminoPrevisto(random.nextInt(10) == 0 ? null : hoje.plusDays(random.nextInt(-60, 61)));
+            p.setInicioRealizado(random.nextBoolean() ? null : hoje.plusDays(random.nextInt(-60, 61)));
+            p.setTerminoRealizado(random.nextInt(4) != 0 ? null : hoje.plusDays(random.nextInt(-60, 1)));
+            projetos.add(p);
+        }
+
+        List<MetricasCalculadas> resultado = metricaService.calcularMetricas(projetos, hoje);
+
+        assertEquals(projetos.size(), resultado.size());
+        for (int i = 0; i < projetos.size(); i++) {
+            Projeto p = projetos.get(i);
+            p.setStatus(metricaService.calcularStatus(p));
+            MetricasCalculadas metricas = resultado.get(i);
+
+            assertEquals(p.getId(), metricas.projetoId());
+            assertEquals(p.getStatus(), metricas.status());
+            assertEquals(metricaService.calcularDiasAtraso(p), metricas.diasAtraso());
+            assertEquals(metricaService.calcularPercentualTempoRestante(p), metricas.percentualTempoRestante());
+            assertEquals(metricaService.calcularProximaReavaliacao(p), metricas.proximaReavaliacao());
+        }
+    }
+
+    @Test
+    void calcularMetricas_DeveUsarADataDeReferenciaInformada() {
+        LocalDate referencia = LocalDate.of(2024, 3, 10);
+        projeto.setInicioPrevisto(LocalDate.of(2024, 3, 1));
+        projeto.setTerminoPrevisto(LocalDate.of(2024, 3, 5));
+        projeto.setInicioRealizado(LocalDate.of(2024, 3, 1));
+
+        MetricasCalculadas metricas = metricaService.calcularMetricas(projeto, referencia);
+
+        assertEquals(StatusProjeto.ATRASADO, metricas.status());
+        assertEquals(5, metricas.diasAtraso());
+        assertEquals(0.0, metricas.percentualTempoRestante());
+        assertEquals(LocalDate.of(2024, 3, 11), metricas.proximaReavaliacao());
+    }
+
+    @Test
+    void calcularMetricas_EmAndamento_DeveCalcularPercentualNaDataDeReferencia() {
+        LocalDate referencia = LocalDate.of(2024, 3, 5);
+        projeto.setInicioPrevisto(LocalDate.of(2024, 3, 1));
+        projeto.setTerminoPrevisto(LocalDate.of(2024, 3, 11));
+        projeto.setInicioRealizado(LocalDate.of(2024, 3, 1));
+
+        MetricasCalculadas metricas = metricaService.calcularMetricas(projeto, referencia);
+
+        assertEquals(StatusProjeto.EM_ANDAMENTO, metricas.status());
+        assertEquals(0, metricas.diasAtraso());
+        assertEquals(60.0, metricas.percentualTempoRestante());
+    }
+
     // ========== TESTES VALIDAÇÕES DE TRANSIÇÃO ==========
 
     @Test
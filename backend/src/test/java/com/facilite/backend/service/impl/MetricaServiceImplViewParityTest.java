@@ -0,0 +1,125 @@
+package com.facilite.backend.service.impl;
+
+import com.facilite.backend.model.Projeto;
+import com.facilite.backend.model.StatusProjeto;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compara as métricas calculadas pela view vw_projetos_metricas com as regras de
+ * MetricaServiceImpl sobre uma matriz exaustiva de datas próximas de hoje e
+ * uma amostra aleatória (semente fixa) de datas distantes.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class MetricaServiceImplViewParityTest {
+
+    private static final Integer[] DESLOCAMENTOS_PROXIMOS = {null, -10, -3, -1, 0, 1, 3, 10};
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MetricaServiceImpl metricaService;
+
+    @Test
+    void view_DeveCalcularMesmasMetricasQueOServico_ParaDatasProximasDeHoje() {
+        List<LocalDate[]> casos = new ArrayList<>();
+        for (Integer inicioPrevisto : DESLOCAMENTOS_PROXIMOS) {
+            for (Integer terminoPrevisto : DESLOCAMENTOS_PROXIMOS) {
+                for (Integer inicioRealizado : DESLOCAMENTOS_PROXIMOS) {
+                    for (Integer terminoRealizado : new Integer[]{null, -1, 0}) {
+                        casos.add(new LocalDate[]{
+                                data(inicioPrevisto), data(terminoPrevisto),
+                                data(inicioRealizado), data(terminoRealizado)});
+                    }
+                }
+            }
+        }
+
+        verificarParidade(casos);
+    }
+
+    @Test
+    void view_DeveCalcularMesmasMetricasQueOServico_ParaDatasAleatorias() {
+        Random random = new Random(20240501L);
+        List<LocalDate[]> casos = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            casos.add(new LocalDate[]{
+                    dataAleatoria(random, 0.1), dataAleatoria(random, 0.1),
+                    dataAleatoria(random, 0.4), dataAleatoria(random, 0.7)});
+        }
+
+        verificarParidade(casos);
+    }
+
+    private void verificarParidade(List<LocalDate[]> casos) {
+        List<Object[]> linhas = new ArrayList<>();
+        for (int i = 0; i < casos.size(); i++) {
+            LocalDate[] datas = casos.get(i);
+            // Status gravado propositalmente desatualizado: a view não deve depender dele
+            linhas.add(new Object[]{"Paridade " + i, StatusProjeto.A_INICIAR.name(),
+                    sql(datas[0]), sql(datas[1]), sql(datas[2]), sql(datas[3])});
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO projetos (nome, status, inicio_previsto, termino_previsto, inicio_realizado, termino_realizado)
+                VALUES (?, ?, ?, ?, ?, ?)
+                """, linhas);
+
+        List<Map<String, Object>> resultado = jdbcTemplate.queryForList("""
+                SELECT nome, status, dias_atraso, percentual_tempo_restante
+                FROM vw_projetos_metricas
+                WHERE nome LIKE 'Paridade %'
+                """);
+        assertEquals(casos.size(), resultado.size());
+
+        for (Map<String, Object> linha : resultado) {
+            String nome = (String) linha.get("nome");
+            LocalDate[] datas = casos.get(Integer.parseInt(nome.substring("Paridade ".length())));
+
+            Projeto projeto = new Projeto();
+            projeto.setInicioPrevisto(datas[0]);
+            projeto.setTerminoPrevisto(datas[1]);
+            projeto.setInicioRealizado(datas[2]);
+            projeto.setTerminoRealizado(datas[3]);
+            projeto.setStatus(metricaService.calcularStatus(projeto));
+
+            String contexto = nome + " " + Arrays.toString(datas);
+            assertEquals(projeto.getStatus().name(), linha.get("status"), contexto);
+            assertEquals(metricaService.calcularDiasAtraso(projeto),
+                    ((Number) linha.get("dias_atraso")).intValue(), contexto);
+            assertEquals(metricaService.calcularPercentualTempoRestante(projeto),
+                    ((Number) linha.get("percentual_tempo_restante")).doubleValue(), contexto);
+        }
+    }
+
+    private static LocalDate data(Integer deslocamento) {
+        return deslocamento != null ? LocalDate.now().plusDays(deslocamento) : null;
+    }
+
+    private static LocalDate dataAleatoria(Random random, double probabilidadeNula) {
+        if (random.nextDouble() < probabilidadeNula) {
+            return null;
+        }
+        return LocalDate.now().plusDays(random.nextInt(-400, 401));
+    }
+
+    private static Date sql(LocalDate data) {
+        return data != null ? Date.valueOf(data) : null;
+    }
+}
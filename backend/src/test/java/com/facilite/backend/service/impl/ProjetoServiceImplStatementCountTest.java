@@ -0,0 +1,263 @@
+package com.facilite.backend.service.impl;
+
+import com.facilite.backend.dto.LoteProjetosRequest;
+import com.facilite.backend.dto.OperacaoLoteRequest;
+import com.facilite.backend.dto.ProjetoRequest;
+import com.facilite.backend.dto.ProjetoResponse;
+import com.facilite.backend.dto.ResultadoLoteResponse;
+import com.facilite.backend.dto.ResultadoTransicaoLoteResponse;
+import com.facilite.backend.dto.TipoOperacaoLote;
+import com.facilite.backend.dto.TransicaoLoteRequest;
+import com.facilite.backend.model.Projeto;
+import com.facilite.backend.model.Responsavel;
+import com.facilite.backend.model.StatusProjeto;
+import com.facilite.backend.repository.AlocadorIds;
+import com.facilite.backend.repository.ProjetoRepository;
+import com.facilite.backend.repository.ResponsavelRepository;
+import com.facilite.backend.service.ProjetoService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Garante que as listagens executam um número fixo de statements,
+ * independente da quantidade de projetos e responsáveis retornados.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class ProjetoServiceImplStatementCountTest {
+
+    @Autowired
+    private ProjetoService projetoService;
+
+    @Autowired
+    private ProjetoRepository projetoRepository;
+
+    @Autowired
+    private ResponsavelRepository responsavelRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    // Quantidade de linhas por lote JDBC: define quantos statements cada tabela precisa
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size}")
+    private int batchSize;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {3, 30})
+    void listarTodos_DeveExecutarUmaConsulta(int quantidade) {
+        criarProjetosComResponsaveis(quantidade);
+
+        List<ProjetoResponse> result = projetoService.listarTodos();
+
+        assertTrue(result.size() >= quantidade);
+        criados(result).forEach(p -> assertEquals(2, p.getResponsaveis().size()));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {3, 30})
+    void listarPorStatus_DeveExecutarUmaConsulta(int quantidade) {
+        criarProjetosComResponsaveis(quantidade);
+
+        List<ProjetoResponse> result = projetoService.listarPorStatus(StatusProjeto.A_INICIAR);
+
+        assertEquals(quantidade, criados(result).size());
+        criados(result).forEach(p -> assertEquals(2, p.getResponsaveis().size()));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {5, 25})
+    void listarPaginado_DeveExecutarIdsCountEFetch(int tamanhoPagina) {
+        criarProjetosComResponsaveis(tamanhoPagina * 2);
+
+        Page<ProjetoResponse> result = projetoService.listarPaginado(
+                PageRequest.of(0, tamanhoPagina, Sort.by("nome")));
+
+        assertEquals(tamanhoPagina, result.getContent().size());
+        criados(result.getContent()).forEach(p -> assertEquals(2, p.getResponsaveis().size()));
+        // página de IDs + count + projetos com responsáveis
+        assertEquals(3, statistics.getPrepareStatementCount());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {5, 25})
+    void carregarBoard_DeveExecutarContagemIdsEFetch(int limite) {
+        criarProjetosComResponsaveis(limite * 2);
+
+        projetoService.carregarBoard(limite);
+
+        // contagem por status + IDs por coluna + projetos com responsáveis
+        assertEquals(3, statistics.getPrepareStatementCount());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 40})
+    void salvarProjetos_DeveAgruparInsertsEmLote(int quantidade) {
+        List<Responsavel> responsaveis = List.of(salvarResponsavel("lote1"), salvarResponsavel("lote2"),
+                salvarResponsavel("lote3"));
+        entityManager.flush();
+        statistics.clear();
+
+        for (int i = 0; i < quantidade; i++) {
+            Projeto projeto = new Projeto();
+            projeto.setNome("Projeto Contagem Lote " + i);
+            projeto.setInicioPrevisto(LocalDate.now().plusDays(1));
+            projeto.setTerminoPrevisto(LocalDate.now().plusDays(30));
+            projeto.setResponsaveis(new HashSet<>(responsaveis));
+            projetoRepository.save(projeto);
+        }
+        entityManager.flush();
+
+        assertEquals(quantidade, statistics.getEntityInsertCount());
+        // inserts em projetos e em projeto_responsavel (três vínculos por projeto) em lotes
+        // + no máximo um nextval por bloco de IDs iniciado
+        long limite = lotes(quantidade) + lotes(quantidade * 3) + blocosDeIds(quantidade);
+        assertTrue(statistics.getPrepareStatementCount() <= limite,
+                "Statements preparados: " + statistics.getPrepareStatementCount());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {3, 30})
+    void executarLote_DeveExecutarQuantidadeFixaDeStatements(int quantidade) {
+        criarProjetosComResponsaveis(quantidade * 2);
+        List<Long> ids = projetoRepository.findAll().stream()
+                .filter(p -> p.getNome().startsWith("Projeto Contagem"))
+                .map(Projeto::getId)
+                .toList();
+        Long responsavelId = responsavelRepository.findAll().get(0).getId();
+        statistics.clear();
+
+        List<OperacaoLoteRequest> operacoes = new ArrayList<>();
+        for (int i = 0; i < quantidade; i++) {
+            operacoes.add(operacaoLote(TipoOperacaoLote.CRIAR, null, responsavelId));
+            operacoes.add(operacaoLote(TipoOperacaoLote.ATUALIZAR, ids.get(i), responsavelId));
+            operacoes.add(operacaoLote(TipoOperacaoLote.EXCLUIR, ids.get(quantidade + i), null));
+        }
+        LoteProjetosRequest lote = new LoteProjetosRequest();
+        lote.setOperacoes(operacoes);
+
+        ResultadoLoteResponse resultado = projetoService.executarLote(lote);
+
+        assertEquals(quantidade, resultado.getCriados().size());
+        assertEquals(quantidade, resultado.getAtualizados().size());
+        assertEquals(quantidade, resultado.getExcluidos().size());
+        // projetos + responsáveis + status dos excluídos + registro das exclusões + delete
+        // + inserts e updates em lote + vínculos em lote (inserts dos criados, remoção e inserts dos
+        // atualizados) + nextval por bloco de IDs
+        long limite = 5 + lotes(quantidade) * 2 + lotes(quantidade) * 3 + blocosDeIds(quantidade);
+        assertTrue(statistics.getPrepareStatementCount() <= limite,
+                "Statements preparados: " + statistics.getPrepareStatementCount());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {3, 30})
+    void transicionarStatusEmLote_DeveCarregarEGravarEmLote(int quantidade) {
+        criarProjetosComResponsaveis(quantidade);
+        List<Long> ids = projetoRepository.findAll().stream()
+                .filter(p -> p.getNome().startsWith("Projeto Contagem"))
+                .map(Projeto::getId)
+                .toList();
+        entityManager.clear();
+        statistics.clear();
+
+        TransicaoLoteRequest request = new TransicaoLoteRequest();
+        request.setIds(ids);
+        ResultadoTransicaoLoteResponse resultado = projetoService.transicionarStatusEmLote(request, StatusProjeto.EM_ANDAMENTO);
+
+        assertEquals(quantidade, resultado.getSucessos());
+        // Uma consulta para os projetos e os updates agrupados pelo batch_size; nenhum ID é alocado
+        long limite = 1 + lotes(quantidade);
+        assertTrue(statistics.getPrepareStatementCount() <= limite,
+                "Statements preparados: " + statistics.getPrepareStatementCount());
+    }
+
+    private long lotes(int linhas) {
+        return (linhas + batchSize - 1) / batchSize;
+    }
+
+    private long blocosDeIds(int ids) {
+        return ids / AlocadorIds.INCREMENTO + 1;
+    }
+
+    private OperacaoLoteRequest operacaoLote(TipoOperacaoLote tipo, Long id, Long responsavelId) {
+        OperacaoLoteRequest operacao = new OperacaoLoteRequest();
+        operacao.setTipo(tipo);
+        operacao.setId(id);
+        if (tipo != TipoOperacaoLote.EXCLUIR) {
+            ProjetoRequest request = new ProjetoRequest();
+            request.setNome("Projeto Contagem Lote");
+            request.setInicioPrevisto(LocalDate.now().plusDays(1));
+            request.setTerminoPrevisto(LocalDate.now().plusDays(30));
+            request.setResponsavelIds(Set.of(responsavelId));
+            operacao.setProjeto(request);
+        }
+        return operacao;
+    }
+
+    // Ignora os projetos da carga inicial (V2), que têm outros responsáveis
+    private List<ProjetoResponse> criados(List<ProjetoResponse> projetos) {
+        return projetos.stream()
+                .filter(p -> p.getNome().startsWith("Projeto Contagem"))
+                .toList();
+    }
+
+    private void criarProjetosComResponsaveis(int quantidade) {
+        Responsavel primeiro = salvarResponsavel("primeiro");
+        Responsavel segundo = salvarResponsavel("segundo");
+
+        for (int i = 0; i < quantidade; i++) {
+            Projeto projeto = new Projeto();
+            projeto.setNome("Projeto Contagem " + i);
+            projeto.setInicioPrevisto(LocalDate.now().plusDays(1));
+            projeto.setTerminoPrevisto(LocalDate.now().plusDays(30));
+            projeto.setResponsaveis(new HashSet<>(Set.of(primeiro, segundo)));
+            projetoRepository.save(projeto);
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    private Responsavel salvarResponsavel(String prefixo) {
+        Responsavel responsavel = new Responsavel();
+        responsavel.setNome("Responsável " + prefixo);
+        responsavel.setEmail(prefixo + "." + System.nanoTime() + "@contagem.com");
+        return responsavelRepository.save(responsavel);
+    }
+}
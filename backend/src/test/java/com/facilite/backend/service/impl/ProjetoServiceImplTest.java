@@ -1,12 +1,17 @@
 package com.facilite.backend.service.impl;
 
+import com.facilite.backend.dto.EventoQuadro;
 import com.facilite.backend.dto.ProjetoRequest;
 import com.facilite.backend.dto.ProjetoResponse;
 import com.facilite.backend.exception.ProjetoNotFoundException;
 import com.facilite.backend.mapper.ProjetoMapper;
+import com.facilite.backend.model.MetricasCalculadas;
 import com.facilite.backend.model.Projeto;
+import com.facilite.backend.model.ProjetoMetricas;
 import com.facilite.backend.model.Responsavel;
 import com.facilite.backend.model.StatusProjeto;
+import com.facilite.backend.repository.ImpressaoColecoesRepository;
+import com.facilite.backend.repository.ProjetoExcluidoRepository;
 import com.facilite.backend.repository.ProjetoRepository;
 import com.facilite.backend.repository.ResponsavelRepository;
 import com.facilite.backend.service.MetricaService;
@@ -17,9 +22,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -44,6 +51,15 @@ class ProjetoServiceImplTest {
     @Mock
     private ProjetoMapper projetoMapper; // ← ADICIONADO
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ProjetoExcluidoRepository projetoExcluidoRepository;
+
+    @Mock
+    private ImpressaoColecoesRepository impressaoColecoesRepository;
+
     @InjectMocks
     private ProjetoServiceImpl projetoService;
 
@@ -87,11 +103,10 @@ class ProjetoServiceImplTest {
     @Test
     void listarTodos_DeveRetornarListaDeProjetos() {
         // Arrange
-        List<Projeto> projetos = Arrays.asList(projeto);
-        List<ProjetoResponse> responses = Arrays.asList(projetoResponse);
+        ProjetoMetricas projetoMetricas = mock(ProjetoMetricas.class);
 
-        when(projetoRepository.findAll()).thenReturn(projetos);
-        when(projetoMapper.toResponseList(projetos)).thenReturn(responses);
+        when(projetoRepository.findAllComMetricas()).thenReturn(List.of(projetoMetricas));
+        when(projetoMapper.toResponse(projetoMetricas)).thenReturn(projetoResponse);
 
         // Act
         List<ProjetoResponse> result = projetoService.listarTodos();
@@ -100,8 +115,8 @@ class ProjetoServiceImplTest {
         assertNotNull(result);
         assertEquals(1, result.size());
         assertEquals("Projeto Teste", result.get(0).getNome());
-        verify(projetoRepository, times(1)).findAll();
-        verify(projetoMapper, times(1)).toResponseList(projetos);
+        verify(projetoRepository, times(1)).findAllComMetricas();
+        verify(projetoMapper, times(1)).toResponse(projetoMetricas);
     }
 
     @Test
@@ -139,9 +154,8 @@ class ProjetoServiceImplTest {
         when(projetoMapper.toEntity(any(ProjetoRequest.class), any(Set.class))).thenReturn(projeto);
         when(projetoRepository.save(any(Projeto.class))).thenReturn(projeto);
         when(projetoMapper.toResponse(projeto)).thenReturn(projetoResponse);
-        when(metricaService.calcularStatus(any(Projeto.class))).thenReturn(StatusProjeto.A_INICIAR);
-        when(metricaService.calcularDiasAtraso(any(Projeto.class))).thenReturn(0);
-        when(metricaService.calcularPercentualTempoRestante(any(Projeto.class))).thenReturn(100.0);
+        when(metricaService.calcularMetricas(any(Projeto.class), any(LocalDate.class)))
+                .thenReturn(metricas(StatusProjeto.A_INICIAR, 0, 100.0));
 
         // Act
         ProjetoResponse result = projetoService.criarProjeto(projetoRequest);
@@ -151,9 +165,7 @@ class ProjetoServiceImplTest {
         assertEquals("Projeto Teste", result.getNome());
         verify(projetoRepository, times(1)).save(any(Projeto.class));
         verify(responsavelRepository, times(1)).findAllById(any());
-        verify(metricaService, times(1)).calcularStatus(any(Projeto.class));
-        verify(metricaService, times(1)).calcularDiasAtraso(any(Projeto.class));
-        verify(metricaService, times(1)).calcularPercentualTempoRestante(any(Projeto.class));
+        verify(metricaService, times(1)).calcularMetricas(any(Projeto.class), any(LocalDate.class));
         verify(projetoMapper, times(1)).toEntity(any(ProjetoRequest.class), any(Set.class));
         verify(projetoMapper, times(1)).toResponse(projeto);
     }
@@ -165,9 +177,8 @@ class ProjetoServiceImplTest {
         when(projetoMapper.toEntity(any(ProjetoRequest.class), any(Set.class))).thenReturn(projeto);
         when(projetoRepository.save(any(Projeto.class))).thenReturn(projeto);
         when(projetoMapper.toResponse(projeto)).thenReturn(projetoResponse);
-        when(metricaService.calcularStatus(any(Projeto.class))).thenReturn(StatusProjeto.A_INICIAR);
-        when(metricaService.calcularDiasAtraso(any(Projeto.class))).thenReturn(0);
-        when(metricaService.calcularPercentualTempoRestante(any(Projeto.class))).thenReturn(100.0);
+        when(metricaService.calcularMetricas(any(Projeto.class), any(LocalDate.class)))
+                .thenReturn(metricas(StatusProjeto.A_INICIAR, 0, 100.0));
 
         // Act
         ProjetoResponse result = projetoService.criarProjeto(projetoRequest);
@@ -185,9 +196,8 @@ class ProjetoServiceImplTest {
         when(responsavelRepository.findAllById(any())).thenReturn(Arrays.asList(responsavel));
         when(projetoRepository.save(any(Projeto.class))).thenReturn(projeto);
         when(projetoMapper.toResponse(projeto)).thenReturn(projetoResponse);
-        when(metricaService.calcularStatus(any(Projeto.class))).thenReturn(StatusProjeto.EM_ANDAMENTO);
-        when(metricaService.calcularDiasAtraso(any(Projeto.class))).thenReturn(2);
-        when(metricaService.calcularPercentualTempoRestante(any(Projeto.class))).thenReturn(75.5);
+        when(metricaService.calcularMetricas(any(Projeto.class), any(LocalDate.class)))
+                .thenReturn(metricas(StatusProjeto.EM_ANDAMENTO, 2, 75.5));
 
         // Act
         ProjetoResponse result = projetoService.atualizarProjeto(1L, projetoRequest);
@@ -196,9 +206,7 @@ class ProjetoServiceImplTest {
         assertNotNull(result);
         assertEquals("Projeto Teste", result.getNome());
         verify(projetoRepository, times(1)).save(any(Projeto.class));
-        verify(metricaService, times(1)).calcularStatus(any(Projeto.class));
-        verify(metricaService, times(1)).calcularDiasAtraso(any(Projeto.class));
-        verify(metricaService, times(1)).calcularPercentualTempoRestante(any(Projeto.class));
+        verify(metricaService, times(1)).calcularMetricas(any(Projeto.class), any(LocalDate.class));
         verify(projetoMapper, times(1)).updateEntityFromRequest(eq(projetoRequest), eq(projeto), any(Set.class));
         verify(projetoMapper, times(1)).toResponse(projeto);
     }
@@ -225,6 +233,8 @@ class ProjetoServiceImplTest {
         // Assert
         verify(projetoRepository, times(1)).findById(1L);
         verify(projetoRepository, times(1)).delete(projeto); // ← CORRIGIDO
+        verify(projetoExcluidoRepository, times(1)).registrarExclusoes(eq(List.of(1L)), any(LocalDateTime.class));
+        verify(eventPublisher, times(1)).publishEvent(EventoQuadro.projetoExcluido(1L, projeto.getStatus()));
     }
 
     @Test
@@ -236,6 +246,7 @@ class ProjetoServiceImplTest {
         assertThrows(ProjetoNotFoundException.class, () -> {
             projetoService.excluirProjeto(1L);
         });
+        verify(eventPublisher, never()).publishEvent(any(EventoQuadro.class));
     }
 
     
@@ -245,9 +256,8 @@ class ProjetoServiceImplTest {
         when(projetoRepository.findById(1L)).thenReturn(Optional.of(projeto));
         when(projetoRepository.save(any(Projeto.class))).thenReturn(projeto);
         when(projetoMapper.toResponse(projeto)).thenReturn(projetoResponse);
-        when(metricaService.calcularStatus(any(Projeto.class))).thenReturn(StatusProjeto.EM_ANDAMENTO);
-        when(metricaService.calcularDiasAtraso(any(Projeto.class))).thenReturn(0);
-        when(metricaService.calcularPercentualTempoRestante(any(Projeto.class))).thenReturn(85.0);
+        when(metricaService.calcularMetricas(any(Projeto.class), any(LocalDate.class)))
+                .thenReturn(metricas(StatusProjeto.EM_ANDAMENTO, 0, 85.0));
 
         projeto.setStatus(StatusProjeto.EM_ANDAMENTO);
 
@@ -258,9 +268,7 @@ class ProjetoServiceImplTest {
         assertNotNull(result);
         verify(projetoRepository, times(1)).findById(1L);
         verify(transicaoStatusService, times(1)).executarTransicao(any(Projeto.class), eq(StatusProjeto.EM_ANDAMENTO));
-        verify(metricaService, times(1)).calcularStatus(any(Projeto.class));
-        verify(metricaService, times(1)).calcularDiasAtraso(any(Projeto.class));
-        verify(metricaService, times(1)).calcularPercentualTempoRestante(any(Projeto.class));
+        verify(metricaService, times(1)).calcularMetricas(any(Projeto.class), any(LocalDate.class));
         verify(projetoMapper, times(1)).toResponse(projeto);
     }
 
@@ -269,7 +277,8 @@ class ProjetoServiceImplTest {
         // Arrange
         when(projetoRepository.findById(1L)).thenReturn(Optional.of(projeto));
         when(projetoRepository.save(any(Projeto.class))).thenReturn(projeto);
-        when(metricaService.calcularStatus(any(Projeto.class))).thenReturn(StatusProjeto.ATRASADO); // Status diferente do solicitado
+        when(metricaService.calcularMetricas(any(Projeto.class), any(LocalDate.class)))
+                .thenReturn(metricas(StatusProjeto.ATRASADO, 0, 0.0)); // Status diferente do solicitado
 
         // Act & Assert
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
@@ -281,19 +290,16 @@ class ProjetoServiceImplTest {
     }
 
     @Test
-    void calcularEAtualizarMetricas_DeveChamarServicosDeMetricaEAtualizarProjeto() {
+    void calcularEAtualizarMetricas_DeveCalcularEmUmaPassadaEAtualizarProjeto() {
         // Arrange
-        when(metricaService.calcularStatus(projeto)).thenReturn(StatusProjeto.EM_ANDAMENTO);
-        when(metricaService.calcularDiasAtraso(projeto)).thenReturn(0);
-        when(metricaService.calcularPercentualTempoRestante(projeto)).thenReturn(75.5);
+        when(metricaService.calcularMetricas(eq(projeto), any(LocalDate.class)))
+                .thenReturn(metricas(StatusProjeto.EM_ANDAMENTO, 0, 75.5));
 
         // Act
         projetoService.calcularEAtualizarMetricas(projeto);
 
         // Assert
-        verify(metricaService, times(1)).calcularStatus(projeto);
-        verify(metricaService, times(1)).calcularDiasAtraso(projeto);
-        verify(metricaService, times(1)).calcularPercentualTempoRestante(projeto);
+        verify(metricaService, times(1)).calcularMetricas(eq(projeto), any(LocalDate.class));
         assertEquals(StatusProjeto.EM_ANDAMENTO, projeto.getStatus());
         assertEquals(0, projeto.getDiasAtraso());
         assertEquals(75.5, projeto.getPercentualTempoRestante());
@@ -305,11 +311,13 @@ class ProjetoServiceImplTest {
     void listarPaginado_DeveRetornarPaginaDeProjetos() {
         // Arrange
         Pageable pageable = PageRequest.of(0, 10, Sort.by("nome"));
-        List<Projeto> projetos = Arrays.asList(projeto);
-        Page<Projeto> paginaProjetos = new PageImpl<>(projetos, pageable, projetos.size());
+        Page<Long> paginaIds = new PageImpl<>(List.of(1L), pageable, 1);
+        ProjetoMetricas projetoMetricas = mock(ProjetoMetricas.class);
+        when(projetoMetricas.getId()).thenReturn(1L);
 
-        when(projetoRepository.findAll(pageable)).thenReturn(paginaProjetos);
-        when(projetoMapper.toResponse(projeto)).thenReturn(projetoResponse);
+        when(projetoRepository.findIds(pageable)).thenReturn(paginaIds);
+        when(projetoRepository.findComMetricasByIdIn(List.of(1L))).thenReturn(List.of(projetoMetricas));
+        when(projetoMapper.toResponse(projetoMetricas)).thenReturn(projetoResponse);
 
         // Act
         Page<ProjetoResponse> result = projetoService.listarPaginado(pageable);
@@ -319,17 +327,18 @@ class ProjetoServiceImplTest {
         assertEquals(1, result.getContent().size());
         assertEquals("Projeto Teste", result.getContent().get(0).getNome());
         assertEquals(1, result.getTotalElements());
-        verify(projetoRepository, times(1)).findAll(pageable);
-        verify(projetoMapper, times(1)).toResponse(projeto);
+        verify(projetoRepository, times(1)).findIds(pageable);
+        verify(projetoRepository, times(1)).findComMetricasByIdIn(List.of(1L));
+        verify(projetoMapper, times(1)).toResponse(projetoMetricas);
     }
 
     @Test
     void listarPaginado_ComPaginaVazia_DeveRetornarPaginaVazia() {
         // Arrange
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Projeto> paginaVazia = Page.empty(pageable);
+        Page<Long> paginaVazia = Page.empty(pageable);
 
-        when(projetoRepository.findAll(pageable)).thenReturn(paginaVazia);
+        when(projetoRepository.findIds(pageable)).thenReturn(paginaVazia);
 
         // Act
         Page<ProjetoResponse> result = projetoService.listarPaginado(pageable);
@@ -338,8 +347,9 @@ class ProjetoServiceImplTest {
         assertNotNull(result);
         assertTrue(result.getContent().isEmpty());
         assertEquals(0, result.getTotalElements());
-        verify(projetoRepository, times(1)).findAll(pageable);
-        verify(projetoMapper, never()).toResponse(any());
+        verify(projetoRepository, times(1)).findIds(pageable);
+        verify(projetoRepository, never()).findComMetricasByIdIn(any());
+        verify(projetoMapper, never()).toResponse(any(ProjetoMetricas.class));
     }
 
     @Test
@@ -347,20 +357,18 @@ class ProjetoServiceImplTest {
         // Arrange
         Pageable pageable = PageRequest.of(1, 2); // Segunda página, 2 itens por página
 
-        Projeto projeto2 = new Projeto();
-        projeto2.setId(2L);
-        projeto2.setNome("Projeto Teste 2");
-        projeto2.setStatus(StatusProjeto.EM_ANDAMENTO);
+        ProjetoMetricas projeto2 = mock(ProjetoMetricas.class);
+        when(projeto2.getId()).thenReturn(2L);
 
         ProjetoResponse response2 = new ProjetoResponse();
         response2.setId(2L);
         response2.setNome("Projeto Teste 2");
         response2.setStatus(StatusProjeto.EM_ANDAMENTO);
 
-        List<Projeto> projetosPagina2 = Arrays.asList(projeto2);
-        Page<Projeto> paginaProjetos = new PageImpl<>(projetosPagina2, pageable, 5); // 5 no total
+        Page<Long> paginaIds = new PageImpl<>(List.of(2L), pageable, 5); // 5 no total
 
-        when(projetoRepository.findAll(pageable)).thenReturn(paginaProjetos);
+        when(projetoRepository.findIds(pageable)).thenReturn(paginaIds);
+        when(projetoRepository.findComMetricasByIdIn(List.of(2L))).thenReturn(List.of(projeto2));
         when(projetoMapper.toResponse(projeto2)).thenReturn(response2);
 
         // Act
@@ -373,8 +381,12 @@ class ProjetoServiceImplTest {
         assertEquals(5, result.getTotalElements());
         assertEquals(1, result.getNumber()); // Número da página
         assertEquals(2, result.getSize()); // Tamanho da página
-        verify(projetoRepository, times(1)).findAll(pageable);
+        verify(projetoRepository, times(1)).findIds(pageable);
     }
 
 
-}
\ No newline at end of file
+
+    private MetricasCalculadas metricas(StatusProjeto status, int diasAtraso, double percentualTempoRestante) {
+        return new MetricasCalculadas(1L, status, diasAtraso, percentualTempoRestante, null);
+    }
+}
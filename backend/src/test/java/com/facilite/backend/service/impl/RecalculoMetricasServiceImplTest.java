@@ -0,0 +1,121 @@
+package com.facilite.backend.service.impl;
+
+import com.facilite.backend.dto.ResultadoRecalculoResponse;
+import com.facilite.backend.model.Projeto;
+import com.facilite.backend.model.StatusProjeto;
+import com.facilite.backend.repository.ProjetoRepository;
+import com.facilite.backend.service.RecalculoMetricasService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Recálculo em lotes pequenos para exercitar a paginação por ID.
+ * Projetos criados com próxima reavaliação vencida (hoje) para entrarem na fila.
+ */
+@SpringBootTest(properties = "kanban.recalculo.tamanho-lote=2")
+@ActiveProfiles("test")
+@Transactional
+class RecalculoMetricasServiceImplTest {
+
+    @Autowired
+    private RecalculoMetricasService recalculoMetricasService;
+
+    @Autowired
+    private ProjetoRepository projetoRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void recalcular_DeveAtualizarApenasProjetosDesatualizados() {
+        LocalDate hoje = LocalDate.now();
+        // Normaliza dados pré-existentes para que a contagem abaixo seja exata
+        recalculoMetricasService.recalcular();
+
+        Projeto virouAtrasado = salvar("Virou atrasado", StatusProjeto.A_INICIAR,
+                hoje.minusDays(5), hoje.minusDays(2), null, 0, 0.0);
+        Projeto percentualVelho = salvar("Percentual velho", StatusProjeto.EM_ANDAMENTO,
+                hoje.minusDays(5), hoje.plusDays(5), hoje.minusDays(5), 0, 100.0);
+        Projeto emDia = salvar("Em dia", StatusProjeto.A_INICIAR,
+                hoje.plusDays(5), hoje.plusDays(10), null, 0, 0.0);
+        double atualizadosAntes = meterRegistry.counter("kanban.recalculo.projetos.atualizados").count();
+
+        ResultadoRecalculoResponse resultado = recalculoMetricasService.recalcular();
+
+        assertTrue(resultado.getEscaneados() >= 3);
+        assertEquals(2, resultado.getAtualizados());
+        assertEquals(atualizadosAntes + 2, meterRegistry.counter("kanban.recalculo.projetos.atualizados").count());
+        assertEquals(resultado, recalculoMetricasService.ultimaExecucao().orElseThrow());
+
+        entityManager.clear();
+        Projeto atrasado = projetoRepository.findById(virouAtrasado.getId()).orElseThrow();
+        assertEquals(StatusProjeto.ATRASADO, atrasado.getStatus());
+        assertEquals(2, atrasado.getDiasAtraso());
+        assertEquals(0.0, atrasado.getPercentualTempoRestante());
+
+        Projeto emAndamento = projetoRepository.findById(percentualVelho.getId()).orElseThrow();
+        assertEquals(StatusProjeto.EM_ANDAMENTO, emAndamento.getStatus());
+        assertEquals(50.0, emAndamento.getPercentualTempoRestante());
+
+        Projeto aIniciar = projetoRepository.findById(emDia.getId()).orElseThrow();
+        assertEquals(StatusProjeto.A_INICIAR, aIniciar.getStatus());
+
+        // Reagendados para a próxima data em que alguma métrica muda
+        assertEquals(hoje.plusDays(1), atrasado.getProximaReavaliacao());
+        assertEquals(hoje.plusDays(1), emAndamento.getProximaReavaliacao());
+        assertEquals(hoje.plusDays(6), aIniciar.getProximaReavaliacao());
+    }
+
+    @Test
+    void recalcular_DeveIgnorarProjetosSemReavaliacaoVencida() {
+        LocalDate hoje = LocalDate.now();
+        recalculoMetricasService.recalcular();
+
+        Projeto futuro = salvar("Reavaliação futura", StatusProjeto.A_INICIAR,
+                hoje.minusDays(5), hoje.minusDays(2), null, 0, 0.0);
+        futuro.setProximaReavaliacao(hoje.plusDays(3));
+        projetoRepository.saveAndFlush(futuro);
+
+        ResultadoRecalculoResponse resultado = recalculoMetricasService.recalcular();
+
+        assertEquals(0, resultado.getEscaneados());
+        entityManager.clear();
+        assertEquals(StatusProjeto.A_INICIAR, projetoRepository.findById(futuro.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    void recalcular_SemAlteracoes_NaoDeveAtualizarNada() {
+        recalculoMetricasService.recalcular();
+
+        ResultadoRecalculoResponse resultado = recalculoMetricasService.recalcular();
+
+        assertEquals(0, resultado.getAtualizados());
+    }
+
+    private Projeto salvar(String nome, StatusProjeto status, LocalDate inicioPrevisto, LocalDate terminoPrevisto,
+                           LocalDate inicioRealizado, Integer diasAtraso, Double percentual) {
+        Projeto projeto = new Projeto();
+        projeto.setNome(nome);
+        projeto.setStatus(status);
+        projeto.setInicioPrevisto(inicioPrevisto);
+        projeto.setTerminoPrevisto(terminoPrevisto);
+        projeto.setInicioRealizado(inicioRealizado);
+        projeto.setDiasAtraso(diasAtraso);
+        projeto.setPercentualTempoRestante(percentual);
+        projeto.setProximaReavaliacao(LocalDate.now());
+        return projetoRepository.saveAndFlush(projeto);
+    }
+}
@@ -0,0 +1,99 @@
+package com.facilite.backend.service.impl;
+
+import com.facilite.backend.dto.EventoQuadro;
+import com.facilite.backend.dto.ResponsavelResponse;
+import com.facilite.backend.mapper.ResponsavelMapper;
+import com.facilite.backend.model.Responsavel;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResponsavelCacheServiceImplTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ResponsavelCacheServiceImpl cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new ResponsavelCacheServiceImpl(new ResponsavelMapper(), meterRegistry, 2);
+    }
+
+    @Test
+    void obter_MesmoId_DeveReaproveitarResponseERegistrarAcerto() {
+        ResponsavelResponse primeiro = cache.obter(responsavel(1L, "João"));
+        ResponsavelResponse segundo = cache.obter(responsavel(1L, "João"));
+
+        assertSame(primeiro, segundo);
+        assertEquals(1.0, contagem("hit"));
+        assertEquals(1.0, contagem("miss"));
+    }
+
+    @Test
+    void obter_AlemDoTamanhoMaximo_DeveDespejarOMenosUsado() {
+        cache.obter(responsavel(1L, "João"));
+        cache.obter(responsavel(2L, "Maria"));
+        cache.obter(responsavel(1L, "João"));
+        cache.obter(responsavel(3L, "Pedro"));
+
+        assertTrue(cache.contem(1L));
+        assertFalse(cache.contem(2L));
+        assertTrue(cache.contem(3L));
+        assertEquals(1.0, meterRegistry.get("cache.evictions").counter().count());
+        assertEquals(2.0, meterRegistry.get("cache.size").gauge().value());
+    }
+
+    @Test
+    void invalidar_DeveFazerProximaLeituraConverterDeNovo() {
+        cache.obter(responsavel(1L, "João"));
+
+        cache.invalidar(1L);
+
+        assertEquals("João Atualizado", cache.obter(responsavel(1L, "João Atualizado")).getNome());
+    }
+
+    @Test
+    void obter_EntradaDeLeituraAntiga_DeveSerSubstituidaPelaEntidadeMaisNova() {
+        Responsavel antigo = responsavel(1L, "João");
+        antigo.setUpdatedAt(LocalDateTime.of(2024, 1, 1, 10, 0));
+        Responsavel atualizado = responsavel(1L, "João Atualizado");
+        atualizado.setUpdatedAt(LocalDateTime.of(2024, 1, 1, 11, 0));
+
+        // Leitor que carregou a entidade antes do commit grava depois da invalidação
+        cache.aoAlterar(EventoQuadro.responsavelExcluido(1L));
+        cache.obter(antigo);
+
+        assertEquals("João Atualizado", cache.obter(atualizado).getNome());
+        assertEquals("João Atualizado", cache.obter(atualizado).getNome());
+        assertEquals(1.0, contagem("hit"));
+    }
+
+    @Test
+    void aoAlterar_EventoDeResponsavelOuResincronizar_DeveInvalidar() {
+        cache.obter(responsavel(1L, "João"));
+        cache.obter(responsavel(2L, "Maria"));
+
+        cache.aoAlterar(EventoQuadro.responsavelExcluido(1L));
+        assertFalse(cache.contem(1L));
+        assertTrue(cache.contem(2L));
+
+        cache.aoAlterar(EventoQuadro.resincronizar());
+        assertFalse(cache.contem(2L));
+    }
+
+    private double contagem(String resultado) {
+        return meterRegistry.get("cache.gets").tag("result", resultado).counter().count();
+    }
+
+    private static Responsavel responsavel(Long id, String nome) {
+        Responsavel responsavel = new Responsavel();
+        responsavel.setId(id);
+        responsavel.setNome(nome);
+        responsavel.setEmail(nome.toLowerCase() + "@empresa.com");
+        return responsavel;
+    }
+}
@@ -1,20 +1,34 @@
 package com.facilite.backend.service.impl;
 
+import com.facilite.backend.dto.EventoQuadro;
 import com.facilite.backend.dto.ResponsavelRequest;
 import com.facilite.backend.dto.ResponsavelResponse;
+import com.facilite.backend.dto.ResponsavelUpsertRequest;
+import com.facilite.backend.dto.ResultadoUpsertResponsavel;
+import com.facilite.backend.dto.TipoEventoQuadro;
 import com.facilite.backend.exception.EmailAlreadyExistsException;
 import com.facilite.backend.exception.ResponsavelNotFoundException;
 import com.facilite.backend.mapper.ResponsavelMapper;
 import com.facilite.backend.model.Responsavel;
+import com.facilite.backend.repository.ImpressaoColecoesRepository;
+import com.facilite.backend.repository.ProjetoRepository;
 import com.facilite.backend.repository.ResponsavelRepository;
+import com.facilite.backend.repository.UpsertResponsavelRepository;
+import com.facilite.backend.service.CacheEntidadesService;
+import com.facilite.backend.service.ResponsavelCacheService;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.*;
 
+import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
@@ -30,9 +44,27 @@ class ResponsavelServiceImplTest {
     @Mock
     private ResponsavelRepository responsavelRepository;
 
+    @Mock
+    private ProjetoRepository projetoRepository;
+
     @Mock
     private ResponsavelMapper responsavelMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ResponsavelCacheService responsavelCacheService;
+
+    @Mock
+    private CacheEntidadesService cacheEntidadesService;
+
+    @Mock
+    private UpsertResponsavelRepository upsertResponsavelRepository;
+
+    @Mock
+    private ImpressaoColecoesRepository impressaoColecoesRepository;
+
     @InjectMocks
     private ResponsavelServiceImpl responsavelService;
 
@@ -114,7 +146,6 @@ class ResponsavelServiceImplTest {
     @Test
     void criarResponsavel_ComEmailUnico_DeveCriarComSucesso() {
         // Arrange
-        when(responsavelRepository.existsByEmail("joao@email.com")).thenReturn(false);
         when(responsavelMapper.toEntity(responsavelRequest)).thenReturn(responsavel);
         when(responsavelRepository.save(any(Responsavel.class))).thenReturn(responsavel);
         when(responsavelMapper.toResponse(responsavel)).thenReturn(responsavelResponse);
@@ -127,6 +158,8 @@ class ResponsavelServiceImplTest {
         assertEquals("João Silva", result.getNome());
         assertEquals("joao@email.com", result.getEmail());
         verify(responsavelRepository, times(1)).save(any(Responsavel.class));
+        verify(responsavelRepository, times(1)).flush();
+        verify(responsavelRepository, never()).existsByEmail(any());
         verify(responsavelMapper, times(1)).toEntity(responsavelRequest);
         verify(responsavelMapper, times(1)).toResponse(responsavel);
     }
@@ -134,7 +167,9 @@ class ResponsavelServiceImplTest {
     @Test
     void criarResponsavel_ComEmailExistente_DeveLancarExcecao() {
         // Arrange
-        when(responsavelRepository.existsByEmail("joao@email.com")).thenReturn(true);
+        when(responsavelMapper.toEntity(responsavelRequest)).thenReturn(responsavel);
+        doThrow(violacao(ConstraintViolationException.ConstraintKind.UNIQUE, Responsavel.UNIQUE_EMAIL))
+                .when(responsavelRepository).flush();
 
         // Act & Assert
         assertThrows(EmailAlreadyExistsException.class, () -> {
@@ -146,7 +181,6 @@ class ResponsavelServiceImplTest {
     void atualizarResponsavel_ComDadosValidos_DeveAtualizarComSucesso() {
         // Arrange
         when(responsavelRepository.findById(1L)).thenReturn(Optional.of(responsavel));
-        when(responsavelRepository.existsByEmail("joao.novo@email.com")).thenReturn(false);
         when(responsavelRepository.save(any(Responsavel.class))).thenReturn(responsavel);
         when(responsavelMapper.toResponse(responsavel)).thenReturn(responsavelResponse);
 
@@ -160,13 +194,16 @@ class ResponsavelServiceImplTest {
         verify(responsavelRepository, times(1)).save(any(Responsavel.class));
         verify(responsavelMapper, times(1)).updateEntityFromRequest(responsavelRequest, responsavel);
         verify(responsavelMapper, times(1)).toResponse(responsavel);
+        verify(responsavelCacheService, times(1)).invalidar(1L);
+        verify(projetoRepository, times(1)).marcarAlteradosPorResponsavel(eq(1L), any(LocalDateTime.class));
     }
 
     @Test
     void atualizarResponsavel_ComEmailExistente_DeveLancarExcecao() {
         // Arrange
         when(responsavelRepository.findById(1L)).thenReturn(Optional.of(responsavel));
-        when(responsavelRepository.existsByEmail("email.existente@email.com")).thenReturn(true);
+        doThrow(violacao(ConstraintViolationException.ConstraintKind.UNIQUE, Responsavel.UNIQUE_EMAIL))
+                .when(responsavelRepository).flush();
 
         responsavelRequest.setEmail("email.existente@email.com");
 
@@ -174,6 +211,66 @@ class ResponsavelServiceImplTest {
         assertThrows(EmailAlreadyExistsException.class, () -> {
             responsavelService.atualizarResponsavel(1L, responsavelRequest);
         });
+        verify(responsavelCacheService, never()).invalidar(any());
+    }
+
+    @Test
+    void atualizarResponsavel_ComOutraViolacao_DevePropagarExcecaoOriginal() {
+        // Arrange
+        when(responsavelRepository.findById(1L)).thenReturn(Optional.of(responsavel));
+        DataIntegrityViolationException original = violacao(ConstraintViolationException.ConstraintKind.OTHER, null);
+        doThrow(original).when(responsavelRepository).flush();
+
+        // Act & Assert
+        DataIntegrityViolationException lancada = assertThrows(DataIntegrityViolationException.class, () -> {
+            responsavelService.atualizarResponsavel(1L, responsavelRequest);
+        });
+        assertSame(original, lancada);
+    }
+
+    @Test
+    void upsertPorEmail_QuandoEmailNovo_DeveCriarEPublicarCriacao() {
+        // Arrange
+        ResponsavelUpsertRequest request = new ResponsavelUpsertRequest();
+        request.setNome("João Silva");
+        when(upsertResponsavelRepository.upsertPorEmail("joao@email.com", "João Silva", null))
+                .thenReturn(new UpsertResponsavelRepository.Resultado(responsavel, true, true));
+        when(responsavelMapper.toResponse(responsavel)).thenReturn(responsavelResponse);
+
+        // Act
+        ResultadoUpsertResponsavel result = responsavelService.upsertPorEmail("joao@email.com", request);
+
+        // Assert
+        assertTrue(result.isCriado());
+        assertSame(responsavelResponse, result.getResponsavel());
+        verify(responsavelCacheService, times(1)).invalidar(1L);
+        verify(cacheEntidadesService, times(1)).invalidarResponsavel(1L);
+        verify(projetoRepository, never()).marcarAlteradosPorResponsavel(any(), any());
+        ArgumentCaptor<EventoQuadro> evento = ArgumentCaptor.forClass(EventoQuadro.class);
+        verify(eventPublisher).publishEvent(evento.capture());
+        assertEquals(TipoEventoQuadro.RESPONSAVEL_CRIADO, evento.getValue().getTipo());
+    }
+
+    @Test
+    void upsertPorEmail_ComMesmosDados_NaoDeveMarcarProjetosNemInvalidarNemPublicar() {
+        // Arrange
+        ResponsavelUpsertRequest request = new ResponsavelUpsertRequest();
+        request.setNome("João Silva");
+        when(upsertResponsavelRepository.upsertPorEmail("joao@email.com", "João Silva", null))
+                .thenReturn(new UpsertResponsavelRepository.Resultado(responsavel, false, false));
+        when(responsavelMapper.toResponse(responsavel)).thenReturn(responsavelResponse);
+
+        // Act
+        ResultadoUpsertResponsavel result = responsavelService.upsertPorEmail("joao@email.com", request);
+
+        // Assert
+        assertFalse(result.isCriado());
+        assertSame(responsavelResponse, result.getResponsavel());
+        verify(projetoRepository, never()).marcarAlteradosPorResponsavel(any(), any());
+        verify(impressaoColecoesRepository, never()).registrarAlteracaoResponsaveis();
+        verify(responsavelCacheService, never()).invalidar(any());
+        verify(cacheEntidadesService, never()).invalidarResponsavel(any());
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
@@ -187,6 +284,9 @@ class ResponsavelServiceImplTest {
         // Assert
         verify(responsavelRepository, times(1)).findById(1L);
         verify(responsavelRepository, times(1)).delete(responsavel);
+        verify(projetoRepository, times(1)).marcarAlteradosPorResponsavel(eq(1L), any(LocalDateTime.class));
+        verify(responsavelCacheService, times(1)).invalidar(1L);
+        verify(cacheEntidadesService, times(1)).invalidarResponsavelExcluido(1L);
     }
 
     @Test
@@ -301,4 +401,11 @@ class ResponsavelServiceImplTest {
         assertEquals(2, result.getSize()); // Tamanho da página
         verify(responsavelRepository, times(1)).findAll(pageable);
     }
-}
\ No newline at end of file
+
+    private static DataIntegrityViolationException violacao(ConstraintViolationException.ConstraintKind tipo,
+                                                            String constraint) {
+        ConstraintViolationException causa = new ConstraintViolationException(
+                "violação", new SQLException("violação"), tipo, constraint);
+        return new DataIntegrityViolationException("violação", causa);
+    }
+}
@@ -2,45 +2,101 @@
 import React, { useState, useEffect } from 'react';
 import type { ProjetoResponse } from 'src/types/projeto/projetoResponse';
 import type { StatusProjeto } from 'src/types/projeto/statusprojeto';
+import type { KanbanColunaResponse } from 'src/types/kanban/kanbanBoard';
+import type { EventoQuadro } from 'src/types/kanban/eventoQuadro';
 import { projetoService } from '../../services/projetoService';
 import { ProjectForm } from '../Projeto/ProjectForm';
 import { KanbanColumn } from './KanbanColumn';
 
+const COLUNAS_PAGINA = 20;
+
+// Aplica um delta do stream: tira o card da coluna de origem e o coloca na coluna do status atual.
+// Cards de páginas ainda não carregadas só ajustam os totais; aplicar o mesmo evento duas vezes não muda nada.
+const aplicarEvento = (colunas: KanbanColunaResponse[], evento: EventoQuadro): KanbanColunaResponse[] => {
+  switch (evento.tipo) {
+    case 'RESPONSAVEL_ATUALIZADO':
+      return colunas.map(c => ({
+        ...c,
+        projetos: c.projetos.map(p => ({
+          ...p,
+          responsaveis: p.responsaveis.map(r => (r.id === evento.id && evento.responsavel ? evento.responsavel : r))
+        }))
+      }));
+    case 'RESPONSAVEL_EXCLUIDO':
+      return colunas.map(c => ({
+        ...c,
+        projetos: c.projetos.map(p => ({ ...p, responsaveis: p.responsaveis.filter(r => r.id !== evento.id) }))
+      }));
+    case 'PROJETO_CRIADO':
+    case 'PROJETO_ATUALIZADO':
+    case 'PROJETO_TRANSICIONADO':
+    case 'PROJETO_EXCLUIDO':
+      break;
+    default:
+      return colunas;
+  }
+
+  const projeto = evento.projeto;
+  const origem = colunas.find(c => c.projetos.some(p => p.id === evento.id))?.status ?? evento.statusAnterior;
+  return colunas.map(c => {
+    const carregado = c.projetos.some(p => p.id === evento.id);
+    let total = c.status === origem ? c.total - 1 : c.total;
+    let projetos = c.projetos;
+    if (projeto && c.status === projeto.status) {
+      total += 1;
+      if (carregado) {
+        projetos = projetos.map(p => (p.id === projeto.id ? projeto : p));
+      } else if (!c.proximoCursor) {
+        projetos = [...projetos, projeto];
+      }
+    } else if (carregado) {
+      projetos = projetos.filter(p => p.id !== evento.id);
+    }
+    return { ...c, total, projetos };
+  });
+};
+
 export const KanbanBoard: React.FC = () => {
-  const [projetos, setProjetos] = useState<ProjetoResponse[]>([]);
+  const [colunas, setColunas] = useState<KanbanColunaResponse[]>([]);
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState<string | null>(null);
   const [editingProjeto, setEditingProjeto] = useState<ProjetoResponse | null>(null);
   const [showForm, setShowForm] = useState(false);
   const [notification, setNotification] = useState<{ message: string; type: 'success' | 'error' } | null>(null);
 
-  // Colunas do Kanban
+  const colunaPorStatus = (status: StatusProjeto) => colunas.find(c => c.status === status);
+
+  // Colunas do Kanban (cards e totais vêm do endpoint /projetos/board)
   const columns = [
     {
       id: 'A_INICIAR' as StatusProjeto,
       title: 'A Iniciar',
-      color: 'bg-blue-100 border-blue-300',
-      projetos: projetos.filter(p => p.status === 'A_INICIAR')
+      color: 'bg-blue-100 border-blue-300'
     },
     {
       id: 'EM_ANDAMENTO' as StatusProjeto,
       title: 'Em Andamento', 
-      color: 'bg-yellow-100 border-yellow-300',
-      projetos: projetos.filter(p => p.status === 'EM_ANDAMENTO')
+      color: 'bg-yellow-100 border-yellow-300'
     },
     {
       id: 'ATRASADO' as StatusProjeto,
       title: 'Atrasado',
-      color: 'bg-red-100 border-red-300',
-      projetos: projetos.filter(p => p.status === 'ATRASADO')
+      color: 'bg-red-100 border-red-300'
     },
     {
       id: 'CONCLUIDO' as StatusProjeto,
       title: 'Concluído',
-      color: 'bg-green-100 border-green-300',
-      projetos: projetos.filter(p => p.status === 'CONCLUIDO')
+      color: 'bg-green-100 border-green-300'
     }
-  ];
+  ].map(column => {
+    const coluna = colunaPorStatus(column.id);
+    return {
+      ...column,
+      projetos: coluna?.projetos ?? [],
+      total: coluna?.total ?? 0,
+      proximoCursor: coluna?.proximoCursor ?? null
+    };
+  });
 
   // Mostrar notificação
   const showNotification = (message: string, type: 'success' | 'error') => {
@@ -52,8 +108,8 @@ export const KanbanBoard: React.FC = () => {
   const carregarProjetos = async () => {
     try {
       setLoading(true);
-      const data = await projetoService.listarTodos();
-      setProjetos(data);
+      const data = await projetoService.carregarBoard(COLUNAS_PAGINA);
+      setColunas(data.colunas);
       setError(null);
     } catch (err: any) {
       const errorMessage = err.response?.data?.message || 'Erro ao carregar projetos';
@@ -67,6 +123,14 @@ export const KanbanBoard: React.FC = () => {
 
   useEffect(() => {
     carregarProjetos();
+    // Deltas do servidor no lugar de recarregar o quadro inteiro após cada ação
+    return projetoService.acompanharQuadro(evento => {
+      if (evento.tipo === 'RESINCRONIZAR') {
+        carregarProjetos();
+      } else {
+        setColunas(prev => aplicarEvento(prev, evento));
+      }
+    }, carregarProjetos);
   }, []);
 
   // Handler para mudança de status via dropdown
@@ -74,17 +138,30 @@ export const KanbanBoard: React.FC = () => {
     try {
       console.log('Mudando status:', projetoId, 'para:', novoStatus);
       
-      // Atualiza otimisticamente a UI
-      setProjetos(prev => 
-        prev.map(p => 
-          p.id === projetoId ? { ...p, status: novoStatus } : p
-        )
-      );
-
-      await projetoService.transicionarStatus(projetoId, novoStatus);
+      // Atualiza otimisticamente a UI movendo o card para a coluna de destino
+      setColunas(prev => {
+        const projeto = prev.flatMap(c => c.projetos).find(p => p.id === projetoId);
+        if (!projeto) return prev;
+        return prev.map(c => {
+          if (c.status === projeto.status) {
+            return { ...c, total: c.total - 1, projetos: c.projetos.filter(p => p.id !== projetoId) };
+          }
+          if (c.status === novoStatus) {
+            return { ...c, total: c.total + 1, projetos: [...c.projetos, { ...projeto, status: novoStatus }] };
+          }
+          return c;
+        });
+      });
+
+      const projetoAtualizado = await projetoService.transicionarStatus(projetoId, novoStatus);
       
-      // Recarrega para garantir que as métricas estão atualizadas
-      await carregarProjetos();
+      // A resposta já traz as métricas recalculadas; os outros quadros recebem a mudança pelo stream
+      setColunas(prev => aplicarEvento(prev, {
+        tipo: 'PROJETO_TRANSICIONADO',
+        id: projetoId,
+        statusAnterior: novoStatus,
+        projeto: projetoAtualizado
+      }));
       
       showNotification(`Status alterado para ${novoStatus.replace('_', ' ').toLowerCase()} com sucesso!`, 'success');
       
@@ -103,6 +180,22 @@ export const KanbanBoard: React.FC = () => {
     }
   };
 
+  // Carregar próxima página de uma coluna
+  const handleLoadMore = async (status: StatusProjeto) => {
+    const coluna = colunaPorStatus(status);
+    if (!coluna?.proximoCursor) return;
+    try {
+      const pagina = await projetoService.carregarColuna(status, coluna.proximoCursor, COLUNAS_PAGINA);
+      setColunas(prev => prev.map(c =>
+        c.status === status
+          ? { ...c, total: pagina.total, proximoCursor: pagina.proximoCursor, projetos: [...c.projetos, ...pagina.projetos] }
+          : c
+      ));
+    } catch (err: any) {
+      showNotification(err.response?.data?.message || 'Erro ao carregar mais projetos', 'error');
+    }
+  };
+
   // Handlers para edição
   const handleEditProjeto = (projeto: ProjetoResponse) => {
     setEditingProjeto(projeto);
@@ -115,8 +208,8 @@ export const KanbanBoard: React.FC = () => {
   };
 
   const handleFormSuccess = async () => {
-  await carregarProjetos(); // Atualiza os projetos primeiro
-  handleCloseForm();        // Depois fecha o modal
+  // O card criado ou atualizado chega pelo stream do quadro
+  handleCloseForm();
   showNotification(
     editingProjeto ? 'Projeto atualizado com sucesso!' : 'Projeto criado com sucesso!',
     'success'
@@ -179,6 +272,7 @@ export const KanbanBoard: React.FC = () => {
             column={column}
             onStatusChange={handleStatusChange}
             onEdit={handleEditProjeto}
+            onLoadMore={handleLoadMore}
           />
         ))}
       </div>
@@ -187,7 +281,7 @@ export const KanbanBoard: React.FC = () => {
       <div className="mt-8 grid grid-cols-2 md:grid-cols-4 gap-4">
         {columns.map(column => (
           <div key={column.id} className="bg-white p-4 rounded-lg shadow text-center">
-            <div className="text-2xl font-bold text-gray-800">{column.projetos.length}</div>
+            <div className="text-2xl font-bold text-gray-800">{column.total}</div>
             <div className="text-sm text-gray-600">{column.title}</div>
           </div>
         ))}
@@ -10,16 +10,22 @@ interface KanbanColumnProps {
     title: string;
     color: string;
     projetos: ProjetoResponse[];
+    total?: number;
+    proximoCursor?: string | null;
   };
   onStatusChange: (projetoId: number, novoStatus: StatusProjeto) => void;
   onEdit?: (projeto: ProjetoResponse) => void;
+  onLoadMore?: (status: StatusProjeto) => void;
 }
 
 export const KanbanColumn: React.FC<KanbanColumnProps> = ({ 
   column, 
   onStatusChange,
-  onEdit
+  onEdit,
+  onLoadMore
 }) => {
+  const total = column.total ?? column.projetos.length;
+
   const getStatusOptions = (currentStatus: StatusProjeto): StatusProjeto[] => {
     const allStatus: StatusProjeto[] = ['A_INICIAR', 'EM_ANDAMENTO', 'ATRASADO', 'CONCLUIDO'];
     return allStatus.filter(status => status !== currentStatus);
@@ -32,7 +38,7 @@ export const KanbanColumn: React.FC<KanbanColumnProps> = ({
         <div>
           <h3 className="font-semibold text-lg text-gray-800">{column.title}</h3>
           <span className="text-sm text-gray-600">
-            {column.projetos.length} projeto{column.projetos.length !== 1 ? 's' : ''}
+            {total} projeto{total !== 1 ? 's' : ''}
           </span>
         </div>
         <div className={`w-3 h-3 rounded-full ${
@@ -60,6 +66,14 @@ export const KanbanColumn: React.FC<KanbanColumnProps> = ({
             />
           ))
         )}
+        {column.proximoCursor && onLoadMore && (
+          <button
+            onClick={() => onLoadMore(column.id)}
+            className="w-full py-2 text-sm text-gray-700 bg-white rounded border hover:bg-gray-100 transition-colors"
+          >
+            Carregar mais
+          </button>
+        )}
       </div>
     </div>
   );
@@ -29,6 +29,9 @@ export const ProjectForm: React.FC<ProjectFormProps> = ({
   });
 
   const [responsaveis, setResponsaveis] = useState<ResponsavelResponse[]>([]);
+  const [buscaResponsavel, setBuscaResponsavel] = useState('');
+  // IDs sugeridos pelo autocomplete; null enquanto não há busca
+  const [idsSugeridos, setIdsSugeridos] = useState<number[] | null>(null);
   const [loading, setLoading] = useState(false);
   const [errors, setErrors] = useState<Record<string, string>>({});
 
@@ -59,6 +62,28 @@ export const ProjectForm: React.FC<ProjectFormProps> = ({
     carregarDados();
   }, [projeto]);
 
+  useEffect(() => {
+    const termo = buscaResponsavel.trim();
+    if (!termo) {
+      setIdsSugeridos(null);
+      return;
+    }
+    const timer = setTimeout(async () => {
+      try {
+        const sugestoes = await responsavelService.sugerir(termo, 50);
+        setIdsSugeridos(sugestoes.map(s => s.id));
+      } catch (error) {
+        console.error('Erro ao buscar responsáveis:', error);
+      }
+    }, 200);
+    return () => clearTimeout(timer);
+  }, [buscaResponsavel]);
+
+  // Os já selecionados continuam visíveis para poderem ser desmarcados
+  const responsaveisVisiveis = idsSugeridos === null
+    ? responsaveis
+    : responsaveis.filter(r => idsSugeridos.includes(r.id) || formData.responsavelIds?.includes(r.id));
+
   const handleChange = (e: React.ChangeEvent<HTMLInputElement | HTMLSelectElement>) => {
     const { name, value } = e.target;
     setFormData(prev => ({
@@ -169,11 +194,18 @@ export const ProjectForm: React.FC<ProjectFormProps> = ({
           <label className="block text-sm font-medium text-gray-700 mb-2">
             Responsáveis
           </label>
+          <input
+            type="text"
+            value={buscaResponsavel}
+            onChange={(e) => setBuscaResponsavel(e.target.value)}
+            placeholder="Buscar por nome ou email..."
+            className="w-full px-3 py-2 mb-2 border border-gray-300 rounded-lg focus:outline-none focus:ring-2 focus:ring-blue-500"
+          />
           <div className="max-h-40 overflow-y-auto border border-gray-300 rounded-lg p-3">
             {responsaveis.length === 0 ? (
               <p className="text-gray-500 text-sm">Nenhum responsável cadastrado</p>
             ) : (
-              responsaveis.map(responsavel => (
+              responsaveisVisiveis.map(responsavel => (
                 <label key={responsavel.id} className="flex items-center space-x-3 py-1">
                   <input
                     type="checkbox"
@@ -21,11 +21,15 @@ export const ProjectList: React.FC = () => {
     status: '' as StatusProjeto | '',
     search: '',
   });
+  // Termo efetivamente enviado ao backend, atualizado após uma pausa na digitação
+  const [busca, setBusca] = useState('');
 
   const carregarProjetos = async (pageNum: number = page) => {
     try {
       setLoading(true);
-      const response = await projetoService.listarPaginado(pageNum, pageSize) as any;
+      const response = busca
+        ? await projetoService.buscar(busca, pageNum, pageSize)
+        : await projetoService.listarPaginado(pageNum, pageSize) as any;
       
       // Ajuste conforme a estrutura real da resposta do backend
       const projetosData = response.content || response.projetos || response || [];
@@ -44,26 +48,19 @@ export const ProjectList: React.FC = () => {
 
   useEffect(() => {
     carregarProjetos();
-  }, [page, pageSize]);
+  }, [page, pageSize, busca]);
 
-  // Aplicar filtros no frontend
   useEffect(() => {
-    let resultado = projetos;
+    const timer = setTimeout(() => setBusca(filters.search.trim()), 300);
+    return () => clearTimeout(timer);
+  }, [filters.search]);
 
-    if (filters.status) {
-      resultado = resultado.filter(p => p.status === filters.status);
-    }
-
-    if (filters.search) {
-      const searchLower = filters.search.toLowerCase();
-      resultado = resultado.filter(p => 
-        p.nome.toLowerCase().includes(searchLower) ||
-        p.responsaveis?.some(r => r.nome.toLowerCase().includes(searchLower))
-      );
-    }
-
-    setFilteredProjetos(resultado);
-  }, [filters, projetos]);
+  // A busca por nome do projeto ou do responsável é feita no backend; o status continua filtrado na página carregada
+  useEffect(() => {
+    setFilteredProjetos(filters.status
+      ? projetos.filter(p => p.status === filters.status)
+      : projetos);
+  }, [filters.status, projetos]);
 
   const handleFilterChange = (newFilters: typeof filters) => {
     setFilters(newFilters);
@@ -94,7 +91,7 @@ export const ProjectList: React.FC = () => {
     carregarProjetos();
   };
 
-  if (loading) {
+  if (loading && projetos.length === 0) {
     return (
       <div className="flex justify-center items-center h-64">
         <div className="text-lg">Carregando projetos...</div>
@@ -1,7 +1,9 @@
-import { api } from './api';
+import { api, API_BASE_URL } from './api';
 import type {ProjetoRequest } from '../types/projeto/projetoRequest';
 import type {ProjetoResponse} from '../types/projeto/projetoResponse';
 import type { StatusProjeto } from 'src/types/projeto/statusprojeto';
+import type { KanbanBoardResponse, KanbanColunaResponse } from '../types/kanban/kanbanBoard';
+import type { EventoQuadro } from '../types/kanban/eventoQuadro';
 
 export const projetoService = {
   // CRUD Básico
@@ -32,7 +34,38 @@ export const projetoService = {
 }> => 
   api.get(`/projetos/paginado?page=${page}&size=${size}`).then(response => response.data),
 
+  // Busca por nome do projeto ou de um responsável no backend, ordenada por similaridade e sem diferenciar acentos
+  buscar: (q: string, page: number = 0, size: number = 10): Promise<{
+  content: ProjetoResponse[];
+  totalElements: number;
+  totalPages: number;
+  number: number;
+  size: number;
+}> =>
+  api.get('/projetos/search', { params: { q, page, size } }).then(response => response.data),
+
   transicionarStatus: (id: number, novoStatus: StatusProjeto): Promise<ProjetoResponse> => 
     api.patch(`/projetos/${id}/status/${novoStatus}`).then(response => response.data),
+
+  carregarBoard: (limite: number = 20): Promise<KanbanBoardResponse> =>
+    api.get('/projetos/board', { params: { limite } }).then(response => response.data),
+
+  carregarColuna: (status: StatusProjeto, cursor: string, limite: number = 20): Promise<KanbanColunaResponse> =>
+    api.get(`/projetos/board/${status}`, { params: { cursor, limite } }).then(response => response.data),
+
+  // Alterações do quadro via SSE; o EventSource reconecta sozinho e onReconectado avisa que eventos podem ter sido perdidos
+  acompanharQuadro: (onEvento: (evento: EventoQuadro) => void, onReconectado: () => void): (() => void) => {
+    const fonte = new EventSource(`${API_BASE_URL}/projetos/stream`);
+    let desconectado = false;
+    fonte.onmessage = mensagem => onEvento(JSON.parse(mensagem.data));
+    fonte.onerror = () => { desconectado = true; };
+    fonte.onopen = () => {
+      if (desconectado) {
+        desconectado = false;
+        onReconectado();
+      }
+    };
+    return () => fonte.close();
+  },
 };
 
@@ -33,4 +33,8 @@ export const responsavelService = {
       return response.data;
     }),
 
+  // Sugestões pelo início do nome ou email, respondidas pelo índice em memória do backend
+  sugerir: (q: string, limite: number = 10): Promise<{ id: number; nome: string; email: string }[]> =>
+    api.get('/autocomplete', { params: { q, type: 'responsavel', limite } }).then(response => response.data),
+
 };
\ No newline at end of file
@@ -8,4 +8,6 @@ export type {ResponsavelRequest}  from './responsavel/responsavelRequest';
 
 
 export type {KanbanColumn} from './kanban/kanbanColumn';
+export type {KanbanBoardResponse, KanbanColunaResponse} from './kanban/kanbanBoard';
+export type {EventoQuadro, TipoEventoQuadro} from './kanban/eventoQuadro';
 
@@ -0,0 +1,23 @@
+import type { ProjetoResponse } from "../projeto/projetoResponse";
+import type { StatusProjeto } from "../projeto/statusprojeto";
+import type { ResponsavelResponse } from "../responsavel/responsavelResponse";
+
+
+export type TipoEventoQuadro =
+  | 'PROJETO_CRIADO'
+  | 'PROJETO_ATUALIZADO'
+  | 'PROJETO_TRANSICIONADO'
+  | 'PROJETO_EXCLUIDO'
+  | 'RESPONSAVEL_CRIADO'
+  | 'RESPONSAVEL_ATUALIZADO'
+  | 'RESPONSAVEL_EXCLUIDO'
+  | 'RESINCRONIZAR';
+
+// Delta enviado por GET /projetos/stream; só os campos do tipo do evento vêm preenchidos
+export interface EventoQuadro {
+  tipo: TipoEventoQuadro;
+  id?: number;
+  statusAnterior?: StatusProjeto;
+  projeto?: ProjetoResponse;
+  responsavel?: ResponsavelResponse;
+}
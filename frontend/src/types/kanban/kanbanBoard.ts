@@ -0,0 +1,14 @@
+import type { ProjetoResponse } from "../projeto/projetoResponse";
+import type { StatusProjeto } from "../projeto/statusprojeto";
+
+
+export interface KanbanColunaResponse {
+  status: StatusProjeto;
+  total: number;
+  projetos: ProjetoResponse[];
+  proximoCursor?: string | null;
+}
+
+export interface KanbanBoardResponse {
+  colunas: KanbanColunaResponse[];
+}